@@ -0,0 +1,128 @@
+package org.com.aqoo.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.com.aqoo.domain.auth.dto.UserProfileView;
+import org.com.aqoo.domain.auth.service.UserProfileDirectory;
+import org.com.aqoo.domain.chat.model.ChatRoom;
+import org.com.aqoo.domain.chat.service.ChatRoomService;
+import org.com.aqoo.domain.chat.service.RoomDirectory;
+import org.com.aqoo.repository.UserRepository;
+import org.com.aqoo.util.ImageUrlUtils;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 벤치마크 공통 스텁
+ * - 메시지는 실제와 같은 Jackson 변환까지 거친 뒤 버려지므로 직렬화 비용은 포함되고 브로커 비용은 제외됩니다.
+ * - 사용자 프로필은 DB 대신 고정 값을 돌려줍니다.
+ */
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    /** 전송된 메시지 수만 세고 버리는 채널 */
+    public static final class DiscardingChannel implements MessageChannel {
+        private final AtomicLong sent = new AtomicLong();
+
+        @Override
+        public boolean send(Message<?> message, long timeout) {
+            sent.incrementAndGet();
+            return true;
+        }
+
+        public long sent() {
+            return sent.get();
+        }
+    }
+
+    public static SimpMessagingTemplate messagingTemplate(MessageChannel channel) {
+        SimpMessagingTemplate template = new SimpMessagingTemplate(channel);
+        template.setMessageConverter(new MappingJackson2MessageConverter());
+        return template;
+    }
+
+    /**
+     * DB 대신 고정된 프로필을 돌려주는 UserRepository 위에서 동작하는 실제 프로필 캐시
+     * (첫 조회만 miss 이고 이후는 캐시 hit 경로가 측정됩니다)
+     */
+    public static UserProfileDirectory profileDirectory() {
+        UserRepository repository = (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(), new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findProfilesByIdIn")) {
+                        List<UserProfileView> views = new ArrayList<>();
+                        for (Object id : (Collection<?>) args[0]) {
+                            views.add(new StubProfileView(id.toString()));
+                        }
+                        return views;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        ImageUrlUtils imageUtils = new ImageUrlUtils();
+        setField(imageUtils, "serverUrl", "https://i12e203.p.ssafy.io/images");
+        return new UserProfileDirectory(repository, imageUtils, new SimpleMeterRegistry(), 10_000, 300);
+    }
+
+    private record StubProfileView(String getId) implements UserProfileView {
+        @Override
+        public String getNickname() {
+            return "nick-" + getId;
+        }
+
+        @Override
+        public String getMainFishImage() {
+            return "/" + getId + ".png";
+        }
+
+        @Override
+        public Integer getLevel() {
+            return 3;
+        }
+    }
+
+    public static ChatRoomService chatRoomService(SimpMessagingTemplate template, UserProfileDirectory profileDirectory) {
+        return new ChatRoomService(template, profileDirectory, null, event -> { }, roomDirectory(profileDirectory));
+    }
+
+    public static RoomDirectory roomDirectory(UserProfileDirectory profileDirectory) {
+        return new RoomDirectory(profileDirectory, 6);
+    }
+
+    /** ownerId 를 포함해 members 명이 들어 있는 방 생성 */
+    public static ChatRoom roomWithMembers(ChatRoomService chatRoomService, int members) {
+        ChatRoom room = chatRoomService.createRoom("user0");
+        for (int i = 1; i < members; i++) {
+            room.addMember("user" + i);
+        }
+        return room;
+    }
+
+    /** @Value 로 주입되는 설정값이나 내부 필드를 스프링 없이 채움 */
+    public static void setField(Object target, String name, Object value) {
+        ReflectionUtils.setField(field(target, name), target, value);
+    }
+
+    public static Object getField(Object target, String name) {
+        return ReflectionUtils.getField(field(target, name), target);
+    }
+
+    private static Field field(Object target, String name) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        if (field == null) {
+            throw new IllegalArgumentException("No field " + name + " on " + target.getClass());
+        }
+        ReflectionUtils.makeAccessible(field);
+        return field;
+    }
+}
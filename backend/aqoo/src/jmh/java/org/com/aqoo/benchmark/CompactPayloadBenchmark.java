@@ -0,0 +1,99 @@
+package org.com.aqoo.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.com.aqoo.domain.chat.dto.ChatMessageDto;
+import org.com.aqoo.domain.chat.dto.RoomUpdate;
+import org.com.aqoo.domain.game.dto.RoomResponse;
+import org.com.aqoo.domain.game.dto.ScoreDeltaFrame;
+import org.com.aqoo.domain.game.entity.Player;
+import org.com.aqoo.websocket.CompactPayloadCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 6인 방 기준으로 실시간 프레임의 JSON(Jackson) 과 compact(Smile) 인코딩 비용과 크기 비교
+ * - compact 는 서버와 같은 경로(Jackson 으로 JSON 을 만든 뒤 CompactPayloadCodec 으로 변환)로 측정합니다.
+ * - 프레임 크기는 Setup 에서 한 번 출력합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompactPayloadBenchmark {
+
+    private static final int PLAYERS = 6;
+    private static final String IMAGE_BASE = "https://i12e203.p.ssafy.io/images";
+
+    @Param({"GAME_SYNC", "SCORE_DELTA", "USER_LIST", "CHAT"})
+    public String frame;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CompactPayloadCodec codec = new CompactPayloadCodec(IMAGE_BASE);
+    private Object payload;
+    private byte[] json;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        payload = switch (frame) {
+            case "GAME_SYNC" -> gameSync();
+            case "SCORE_DELTA" -> new ScoreDeltaFrame("SCORE_DELTA", 42L, new int[]{0, 3, 5}, new int[]{41, 44, 46});
+            case "USER_LIST" -> userList();
+            case "CHAT" -> new ChatMessageDto("0f8fad5b-d9cb-469f-a165-70867728950e", "user3",
+                    "다음 판은 내가 이긴다!", ChatMessageDto.MessageType.CHAT, null, 17L);
+            default -> throw new IllegalArgumentException(frame);
+        };
+        json = objectMapper.writeValueAsBytes(payload);
+        System.out.printf("%n%s: json %d bytes, compact %d bytes%n", frame, json.length, codec.encode(json).length);
+    }
+
+    @Benchmark
+    public byte[] json() throws IOException {
+        return objectMapper.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public byte[] compact() throws IOException {
+        return codec.encode(objectMapper.writeValueAsBytes(payload));
+    }
+
+    /** 브로드캐스트 하나당 추가되는 변환 비용만 (JSON 은 JSON 세션용으로 어차피 만듦) */
+    @Benchmark
+    public byte[] transcodeOnly() throws IOException {
+        return codec.encode(json);
+    }
+
+    private static RoomResponse gameSync() {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < PLAYERS; i++) {
+            players.add(new Player("user" + i, 40 + i, IMAGE_BASE + "/fish/user" + i + ".png", "nick-user" + i));
+        }
+        return new RoomResponse("0f8fad5b-d9cb-469f-a165-70867728950e", players, "GAME_SYNC", null, null, 42L,
+                1_700_000_030_000L, 1_700_000_010_000L);
+    }
+
+    private static RoomUpdate userList() {
+        List<RoomUpdate.UserInfo> users = new ArrayList<>();
+        for (int i = 0; i < PLAYERS; i++) {
+            users.add(new RoomUpdate.UserInfo("user" + i, "nick-user" + i, i % 2 == 0, i == 0,
+                    IMAGE_BASE + "/fish/user" + i + ".png", 3 + i));
+        }
+        return new RoomUpdate("0f8fad5b-d9cb-469f-a165-70867728950e", "USER_LIST", users);
+    }
+}
@@ -0,0 +1,73 @@
+package org.com.aqoo.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.com.aqoo.domain.game.dto.RoomResponse;
+import org.com.aqoo.domain.game.dto.ScoreDeltaFrame;
+import org.com.aqoo.domain.game.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 6인 방 기준으로 전체 프레임(RoomResponse)과 점수 delta 프레임(ScoreDeltaFrame)의 직렬화 비용 비교
+ * - 점수 한 명분 delta 와 tick 동안 전원이 바뀐 delta 를 모두 측정합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FrameSerializationBenchmark {
+
+    private static final int PLAYERS = 6;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private RoomResponse fullFrame;
+    private ScoreDeltaFrame singleDelta;
+    private ScoreDeltaFrame fullDelta;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Player> players = new ArrayList<>();
+        int[] slots = new int[PLAYERS];
+        int[] scores = new int[PLAYERS];
+        for (int i = 0; i < PLAYERS; i++) {
+            players.add(new Player("user" + i, 40 + i, "https://i12e203.p.ssafy.io/images/user" + i + ".png", "nick-user" + i));
+            slots[i] = i;
+            scores[i] = 40 + i;
+        }
+        fullFrame = new RoomResponse("room-id", players, "GAME_SYNC", null, null, 42L,
+                1_700_000_030_000L, 1_700_000_010_000L);
+        singleDelta = new ScoreDeltaFrame("SCORE_DELTA", 42L, new int[]{3}, new int[]{43});
+        fullDelta = new ScoreDeltaFrame("SCORE_DELTA", 42L, slots, scores);
+    }
+
+    @Benchmark
+    public byte[] roomResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(fullFrame);
+    }
+
+    @Benchmark
+    public byte[] singleSlotDelta() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(singleDelta);
+    }
+
+    @Benchmark
+    public byte[] allSlotsDelta() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(fullDelta);
+    }
+}
@@ -0,0 +1,147 @@
+package org.com.aqoo.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.com.aqoo.domain.chat.model.ChatRoom;
+import org.com.aqoo.domain.chat.service.ChatRoomService;
+import org.com.aqoo.domain.game.dto.PressMessage;
+import org.com.aqoo.domain.game.engine.GameEngineRegistry;
+import org.com.aqoo.domain.game.engine.TapRaceGameEngine;
+import org.com.aqoo.domain.game.service.GameService;
+import org.com.aqoo.util.HashedWheelTimer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GameService.processPress 비용 측정
+ * - 방 루프를 호출 스레드에서 바로 실행하도록 바꿔서, 탭 처리(속도 제한, 점수 반영, delta 전송)의
+ *   CPU 와 할당이 모두 벤치마크 스레드에 잡히도록 합니다.
+ * - tick flush(SCORE_DELTA 전송)는 tick 스케줄러 스레드에서 실행되므로 이 수치에는 포함되지 않습니다.
+ * - 한 번의 호출은 게임 시작 후 모든 참가자가 99번씩 누르는 한 판이며, op 하나는 탭 한 번입니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GamePressBenchmark {
+
+    private static final int PRESSES_PER_PLAYER = 99;
+    private static final int PLAYERS = 6;
+
+    @Param({"1", "3"})
+    public int pressCount;
+
+    private GameService gameService;
+    private HashedWheelTimer timer;
+    private String roomId;
+    private PressMessage[] presses;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkFixtures.DiscardingChannel channel = new BenchmarkFixtures.DiscardingChannel();
+        var template = BenchmarkFixtures.messagingTemplate(channel);
+        var profileDirectory = BenchmarkFixtures.profileDirectory();
+        ChatRoomService chatRoomService = BenchmarkFixtures.chatRoomService(template, profileDirectory);
+        ChatRoom room = BenchmarkFixtures.roomWithMembers(chatRoomService, PLAYERS);
+        roomId = room.getId();
+
+        timer = new HashedWheelTimer(100, 512);
+        gameService = new GameService(template, chatRoomService, profileDirectory, timer,
+                new GameEngineRegistry(List.of(new TapRaceGameEngine())), new SimpleMeterRegistry());
+        BenchmarkFixtures.setField(gameService, "tickHz", 25);
+        BenchmarkFixtures.setField(gameService, "durationSeconds", 3600);
+        // 속도 제한은 통과시키고 점수 처리 비용만 측정
+        BenchmarkFixtures.setField(gameService, "pressMaxRate", 1_000_000_000d);
+        BenchmarkFixtures.setField(gameService, "pressBurst", Integer.MAX_VALUE);
+        // 원래 풀은 닫고 호출 스레드에서 바로 실행하는 실행기로 교체
+        ((ExecutorService) BenchmarkFixtures.getField(gameService, "gameLoopExecutor")).shutdown();
+        BenchmarkFixtures.setField(gameService, "gameLoopExecutor", new DirectExecutorService(Runnable::run));
+        gameService.registerMetrics();
+
+        // 한 판 동안 보낼 탭을 참가자 순서대로 번갈아 가며 미리 만들어 둠 (100 에 도달하지 않도록)
+        int perPlayer = PRESSES_PER_PLAYER / pressCount;
+        presses = new PressMessage[perPlayer * PLAYERS];
+        for (int i = 0; i < presses.length; i++) {
+            PressMessage message = new PressMessage();
+            message.setRoomId(roomId);
+            message.setUserName("user" + (i % PLAYERS));
+            message.setPressCount(pressCount);
+            presses[i] = message;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        gameService.shutdown();
+        timer.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PRESSES_PER_PLAYER * PLAYERS)
+    public void pressUntilAlmostFinished() {
+        gameService.startGame(roomId);
+        for (PressMessage press : presses) {
+            gameService.processPress(press);
+        }
+    }
+
+    /** 제출된 작업을 호출 스레드에서 바로 실행하는 ExecutorService */
+    private static final class DirectExecutorService extends AbstractExecutorService {
+        private final Executor delegate;
+        private volatile boolean shutdown;
+
+        private DirectExecutorService(Executor delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            delegate.execute(command);
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.com.aqoo.benchmark;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.com.aqoo.util.JwtKeyRing;
+import org.com.aqoo.util.JwtUtil;
+import org.com.aqoo.util.JwtVerifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 필터에서 요청마다 하는 액세스 토큰 검증 비용
+ * - validateThenExtract : 예전 필터처럼 validateToken + extractUsername (두 번 파싱, 두 번 HMAC)
+ * - parseOnce           : JwtUtil.parseClaims 한 번
+ * - cachedVerify        : JwtVerifier (같은 토큰이 반복되므로 캐시 적중 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class JwtVerifyBenchmark {
+
+    private JwtUtil jwtUtil;
+    private JwtVerifier jwtVerifier;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 교체 중인 상태처럼 키 두 개 (k2 로 서명, k1 은 검증만)
+        String k1 = Encoders.BASE64.encode(Keys.secretKeyFor(SignatureAlgorithm.HS256).getEncoded());
+        String k2 = Encoders.BASE64.encode(Keys.secretKeyFor(SignatureAlgorithm.HS256).getEncoded());
+        jwtUtil = new JwtUtil(new JwtKeyRing("k1:" + k1 + ",k2:" + k2, "k2", "", ""));
+        jwtVerifier = new JwtVerifier(jwtUtil, new SimpleMeterRegistry(), 10_000);
+        token = jwtUtil.generateToken("user1", "ACCESS");
+    }
+
+    @Benchmark
+    public String validateThenExtract() throws Exception {
+        return jwtUtil.validateToken(token) ? jwtUtil.extractUsername(token) : null;
+    }
+
+    @Benchmark
+    public String parseOnce() {
+        return jwtUtil.parseClaims(token).getSubject();
+    }
+
+    @Benchmark
+    public String cachedVerify() {
+        return jwtVerifier.verify(token).subject();
+    }
+}
@@ -0,0 +1,110 @@
+package org.com.aqoo.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.com.aqoo.domain.auth.service.PasswordHasher;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 폭주 중 다른 API 의 응답 시간
+ * - requestPool 은 Tomcat 요청 스레드 풀 역할입니다. 클라이언트 16 명이 계속 로그인하고, 1 명이 가벼운 조회 API 를 호출합니다.
+ * - request-thread : 예전처럼 요청 스레드에서 BCrypt 를 바로 실행 (요청 스레드가 모두 해시 중이면 조회도 줄을 섬)
+ * - isolated       : PasswordHasher 로 해시 (해시 대기 중인 요청 스레드는 threads + queue 개까지, 나머지는 바로 503)
+ * - read 의 sample 백분위가 조회 API 응답 시간이고, 성공한 로그인 수는 loginOk 보조 카운터(iteration 당 합계)입니다.
+ *   503 을 받은 클라이언트는 Retry-After 처럼 잠시 쉬었다가 다시 시도합니다.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+    private static final int REQUEST_THREADS = 8;
+    private static final String PASSWORD = "aqoo-password-1234";
+    private static final long RETRY_BACKOFF_MS = 50;
+
+    @Param({"request-thread", "isolated"})
+    public String hashing;
+
+    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
+    private ExecutorService requestPool;
+    private String encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        passwordEncoder = new BCryptPasswordEncoder();
+        encoded = passwordEncoder.encode(PASSWORD);
+        // 기본값과 같은 구성 (스레드 0 = 코어 수 / 2, 대기열은 요청 스레드 수보다 작게)
+        passwordHasher = new PasswordHasher(passwordEncoder, new SimpleMeterRegistry(), 0, REQUEST_THREADS / 2, 5000);
+        requestPool = Executors.newFixedThreadPool(REQUEST_THREADS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        requestPool.shutdownNow();
+        passwordHasher.shutdown();
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class LoginCounters {
+        public long loginOk;
+        public long loginRejected;
+    }
+
+    @Benchmark
+    @Group("loginSpike")
+    @GroupThreads(16)
+    public void login(LoginCounters counters) throws InterruptedException {
+        try {
+            boolean ok = requestPool.submit(() -> "isolated".equals(hashing)
+                    ? passwordHasher.matches(PASSWORD, encoded)
+                    : passwordEncoder.matches(PASSWORD, encoded)).get();
+            if (ok) {
+                counters.loginOk++;
+            }
+        } catch (ExecutionException e) {
+            if (!(e.getCause() instanceof PasswordHasher.PasswordHashingBusyException)) {
+                throw new IllegalStateException(e.getCause());
+            }
+            counters.loginRejected++;
+            Thread.sleep(RETRY_BACKOFF_MS);
+        }
+    }
+
+    @Benchmark
+    @Group("loginSpike")
+    @GroupThreads(1)
+    public long read() throws Exception {
+        // 캐시된 데이터를 읽어 응답을 만드는 정도의 가벼운 API
+        return requestPool.submit(() -> {
+            Blackhole.consumeCPU(2_000);
+            return System.nanoTime();
+        }).get();
+    }
+}
@@ -0,0 +1,70 @@
+package org.com.aqoo.benchmark;
+
+import org.com.aqoo.domain.chat.dto.RoomDirectoryPage;
+import org.com.aqoo.domain.chat.model.ChatRoom;
+import org.com.aqoo.domain.chat.service.RoomDirectory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로비 방 목록 한 페이지 조회 비용 측정
+ * - 방 수(rooms)가 늘어나도 페이지 조회 시간이 거의 같아야 합니다.
+ * - 방은 인원 1~6명, 세 방 중 하나는 게임 종류를 골라 둔 상태로 채웁니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoomDirectoryBenchmark {
+
+    @Param({"50", "50000"})
+    public int rooms;
+
+    private RoomDirectory roomDirectory;
+    private String secondPageCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        roomDirectory = BenchmarkFixtures.roomDirectory(BenchmarkFixtures.profileDirectory());
+        for (int i = 0; i < rooms; i++) {
+            ChatRoom room = new ChatRoom("room-" + i, "user" + (i % 100), 0);
+            for (int m = 1; m < 1 + i % 6; m++) {
+                room.addMember("member" + m);
+            }
+            if (i % 3 == 0) {
+                room.setGameType("tap_race");
+            }
+            roomDirectory.upsert(room, () -> true);
+        }
+        secondPageCursor = roomDirectory.page(null, 20, null, null, null, null).getNextCursor();
+    }
+
+    @Benchmark
+    public RoomDirectoryPage firstPage() {
+        return roomDirectory.page(null, 20, null, null, null, null);
+    }
+
+    @Benchmark
+    public RoomDirectoryPage nextPage() {
+        return roomDirectory.page(secondPageCursor, 20, null, null, null, null);
+    }
+
+    @Benchmark
+    public RoomDirectoryPage openSeatsAndLevel() {
+        return roomDirectory.page(null, 20, null, 2, 1, 10);
+    }
+}
@@ -0,0 +1,57 @@
+package org.com.aqoo.benchmark;
+
+import org.com.aqoo.domain.chat.dto.RoomUpdate;
+import org.com.aqoo.domain.chat.model.ChatRoom;
+import org.com.aqoo.domain.chat.service.ChatRoomService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방 입장/퇴장/준비 때마다 호출되는 USER_LIST 생성과 브로드캐스트 비용 측정
+ * - 프로필은 캐시(UserProfileDirectory)에서 가져오므로 DB 왕복을 뺀 순수 조립 + 직렬화 비용입니다.
+ * - 스프링 없이 만든 서비스는 디바운스 창이 0 이므로 broadcastUserList 는 매번 바로 전송합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserListBenchmark {
+
+    @Param({"2", "6"})
+    public int members;
+
+    private ChatRoomService chatRoomService;
+    private String roomId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var template = BenchmarkFixtures.messagingTemplate(new BenchmarkFixtures.DiscardingChannel());
+        chatRoomService = BenchmarkFixtures.chatRoomService(template, BenchmarkFixtures.profileDirectory());
+        ChatRoom room = BenchmarkFixtures.roomWithMembers(chatRoomService, members);
+        roomId = room.getId();
+    }
+
+    @Benchmark
+    public RoomUpdate createUserListUpdate() {
+        return chatRoomService.createUserListUpdate(roomId);
+    }
+
+    @Benchmark
+    public void broadcastUserList() {
+        chatRoomService.broadcastUserList(roomId);
+    }
+}
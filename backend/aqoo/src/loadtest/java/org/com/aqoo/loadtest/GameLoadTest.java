@@ -0,0 +1,256 @@
+package org.com.aqoo.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.com.aqoo.AqooApplication;
+import org.com.aqoo.domain.auth.entity.User;
+import org.com.aqoo.domain.chat.service.ChatRoomService;
+import org.com.aqoo.repository.UserRepository;
+import org.com.aqoo.websocket.CompactPayloadNegotiation;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.converter.CompositeMessageConverter;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 방 x 참가자 x 탭 속도 부하 테스트
+ * - 내장 H2 로 앱을 임의 포트에 띄우고, 같은 프로세스 안에서 SockJS/STOMP 클라이언트를 rooms * players 개 엽니다.
+ * - 클라이언트는 /app/chat.joinRoom 으로 입장하고, 방장은 /app/game.start 로 게임을 시작합니다.
+ * - 게임이 끝나면 부하 시간이 남아 있는 동안 방장이 다시 시작합니다.
+ * - --payload=compact 이면 순수 WebSocket 으로 접속해서 /topic 메시지를 Smile 바이너리 프레임으로 받습니다.
+ * - 끝나면 브로드캐스트 지연 백분위수와 누락 프레임 수, WebSocket 서버 지표를 출력합니다.
+ */
+@Slf4j
+public class GameLoadTest {
+
+    // 방장이 GAME_ENDED 를 받은 뒤 다음 게임을 시작하기까지의 대기 시간
+    private static final long RESTART_DELAY_MS = 500;
+    // 부하 종료 후 마지막 GAME_ENDED 를 기다리는 시간
+    private static final long DRAIN_MS = 3000;
+
+    private final LoadTestOptions options;
+    private final ConfigurableApplicationContext context;
+    private final LoadTestMetrics metrics;
+    private final List<LoadTestClient> clients = new ArrayList<>();
+    private final Set<LoadTestClient> hosts = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService pressScheduler;
+    private volatile long deadlineNanos;
+
+    public GameLoadTest(LoadTestOptions options, ConfigurableApplicationContext context) {
+        this.options = options;
+        this.context = context;
+        this.metrics = new LoadTestMetrics(options.getDurationSeconds());
+        this.pressScheduler = Executors.newScheduledThreadPool(
+                Math.max(2, Runtime.getRuntime().availableProcessors() / 2));
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(AqooApplication.class)
+                .profiles("loadtest")
+                .initializers(applicationContext -> applicationContext.addBeanFactoryPostProcessor(new LoadTestBeanOverrides()))
+                .run(args);
+        int exitCode = 0;
+        try {
+            new GameLoadTest(options, context).run();
+        } catch (Exception e) {
+            log.error("Load test failed", e);
+            exitCode = 1;
+        } finally {
+            context.close();
+        }
+        System.exit(exitCode);
+    }
+
+    public void run() throws InterruptedException {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        // compact 는 바이너리 프레임이 필요하므로 SockJS 가 아닌 순수 WebSocket 엔드포인트로 접속
+        String url = options.isCompactPayload() ? "ws://localhost:" + port + "/ws-native" : "http://localhost:" + port + "/ws";
+        log.info("Load test started against {} ({})", url, options);
+
+        List<String> roomIds = prepareRooms();
+        WebSocketStompClient stompClient = stompClient();
+        connectAll(stompClient, url, roomIds);
+
+        long startedAt = System.nanoTime();
+        deadlineNanos = startedAt + TimeUnit.SECONDS.toNanos(options.getDurationSeconds());
+        startPressing();
+        for (LoadTestClient host : hosts) {
+            startGame(host);
+        }
+
+        TimeUnit.NANOSECONDS.sleep(Math.max(0, deadlineNanos - System.nanoTime()));
+        pressScheduler.shutdownNow();
+        // 제한 시간 안에 끝나지 않은 게임은 종료 요청 후 마지막 프레임을 기다림
+        for (LoadTestClient host : hosts) {
+            if (host.isRunning()) {
+                host.endGame();
+            }
+        }
+        TimeUnit.MILLISECONDS.sleep(DRAIN_MS);
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000d;
+        String managementPort = context.getEnvironment().getProperty("local.management.port");
+        String serverMetrics = scrapeServerMetrics("http://localhost:" + managementPort + "/actuator/prometheus");
+
+        clients.forEach(LoadTestClient::disconnect);
+        stompClient.stop();
+        System.out.println(metrics.report(options, elapsedSeconds));
+        System.out.println(serverMetrics);
+    }
+
+    /** 관리 포트 /actuator/prometheus 에서 WebSocket 세션/구독/메시지/핸들러 지표만 추림 */
+    private static String scrapeServerMetrics(String url) {
+        StringBuilder report = new StringBuilder("=== server websocket metrics (").append(url).append(") ===\n");
+        try {
+            HttpResponse<String> response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create(url)).GET().build(), HttpResponse.BodyHandlers.ofString());
+            response.body().lines()
+                    .filter(line -> line.startsWith("websocket_sessions")
+                            || line.startsWith("websocket_compact")
+                            || line.startsWith("websocket_subscriptions")
+                            || line.startsWith("websocket_messages_total")
+                            || line.startsWith("websocket_handler_seconds_count")
+                            || (line.startsWith("websocket_handler_seconds{") && line.contains("quantile=\"0.99\"")))
+                    .forEach(line -> report.append(line).append('\n'));
+        } catch (IOException e) {
+            report.append("scrape failed: ").append(e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return report.toString();
+    }
+
+    /** 테스트 사용자를 DB 에 넣고, 방마다 첫 번째 사용자를 방장으로 방을 만듦 */
+    private List<String> prepareRooms() {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        ChatRoomService chatRoomService = context.getBean(ChatRoomService.class);
+
+        List<User> users = new ArrayList<>();
+        List<String> roomIds = new ArrayList<>();
+        for (int r = 0; r < options.getRooms(); r++) {
+            for (int p = 0; p < options.getPlayers(); p++) {
+                String userId = userId(r, p);
+                users.add(User.builder()
+                        .id(userId)
+                        .pw("loadtest")
+                        .email(userId + "@loadtest.local")
+                        .nickname(userId)
+                        .build());
+            }
+            roomIds.add(chatRoomService.createRoom(userId(r, 0)).getId());
+        }
+        userRepository.saveAll(users);
+        return roomIds;
+    }
+
+    private WebSocketStompClient stompClient() {
+        if (!options.isCompactPayload()) {
+            SockJsClient sockJsClient = new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient())));
+            WebSocketStompClient stompClient = new WebSocketStompClient(sockJsClient);
+            stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+            return stompClient;
+        }
+        // 보내는 메시지는 JSON, 받는 /topic 메시지는 application/octet-stream(Smile)
+        MappingJackson2MessageConverter smileConverter = new MappingJackson2MessageConverter(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        smileConverter.setObjectMapper(new ObjectMapper(new SmileFactory()));
+        smileConverter.setStrictContentTypeMatch(true);
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new CompositeMessageConverter(List.of(new MappingJackson2MessageConverter(), smileConverter)));
+        stompClient.setInboundMessageSizeLimit(1024 * 1024);
+        return stompClient;
+    }
+
+    /** 동시에 connect-concurrency 개까지만 연결을 맺으면서 모든 클라이언트 접속 */
+    private void connectAll(WebSocketStompClient stompClient, String url, List<String> roomIds) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(options.getConnectConcurrency());
+        CountDownLatch done = new CountDownLatch(options.totalClients());
+        for (int r = 0; r < roomIds.size(); r++) {
+            for (int p = 0; p < options.getPlayers(); p++) {
+                LoadTestClient client = new LoadTestClient(roomIds.get(r), userId(r, p), metrics, this::onGameEnded);
+                clients.add(client);
+                if (p == 0) {
+                    hosts.add(client);
+                }
+                inFlight.acquire();
+                StompHeaders connectHeaders = new StompHeaders();
+                if (options.isCompactPayload()) {
+                    connectHeaders.add(CompactPayloadNegotiation.PAYLOAD_HEADER, CompactPayloadNegotiation.COMPACT);
+                }
+                stompClient.connectAsync(url, new WebSocketHttpHeaders(), connectHeaders, client).whenComplete((session, error) -> {
+                    if (error != null) {
+                        metrics.connectFailed();
+                        log.warn("Connect failed for {}: {}", client.getUserId(), error.getMessage());
+                    }
+                    inFlight.release();
+                    done.countDown();
+                });
+            }
+        }
+        if (!done.await(60, TimeUnit.SECONDS)) {
+            log.warn("Not every client connected within 60s");
+        }
+        // 마지막 joinRoom 이 처리될 시간을 잠깐 줌
+        TimeUnit.MILLISECONDS.sleep(500);
+        long connected = clients.stream().filter(LoadTestClient::isConnected).count();
+        log.info("{}/{} clients connected", connected, clients.size());
+    }
+
+    /** 모든 클라이언트가 press-rate 주기로 탭 (시작 시점은 무작위로 분산) */
+    private void startPressing() {
+        long periodNanos = (long) (1_000_000_000d / options.getPressRate());
+        for (LoadTestClient client : clients) {
+            long initialDelay = ThreadLocalRandom.current().nextLong(periodNanos);
+            pressScheduler.scheduleAtFixedRate(client::press, initialDelay, periodNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void startGame(LoadTestClient host) {
+        metrics.gameStarted();
+        host.startGame();
+    }
+
+    private void onGameEnded(LoadTestClient client) {
+        if (!hosts.contains(client)) {
+            return;
+        }
+        metrics.gameEnded();
+        long restartAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(RESTART_DELAY_MS);
+        if (restartAt < deadlineNanos) {
+            try {
+                pressScheduler.schedule(() -> startGame(client), RESTART_DELAY_MS, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // 부하 시간이 끝나 스케줄러가 이미 종료됨
+            }
+        }
+    }
+
+    private static String userId(int room, int player) {
+        return "lt-r" + room + "-p" + player;
+    }
+}
@@ -0,0 +1,33 @@
+package org.com.aqoo.loadtest;
+
+import org.com.aqoo.domain.push.service.FirebaseService;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.objenesis.ObjenesisStd;
+
+/**
+ * 부하 테스트에서 외부 서비스에 붙는 빈을 교체
+ * - FirebaseService 는 생성자에서 서비스 계정 키로 Firebase 에 초기화하므로,
+ *   생성자를 호출하지 않은 빈 인스턴스로 바꿔 키 파일 없이도 앱이 뜨도록 합니다. (게임/채팅 경로에서는 사용하지 않음)
+ */
+public class LoadTestBeanOverrides implements BeanDefinitionRegistryPostProcessor {
+
+    private static final String FIREBASE_SERVICE = "firebaseService";
+
+    @Override
+    public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) {
+        // 컴포넌트 스캔이 끝난 뒤에 교체해야 하므로 postProcessBeanFactory 에서 처리
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        BeanDefinitionRegistry registry = (BeanDefinitionRegistry) beanFactory;
+        if (registry.containsBeanDefinition(FIREBASE_SERVICE)) {
+            registry.removeBeanDefinition(FIREBASE_SERVICE);
+        }
+        registry.registerBeanDefinition(FIREBASE_SERVICE, new RootBeanDefinition(FirebaseService.class,
+                () -> new ObjenesisStd().newInstance(FirebaseService.class)));
+    }
+}
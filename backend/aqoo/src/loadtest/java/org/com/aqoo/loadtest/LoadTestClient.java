@@ -0,0 +1,250 @@
+package org.com.aqoo.loadtest;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 부하 테스트용 참가자 한 명
+ * - /topic/room/{roomId} 를 구독하고 /app/chat.joinRoom 으로 방에 들어갑니다.
+ * - 게임이 진행 중이면 정해진 주기로 /app/game.press 를 보내고, 보낸 시각을 순서대로 기록합니다.
+ * - 자기 slot 의 점수가 올라간 프레임을 받으면, 올라간 만큼 가장 오래된 탭부터 꺼내서 지연 시간을 기록합니다.
+ * - 수신 스레드와 탭 전송 스레드가 다르므로 상태 변경과 전송은 모두 this 로 동기화합니다.
+ */
+@Slf4j
+public class LoadTestClient extends StompSessionHandlerAdapter {
+
+    @Getter
+    private final String roomId;
+    @Getter
+    private final String userId;
+    private final LoadTestMetrics metrics;
+    // 방장이 GAME_ENDED 를 받았을 때 호출 (다음 게임 시작 여부는 GameLoadTest 가 결정)
+    private final Consumer<LoadTestClient> onGameEnded;
+
+    private StompSession session;
+
+    // ===== 아래 상태는 this 로 동기화 =====
+    private boolean running;
+    private int slot = -1;
+    private int lastScore;
+    private long lastSeq;
+    // 아직 점수로 확인되지 않은 탭의 전송 시각 (nanoTime)
+    private final ArrayDeque<Long> pendingPresses = new ArrayDeque<>();
+
+    public LoadTestClient(String roomId, String userId, LoadTestMetrics metrics, Consumer<LoadTestClient> onGameEnded) {
+        this.roomId = roomId;
+        this.userId = userId;
+        this.metrics = metrics;
+        this.onGameEnded = onGameEnded;
+    }
+
+    @Override
+    public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
+        synchronized (this) {
+            this.session = session;
+            session.subscribe("/topic/room/" + roomId, new RoomFrameHandler());
+            session.send("/app/chat.joinRoom", Map.of("roomId", roomId, "sender", userId, "type", "JOIN"));
+        }
+    }
+
+    @Override
+    public void handleException(StompSession session, StompCommand command, StompHeaders headers,
+                                byte[] payload, Throwable exception) {
+        metrics.transportError();
+        log.warn("STOMP error for {}: {}", userId, exception.getMessage());
+    }
+
+    @Override
+    public void handleTransportError(StompSession session, Throwable exception) {
+        metrics.transportError();
+        log.warn("Transport error for {}: {}", userId, exception.getMessage());
+    }
+
+    public synchronized boolean isConnected() {
+        return session != null && session.isConnected();
+    }
+
+    public synchronized boolean isRunning() {
+        return running;
+    }
+
+    /** 방장만 호출: 게임 시작 요청 */
+    public synchronized void startGame() {
+        send("/app/game.start", Map.of("roomId", roomId));
+    }
+
+    /** 방장만 호출: 부하 시간이 끝났을 때 진행 중인 게임 종료 요청 */
+    public synchronized void endGame() {
+        send("/app/game.end", Map.of("roomId", roomId));
+    }
+
+    /** 탭 한 번 전송 (게임 중이 아니면 무시) */
+    public synchronized void press() {
+        if (!running || slot < 0) {
+            return;
+        }
+        pendingPresses.addLast(System.nanoTime());
+        if (send("/app/game.press", Map.of("roomId", roomId, "userName", userId, "pressCount", 1))) {
+            metrics.pressSent();
+        } else {
+            pendingPresses.pollLast();
+        }
+    }
+
+    /** 종료 시 호출: GAME_STARTED 를 받고 GAME_ENDED 를 못 받은 게임은 누락으로 집계 */
+    public synchronized void disconnect() {
+        if (running) {
+            metrics.missingEndFrame();
+            running = false;
+        }
+        if (session != null && session.isConnected()) {
+            session.disconnect();
+        }
+    }
+
+    private boolean send(String destination, Object payload) {
+        if (session == null || !session.isConnected()) {
+            return false;
+        }
+        try {
+            session.send(destination, payload);
+            return true;
+        } catch (Exception e) {
+            metrics.transportError();
+            return false;
+        }
+    }
+
+    private synchronized void onFrame(Map<String, Object> frame) {
+        long now = System.nanoTime();
+        metrics.frameReceived();
+        Object message = frame.get("message");
+        if (message == null) {
+            return;
+        }
+        switch (message.toString()) {
+            case "GAME_STARTED" -> {
+                running = true;
+                slot = slotOf(frame);
+                lastScore = 0;
+                lastSeq = seqOf(frame);
+                pendingPresses.clear();
+            }
+            case "GAME_SYNC" -> {
+                if (!running) {
+                    return;
+                }
+                acceptSeq(seqOf(frame), null);
+                applyOwnScore(scoreOf(frame), now);
+            }
+            case "SCORE_DELTA" -> {
+                if (!running || !acceptSeq(seqOf(frame), frame.get("fromSeq"))) {
+                    return;
+                }
+                List<?> slots = (List<?>) frame.get("slots");
+                List<?> scores = (List<?>) frame.get("scores");
+                for (int i = 0; i < slots.size(); i++) {
+                    if (((Number) slots.get(i)).intValue() == slot) {
+                        applyOwnScore(((Number) scores.get(i)).intValue(), now);
+                    }
+                }
+            }
+            case "GAME_ENDED" -> {
+                if (!running) {
+                    return;
+                }
+                applyOwnScore(scoreOf(frame), now);
+                running = false;
+                // 게임 종료 뒤에 도착한 탭은 서버가 무시하므로 지연 측정에서 제외
+                pendingPresses.clear();
+                onGameEnded.accept(this);
+            }
+            default -> {
+                // USER_LIST, GAME_DROPDOWN_UPDATED 등은 측정 대상 아님
+            }
+        }
+    }
+
+    /**
+     * seq 가 연속인지 확인하고 건너뛴 만큼 dropped 로 집계
+     * 서버가 느린 세션의 프레임을 합친 경우(fromSeq 가 이어짐)는 dropped 가 아니라 coalesced 로 집계
+     *
+     * @return 새 프레임이면 true, 이미 반영한 seq 면 false
+     */
+    private boolean acceptSeq(long seq, Object fromSeq) {
+        if (seq <= lastSeq) {
+            if (seq < lastSeq) {
+                metrics.staleFrame();
+            }
+            return seq == lastSeq;
+        }
+        if (seq > lastSeq + 1) {
+            if (fromSeq instanceof Number from && from.longValue() <= lastSeq + 1) {
+                metrics.framesCoalesced(seq - lastSeq - 1);
+            } else {
+                metrics.framesDropped(seq - lastSeq - 1);
+            }
+        }
+        lastSeq = seq;
+        return true;
+    }
+
+    private void applyOwnScore(int score, long now) {
+        for (int i = lastScore; i < score; i++) {
+            Long sentAt = pendingPresses.pollFirst();
+            if (sentAt == null) {
+                break;
+            }
+            metrics.recordLatency(now - sentAt);
+        }
+        lastScore = Math.max(lastScore, score);
+    }
+
+    private int slotOf(Map<String, Object> frame) {
+        List<?> players = (List<?>) frame.get("players");
+        for (int i = 0; i < players.size(); i++) {
+            if (userId.equals(((Map<?, ?>) players.get(i)).get("userName"))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int scoreOf(Map<String, Object> frame) {
+        List<?> players = (List<?>) frame.get("players");
+        if (slot < 0 || players == null || slot >= players.size()) {
+            return lastScore;
+        }
+        Object score = ((Map<?, ?>) players.get(slot)).get("totalPressCount");
+        return score instanceof Number number ? number.intValue() : lastScore;
+    }
+
+    private static long seqOf(Map<String, Object> frame) {
+        Object seq = frame.get("seq");
+        return seq instanceof Number number ? number.longValue() : 0L;
+    }
+
+    private class RoomFrameHandler implements StompFrameHandler {
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return Map.class;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void handleFrame(StompHeaders headers, Object payload) {
+            onFrame((Map<String, Object>) payload);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package org.com.aqoo.loadtest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트 결과 집계
+ * - latency: 클라이언트가 탭을 보낸 시점부터, 그 탭이 반영된 자기 점수를 브로드캐스트로 받은 시점까지 (tick 지연 포함)
+ * - dropped: 같은 게임 안에서 seq 가 건너뛴 프레임 수 (SCORE_DELTA, GAME_SYNC 기준)
+ * - coalesced: 서버가 느린 세션에 보내기 전에 합친 SCORE_DELTA 수 (건너뛰었지만 유실은 아님)
+ */
+public class LoadTestMetrics {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final Timer broadcastLatency;
+    private final Counter pressesSent;
+    private final Counter framesReceived;
+    private final Counter droppedFrames;
+    private final Counter staleFrames;
+    private final Counter coalescedFrames;
+    private final Counter gamesStarted;
+    private final Counter gamesEnded;
+    private final Counter missingEndFrames;
+    private final Counter connectFailures;
+    private final Counter transportErrors;
+
+    public LoadTestMetrics(int durationSeconds) {
+        broadcastLatency = Timer.builder("loadtest.broadcast.latency")
+                .publishPercentiles(0.5, 0.9, 0.99, 0.999)
+                .percentilePrecision(3)
+                // 부하 시간 전체를 하나의 분포로 보기 위해 만료 시간을 충분히 길게
+                .distributionStatisticExpiry(Duration.ofSeconds(durationSeconds + 600L))
+                .distributionStatisticBufferLength(1)
+                .register(registry);
+        pressesSent = registry.counter("loadtest.press.sent");
+        framesReceived = registry.counter("loadtest.frames.received");
+        droppedFrames = registry.counter("loadtest.frames.dropped");
+        staleFrames = registry.counter("loadtest.frames.stale");
+        coalescedFrames = registry.counter("loadtest.frames.coalesced");
+        gamesStarted = registry.counter("loadtest.games.started");
+        gamesEnded = registry.counter("loadtest.games.ended");
+        missingEndFrames = registry.counter("loadtest.frames.missing-end");
+        connectFailures = registry.counter("loadtest.connect.failures");
+        transportErrors = registry.counter("loadtest.transport.errors");
+    }
+
+    public void recordLatency(long nanos) {
+        broadcastLatency.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void pressSent() {
+        pressesSent.increment();
+    }
+
+    public void frameReceived() {
+        framesReceived.increment();
+    }
+
+    public void framesDropped(long count) {
+        droppedFrames.increment(count);
+    }
+
+    public void framesCoalesced(long count) {
+        coalescedFrames.increment(count);
+    }
+
+    public void staleFrame() {
+        staleFrames.increment();
+    }
+
+    public void gameStarted() {
+        gamesStarted.increment();
+    }
+
+    public void gameEnded() {
+        gamesEnded.increment();
+    }
+
+    public void missingEndFrame() {
+        missingEndFrames.increment();
+    }
+
+    public void connectFailed() {
+        connectFailures.increment();
+    }
+
+    public void transportError() {
+        transportErrors.increment();
+    }
+
+    /** 사람이 읽는 형태의 요약 */
+    public String report(LoadTestOptions options, double elapsedSeconds) {
+        HistogramSnapshot snapshot = broadcastLatency.takeSnapshot();
+        StringBuilder sb = new StringBuilder();
+        sb.append("==== Game load test ====\n");
+        sb.append("options           : ").append(options).append('\n');
+        sb.append(String.format("elapsed           : %.1fs%n", elapsedSeconds));
+        sb.append(String.format("presses sent      : %.0f (%.0f/s)%n", pressesSent.count(), pressesSent.count() / elapsedSeconds));
+        sb.append(String.format("frames received   : %.0f (%.0f/s)%n", framesReceived.count(), framesReceived.count() / elapsedSeconds));
+        sb.append(String.format("games started     : %.0f, ended: %.0f%n", gamesStarted.count(), gamesEnded.count()));
+        sb.append(String.format("dropped frames    : %.0f (seq gaps), stale: %.0f, missing GAME_ENDED: %.0f%n",
+                droppedFrames.count(), staleFrames.count(), missingEndFrames.count()));
+        sb.append(String.format("coalesced frames  : %.0f%n", coalescedFrames.count()));
+        sb.append(String.format("connect failures  : %.0f, transport errors: %.0f%n", connectFailures.count(), transportErrors.count()));
+        sb.append(String.format("latency samples   : %d, mean %.2fms, max %.2fms%n",
+                snapshot.count(), snapshot.mean(TimeUnit.MILLISECONDS), snapshot.max(TimeUnit.MILLISECONDS)));
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            sb.append(String.format("latency p%-7s : %.2fms%n",
+                    trim(percentile.percentile() * 100), percentile.value(TimeUnit.MILLISECONDS)));
+        }
+        return sb.toString();
+    }
+
+    private static String trim(double value) {
+        return value == Math.rint(value) ? String.valueOf((long) value) : String.valueOf(value);
+    }
+}
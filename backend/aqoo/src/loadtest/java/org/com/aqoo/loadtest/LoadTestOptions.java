@@ -0,0 +1,68 @@
+package org.com.aqoo.loadtest;
+
+import lombok.Getter;
+
+/**
+ * 부하 테스트 실행 옵션 (--rooms=20 --players=6 --press-rate=8 --duration=30 형식)
+ * 이름에 '.' 이 들어간 옵션(예: --aqoo.websocket.channel.mode=ordered)은 앱 설정으로 그대로 넘어갑니다.
+ */
+@Getter
+public class LoadTestOptions {
+
+    // 동시에 진행할 게임 방 수
+    private int rooms = 20;
+    // 방마다 접속할 참가자 수
+    private int players = 6;
+    // 참가자 한 명이 초당 보내는 탭 수
+    private double pressRate = 8;
+    // 전체 부하 시간 (초). 게임이 끝나면 이 시간 안에서 방장이 다시 시작
+    private int durationSeconds = 30;
+    // 동시에 연결을 맺는 클라이언트 수 (접속 폭주로 인한 실패 방지)
+    private int connectConcurrency = 32;
+    // /topic 페이로드 인코딩 - json(기본, SockJS) 또는 compact(Smile, 순수 WebSocket 으로 접속)
+    private String payload = "json";
+
+    public static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+            String key = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (key.contains(".")) {
+                continue;
+            }
+            switch (key) {
+                case "rooms" -> options.rooms = Integer.parseInt(value);
+                case "players" -> options.players = Integer.parseInt(value);
+                case "press-rate" -> options.pressRate = Double.parseDouble(value);
+                case "duration" -> options.durationSeconds = Integer.parseInt(value);
+                case "connect-concurrency" -> options.connectConcurrency = Integer.parseInt(value);
+                case "payload" -> options.payload = value;
+                default -> throw new IllegalArgumentException("Unknown option: --" + key);
+            }
+        }
+        if (options.rooms <= 0 || options.players <= 0 || options.pressRate <= 0 || options.durationSeconds <= 0) {
+            throw new IllegalArgumentException("rooms, players, press-rate and duration must be positive");
+        }
+        if (!"json".equals(options.payload) && !"compact".equals(options.payload)) {
+            throw new IllegalArgumentException("payload must be json or compact");
+        }
+        return options;
+    }
+
+    public boolean isCompactPayload() {
+        return "compact".equals(payload);
+    }
+
+    public int totalClients() {
+        return rooms * players;
+    }
+
+    @Override
+    public String toString() {
+        return "rooms=" + rooms + ", players=" + players + ", pressRate=" + pressRate
+                + "/s, duration=" + durationSeconds + "s, payload=" + payload;
+    }
+}
@@ -1,12 +1,12 @@
 package org.com.aqoo.config;
 
-import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.com.aqoo.util.JwtUtil;
+import org.com.aqoo.util.JwtVerifier;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -19,7 +19,7 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil; // JwtUtil 의존성 주입
+    private final JwtVerifier jwtVerifier; // 요청마다 한 번만 파싱하는 토큰 검증기
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
@@ -31,30 +31,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String jwt = authorizationHeader.substring(7);
 //            System.out.println("doFilterInternal jwt:" + jwt);
             try {
-                // JwtUtil을 사용하여 토큰 검증 및 사용자 정보 추출
-                if (jwtUtil.validateToken(jwt)) {
-                    String username = jwtUtil.extractUsername(jwt);
-
-                    if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                        UsernamePasswordAuthenticationToken authenticationToken =
-                                new UsernamePasswordAuthenticationToken(
-                                        username, null, null
-                                );
-                        authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-                        // Spring Security 컨텍스트에 사용자 설정
-                        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-                    }
+                // 서명/만료 검증과 사용자 ID 추출을 한 번에 (같은 토큰은 캐시된 검증 결과 사용)
+                String username = jwtVerifier.verify(jwt).subject();
+
+                if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                    UsernamePasswordAuthenticationToken authenticationToken =
+                            new UsernamePasswordAuthenticationToken(
+                                    username, null, null
+                            );
+                    authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+                    // Spring Security 컨텍스트에 사용자 설정
+                    SecurityContextHolder.getContext().setAuthentication(authenticationToken);
                 }
-                else{
-                    System.out.println("액세스 토큰 만료됨. 리프레시 토큰을 요청하세요.");
-                    response.setStatus(HttpServletResponse.SC_UNAUTHORIZED); // 401 응답 반환
-                    return;
-
-                }
-            } catch (Exception e) {
-                // JWT가 유효하지 않은 경우
-                System.out.println("Invalid JWT: " + e.getMessage());
+            } catch (JwtException | IllegalArgumentException e) {
+                System.out.println("액세스 토큰 만료됨. 리프레시 토큰을 요청하세요.");
+                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED); // 401 응답 반환
+                return;
             }
         }
 
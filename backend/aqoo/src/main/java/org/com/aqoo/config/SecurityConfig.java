@@ -52,7 +52,11 @@ public class SecurityConfig {
                                 "/api/v1/fish/gotcha",
                                 "/api/v1/fish/ticket/**",
                                 "/api/v1/fish/painting",
-                                "/api/v1/friends/**"
+                                "/api/v1/friends/**",
+                                // 운영용 게임 통계 (참가자 userName 포함)
+                                "/api/v1/games/*/press-stats",
+                                // 운영용 느린 세션 목록 (sessionId, userId, roomId 포함)
+                                "/api/v1/websocket/sessions/**"
                         ).authenticated()
                         // 인증 없이 접근 가능한 경로
                         .requestMatchers(
@@ -1,15 +1,41 @@
 package org.com.aqoo.config;
 
+import lombok.RequiredArgsConstructor;
+import org.com.aqoo.websocket.CompactPayloadNegotiation;
+import org.com.aqoo.websocket.SlowConsumerProtection;
+import org.com.aqoo.websocket.StompChannelExecutors;
+import org.com.aqoo.websocket.StompMessagingMetrics;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketBrokerConfig implements WebSocketMessageBrokerConfigurer {
 
+    // inbound/outbound 채널 실행기 (aqoo.websocket.channel.*)
+    private final StompChannelExecutors channelExecutors;
+    // 세션별 전송 버퍼/시간 제한과 SCORE_DELTA 병합 (aqoo.websocket.send-*)
+    private final SlowConsumerProtection slowConsumerProtection;
+    // 세션/구독/destination 별 메시지 수, @MessageMapping 핸들러 시간 지표
+    private final StompMessagingMetrics messagingMetrics;
+    // 세션별 /topic 페이로드 인코딩 (CONNECT 의 aqoo-payload: compact 헤더)
+    private final CompactPayloadNegotiation compactPayload;
+
+    private static final String[] ALLOWED_ORIGIN_PATTERNS = {
+            "http://localhost:3000",
+            "https://localhost:3000",
+            "https://i12e203.p.ssafy.io:3000",
+            "http://i12e203.p.ssafy.io:3000",
+            "https://i12e203.p.ssafy.io",
+            "http://i12e203.p.ssafy.io"
+    };
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // 클라이언트가 구독할 경로
@@ -17,22 +43,39 @@ public class WebSocketBrokerConfig implements WebSocketMessageBrokerConfigurer {
         config.enableSimpleBroker("/topic", "/queue");
         // 클라이언트가 메시지를 보낼 경로
         config.setApplicationDestinationPrefixes("/app");
+        config.configureBrokerChannel().interceptors(messagingMetrics.brokerInterceptor(), compactPayload.brokerInterceptor());
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.executor(channelExecutors.inbound());
+        registration.interceptors(messagingMetrics.inboundInterceptor(), compactPayload.inboundInterceptor());
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.executor(channelExecutors.outbound());
+        registration.interceptors(messagingMetrics.outboundInterceptor(), compactPayload.outboundInterceptor());
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 전송 시간/버퍼 크기 제한은 SlowConsumerWebSocketSession 이 검사 (aqoo.websocket.send-*)
+        // Spring 의 세션 decorator 는 그 위에서 전송 직렬화만 하므로 setSendTimeLimit 등은 따로 설정하지 않음
+        registration.addDecoratorFactory(slowConsumerProtection::decorate);
     }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         // WebSocket 연결 엔드포인트
         registry.addEndpoint("/ws") // webSocket 엔드포인트 설정
-                .setAllowedOriginPatterns(
-                        "http://localhost:3000",
-                        "https://localhost:3000",
-                        "https://i12e203.p.ssafy.io:3000",
-                        "http://i12e203.p.ssafy.io:3000",
-                        "https://i12e203.p.ssafy.io",
-                        "http://i12e203.p.ssafy.io"
-                )
+                .setAllowedOriginPatterns(ALLOWED_ORIGIN_PATTERNS)
 //			.setAllowedOriginPatterns("http://localhost:3000") // 특정 도메인 허용
 //                .addInterceptors(new WebSocketHandshakeInterceptor())
                 .withSockJS(); //SockJS 폴백 지원
+        // SockJS 없는 순수 WebSocket 엔드포인트 - SockJS 는 텍스트 프레임만 보낼 수 있으므로
+        // compact(Smile 바이너리) 페이로드를 받으려는 클라이언트는 여기로 접속 (CompactPayloadNegotiation)
+        registry.addEndpoint("/ws-native")
+                .setAllowedOriginPatterns(ALLOWED_ORIGIN_PATTERNS);
     }
 }
@@ -29,8 +29,8 @@ public class AuthController {
         // 로그인 처리
         LoginResponse response = authService.login(request);
 
-        // RefreshToken을 DB에서 가져오기
-        String refreshToken = authService.getRefreshToken(request.getId());
+        // RefreshToken 발급 (refresh_token 테이블에 저장)
+        String refreshToken = authService.issueRefreshToken(response.getUserId());
         ResponseCookie refreshTokenCookie = ResponseCookie.from("refreshToken", refreshToken)
                 .httpOnly(true)
                 .secure(true)             // HTTPS 환경에서만 전송
@@ -47,9 +47,11 @@ public class AuthController {
 
     // 로그아웃
     @DeleteMapping("/logout/{userId}")
-    public ResponseEntity<String> logout(@PathVariable String userId, HttpServletResponse response) {
-        // 서비스 호출(해당 userId에 저장된 리프레시 토큰 삭제 로직)
-        authService.deleteRefreshToken(userId);
+    public ResponseEntity<String> logout(@PathVariable String userId,
+                                         @CookieValue(name = "refreshToken", required = false) String refreshToken,
+                                         HttpServletResponse response) {
+        // 서비스 호출(이 기기의 리프레시 토큰 삭제, 쿠키가 없으면 해당 userId의 모든 리프레시 토큰 삭제)
+        authService.deleteRefreshToken(userId, refreshToken);
 
         // 쿠키 날리기
         ResponseCookie deleteCookie = ResponseCookie.from("refreshToken", "")
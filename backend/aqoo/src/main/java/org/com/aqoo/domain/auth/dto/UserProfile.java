@@ -0,0 +1,22 @@
+package org.com.aqoo.domain.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 채팅방/게임 화면에 표시하는 사용자 프로필 (UserProfileDirectory 캐시 단위)
+ * - mainFishImage 는 절대 경로로 변환된 값입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class UserProfile {
+    private final String userId;
+    private final String nickname;
+    private final String mainFishImage;
+    private final int level;
+
+    /** DB 에 없는 사용자용 기본 프로필 (UserInfoResponse 기본값과 동일) */
+    public static UserProfile unknown(String userId) {
+        return new UserProfile(userId, "닉네임 없음", "", 1);
+    }
+}
@@ -0,0 +1,14 @@
+package org.com.aqoo.domain.auth.dto;
+
+/**
+ * 프로필 일괄 조회용 projection (User 엔티티 전체 대신 필요한 컬럼만 조회)
+ */
+public interface UserProfileView {
+    String getId();
+
+    String getNickname();
+
+    String getMainFishImage();
+
+    Integer getLevel();
+}
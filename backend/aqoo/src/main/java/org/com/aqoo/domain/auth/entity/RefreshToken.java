@@ -0,0 +1,39 @@
+package org.com.aqoo.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발급한 리프레시 토큰 (로그인 세션 하나당 한 행)
+ * - 토큰 원문 대신 SHA-256 해시를 키로 저장합니다.
+ * - 한 사용자가 여러 기기에서 로그인하면 행이 여러 개 생깁니다.
+ * - 만료된 행은 RefreshTokenStore 가 expires_at 인덱스로 묶어서 지웁니다.
+ */
+@Entity
+@Table(name = "refresh_token", indexes = {
+        @Index(name = "idx_refresh_token_user_id", columnList = "user_id"),
+        @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshToken {
+
+    // 토큰 SHA-256 (hex)
+    @Id
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash;
+
+    @Column(name = "user_id", nullable = false, length = 50)
+    private String userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
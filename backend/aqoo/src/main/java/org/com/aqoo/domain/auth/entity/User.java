@@ -26,10 +26,6 @@ public class User {
     @Column(length = 50) // VARCHAR(50)
     private String nickname;
 
-    @Lob
-    @Column(name="refresh_token",columnDefinition = "TEXT") // TEXT 타입
-    private String refreshToken;
-
     @Lob
     @Column(name="main_fish_image",columnDefinition = "TEXT")
     private String mainFishImage;
@@ -8,7 +8,6 @@ import org.com.aqoo.domain.auth.dto.*;
 import org.com.aqoo.domain.auth.entity.User;
 import org.com.aqoo.repository.UserRepository;
 import org.com.aqoo.util.JwtUtil;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -51,8 +50,9 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher; // BCrypt 는 요청 스레드가 아닌 별도 풀에서 실행
     private final AquariumService aquariumService;
+    private final RefreshTokenStore refreshTokenStore;
 
     //로그인 요청 서비스
     public LoginResponse login(LoginRequest request) {
@@ -61,21 +61,14 @@ public class AuthService {
                 .orElseThrow(() -> new IllegalArgumentException("Invalid ID"));
 
         // 비밀번호 확인
-        if (!passwordEncoder.matches(request.getPw(), user.getPw())) {
+        if (!passwordHasher.matches(request.getPw(), user.getPw())) {
             throw new IllegalArgumentException("Invalid Password");
         }
 
-        // AccessToken, RefreshToken 생성
+        // AccessToken 생성 (RefreshToken 은 컨트롤러에서 issueRefreshToken 으로 발급)
         String accessToken = jwtUtil.generateToken(user.getId(), "ACCESS");
-        String refreshToken = jwtUtil.generateToken(user.getId(), "REFRESH");
 
         System.out.println("Generating Token for user: " + user.getId());
-        System.out.println("accessToken: " + accessToken);
-        System.out.println("refreshToken: " + refreshToken);
-
-        // 리프레시 토큰을 DB에 저장
-        user.setRefreshToken(refreshToken);
-        userRepository.save(user);
 
         String message = "accessToken 발급 성공";
         // 응답 생성
@@ -87,20 +80,14 @@ public class AuthService {
     }
 
 
-    // db에 저장된 리프레시 토큰 불러오기
-    public String getRefreshToken(String userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-
-        return user.getRefreshToken(); // DB에 저장된 리프레시 토큰 반환
+    // 리프레시 토큰 발급 (refresh_token 테이블에 저장, 기기마다 별도 세션)
+    public String issueRefreshToken(String userId) {
+        return refreshTokenStore.issue(userId);
     }
 
-    // ID 기반으로 유저의 리프레시 토큰 삭제
-    public void deleteRefreshToken(String userId) {
-        userRepository.findById(userId).ifPresent(user -> {
-            user.setRefreshToken(null);
-            userRepository.save(user);
-        });
+    // 로그아웃: 쿠키의 리프레시 토큰 세션만 삭제 (쿠키가 없으면 해당 유저의 모든 세션 삭제)
+    public void deleteRefreshToken(String userId, String refreshToken) {
+        refreshTokenStore.revoke(userId, refreshToken);
     }
 
     //회원가입 요청 서비스
@@ -114,7 +101,7 @@ public class AuthService {
         // 2. 새 사용자 생성 (아직 어항 ID는 미설정)
         User newUser = User.builder()
                 .id(request.getId())
-                .pw(passwordEncoder.encode(request.getPw()))
+                .pw(passwordHasher.encode(request.getPw()))
                 .email(request.getEmail())
                 .nickname(request.getNickName())
                 .build();
@@ -150,23 +137,10 @@ public class AuthService {
     public String refreshToken(String refreshToken) throws Exception {
         System.out.println("쿠키에 저장된 refreshToken으로 엑세스 토큰 재요청");
 
-        // 토큰 유효성 확인
-        if (!jwtUtil.validateToken(refreshToken)) {
-            throw new IllegalArgumentException("Invalid Refresh Token");
-        }
-
-        // 토큰에서 사용자 ID 추출
-        String userId = jwtUtil.extractUsername(refreshToken);
+        // 서명/만료 확인 후 refresh_token 테이블에서 해시로 조회 (user 행은 읽지 않음)
+        String userId = refreshTokenStore.verify(refreshToken);
         System.out.println("추출한 ID: " + userId);
 
-        // 데이터베이스에서 저장된 리프레시 토큰 확인
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-
-        if (!refreshToken.equals(user.getRefreshToken())) {
-            throw new IllegalArgumentException("Invalid Refresh Token");
-        }
-
         return jwtUtil.generateToken(userId, "ACCESS");
     }
 
@@ -185,7 +159,7 @@ public class AuthService {
 
             // 임의 비밀번호 생성 및 암호화
             String rawPassword = PasswordGenerator.generatePasswordWithDateTime();
-            String hashedPassword = passwordEncoder.encode(rawPassword);
+            String hashedPassword = passwordHasher.encode(rawPassword);
 
             // 신규 유저 생성 (아직 mainAquarium 설정 전)
             User newUser = User.builder()
@@ -215,13 +189,8 @@ public class AuthService {
             user = userRepository.save(newUser);
         }
 
-        // JWT 토큰 생성
+        // JWT 액세스 토큰 생성 (리프레시 토큰은 CustomOAuth2AuthenticationSuccessHandler 가 쿠키와 함께 발급)
         String accessToken = jwtUtil.generateToken(user.getId(), "ACCESS");
-        String refreshToken = jwtUtil.generateToken(user.getId(), "REFRESH");
-
-        // 리프레시 토큰 업데이트 (영속 상태인 user의 변경은 트랜잭션 커밋 시 반영됨)
-        user.setRefreshToken(refreshToken);
-        userRepository.save(user);
 
         String message = isNewUser ? "소셜 로그인 및 신규 회원가입 성공" : "소셜 로그인 성공";
         return new LoginResponse(accessToken, user.getId(), user.getNickname(), message);
@@ -249,18 +218,21 @@ public class AuthService {
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
         // 2. 기존 비밀번호 검증
-        if (!passwordEncoder.matches(request.getCurrentPassword(), user.getPw())) {
+        if (!passwordHasher.matches(request.getCurrentPassword(), user.getPw())) {
             throw new RuntimeException("현재 비밀번호가 일치하지 않습니다.");
         }
 
         // 3. 기존 비밀번호와 새로운 비밀번호가 동일한지 체크 (보안 권장)
-        if (passwordEncoder.matches(request.getNewPassword(), user.getPw())) {
+        if (passwordHasher.matches(request.getNewPassword(), user.getPw())) {
             throw new RuntimeException("새로운 비밀번호는 기존 비밀번호와 달라야 합니다.");
         }
 
         // 4. 새로운 비밀번호 암호화 후 저장
-        user.setPw(passwordEncoder.encode(request.getNewPassword()));
+        user.setPw(passwordHasher.encode(request.getNewPassword()));
         userRepository.save(user);
+
+        // 5. 이전 비밀번호로 로그인한 모든 기기의 세션 종료 (액세스 토큰이 만료되면 다시 로그인)
+        refreshTokenStore.revokeAll(user.getId());
     }
 
     // 비밀번호 재설정 서비스
@@ -270,7 +242,10 @@ public class AuthService {
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
         // 2. 새로운 비밀번호 암호화 후 저장
-        user.setPw(passwordEncoder.encode(request.getNewPassword()));
+        user.setPw(passwordHasher.encode(request.getNewPassword()));
         userRepository.save(user);
+
+        // 3. 비밀번호를 잊었거나 도용되었을 수 있으므로 모든 기기의 세션 종료
+        refreshTokenStore.revokeAll(user.getId());
     }
 }
\ No newline at end of file
@@ -30,6 +30,7 @@ public class CustomOAuth2AuthenticationSuccessHandler implements AuthenticationS
     private final ObjectMapper objectMapper;
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request,
@@ -51,7 +52,7 @@ public class CustomOAuth2AuthenticationSuccessHandler implements AuthenticationS
 
         LoginResponse loginResponse = null;
         if (isNewUser == false) { // 기존 회원인 경우
-            String refreshToken = jwtUtil.generateToken(email, "REFRESH");
+            String refreshToken = refreshTokenStore.issue(email);
             String accessToken = jwtUtil.generateToken(email, "ACCESS");
             User user = userRepository.findById(email).get();
             String nickName = user.getNickname();
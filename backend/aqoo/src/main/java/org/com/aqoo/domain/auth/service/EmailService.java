@@ -6,8 +6,8 @@ import org.com.aqoo.domain.auth.dto.EmailResponse;
 import org.com.aqoo.domain.auth.dto.EmailSendRequest;
 import org.com.aqoo.domain.auth.dto.EmailVerifyRequest;
 import org.com.aqoo.domain.auth.entity.User;
+import org.com.aqoo.domain.mail.service.MailOutbox;
 import org.com.aqoo.repository.UserRepository;
-import org.com.aqoo.util.MailManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,7 +22,7 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class EmailService {
 
-    private final MailManager mailManager;
+    private final MailOutbox mailOutbox;
     private final UserRepository userRepository;
     private final ConcurrentHashMap<String, Boolean> emailAuthMap = new ConcurrentHashMap<>();
 
@@ -70,8 +70,8 @@ public class EmailService {
                 + "<p style='color: #777; font-size: 12px;'>이 인증번호는 일정 시간 후 만료됩니다.</p>"
                 + "</div>";
 
-        // 📤 이메일 전송
-        mailManager.send(email, subject, content);
+        // 📤 이메일 발송 대기열에 추가 (SMTP 전송은 mail-worker 스레드에서, 여기서는 기다리지 않음)
+        mailOutbox.enqueue(email, subject, content);
 
         // 인증번호 저장 (나중에 검증할 때 사용)
         emailAuthMap.put(key, true);
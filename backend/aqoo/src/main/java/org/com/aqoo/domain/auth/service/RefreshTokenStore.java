@@ -0,0 +1,121 @@
+package org.com.aqoo.domain.auth.service;
+
+import io.jsonwebtoken.JwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.com.aqoo.domain.auth.entity.RefreshToken;
+import org.com.aqoo.repository.RefreshTokenRepository;
+import org.com.aqoo.util.JwtUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 리프레시 토큰 저장소 (user 테이블과 분리)
+ * - 발급한 토큰은 SHA-256 해시를 키로 refresh_token 테이블에 저장하므로, 재발급/로그아웃은 user 행을 읽거나 쓰지 않고
+ *   PK(또는 user_id 인덱스) 조회 한 번으로 끝납니다.
+ * - 로그인할 때마다 새 행을 만들기 때문에 여러 기기의 세션이 서로를 덮어쓰지 않습니다.
+ * - 만료된 토큰은 주기적으로 batchSize 개씩 지웁니다.
+ */
+@Slf4j
+@Service
+public class RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtUtil jwtUtil;
+    private final int purgeBatchSize;
+
+    public RefreshTokenStore(RefreshTokenRepository refreshTokenRepository,
+                             JwtUtil jwtUtil,
+                             @Value("${auth.refresh-token.purge-batch-size:1000}") int purgeBatchSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtUtil = jwtUtil;
+        this.purgeBatchSize = Math.max(1, purgeBatchSize);
+    }
+
+    /** 새 리프레시 토큰 발급 후 저장 */
+    @Transactional
+    public String issue(String userId) {
+        String token = jwtUtil.generateToken(userId, "REFRESH");
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusNanos(JwtUtil.REFRESH_TOKEN_EXPIRATION * 1_000_000L);
+        refreshTokenRepository.save(new RefreshToken(hash(token), userId, expiresAt, now));
+        return token;
+    }
+
+    /**
+     * 리프레시 토큰 검증
+     *
+     * @return 토큰 주인 userId
+     * @throws IllegalArgumentException 서명/만료가 잘못됐거나, 로그아웃 등으로 저장소에 없는 토큰
+     */
+    @Transactional(readOnly = true)
+    public String verify(String token) {
+        String userId;
+        try {
+            userId = jwtUtil.parseClaims(token).getSubject();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid Refresh Token");
+        }
+        return refreshTokenRepository.findActiveUserId(hash(token), LocalDateTime.now())
+                .filter(userId::equals)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid Refresh Token"));
+    }
+
+    /** 로그아웃: 토큰이 있으면 그 세션만, 없으면 사용자의 모든 세션 삭제 */
+    @Transactional
+    public void revoke(String userId, String token) {
+        if (token == null || token.isEmpty()) {
+            refreshTokenRepository.deleteAllByUserId(userId);
+        } else {
+            refreshTokenRepository.deleteByTokenHashAndUserId(hash(token), userId);
+        }
+    }
+
+    /** 비밀번호 변경/재설정 후 모든 기기에서 로그아웃 */
+    @Transactional
+    public void revokeAll(String userId) {
+        refreshTokenRepository.deleteAllByUserId(userId);
+    }
+
+    /** 만료되지 않은 로그인 세션이 하나라도 있는지 */
+    @Transactional(readOnly = true)
+    public boolean hasActiveSession(String userId) {
+        return refreshTokenRepository.existsByUserIdAndExpiresAtAfter(userId, LocalDateTime.now());
+    }
+
+    /** 만료된 토큰을 batch 단위로 삭제 (batch 마다 별도 트랜잭션이라 락을 오래 잡지 않음) */
+    @Scheduled(fixedDelayString = "${auth.refresh-token.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int purged = 0;
+        List<String> expired;
+        do {
+            expired = refreshTokenRepository.findExpiredTokenHashes(now, PageRequest.of(0, purgeBatchSize));
+            if (!expired.isEmpty()) {
+                refreshTokenRepository.deleteAllByIdInBatch(expired);
+                purged += expired.size();
+            }
+        } while (expired.size() == purgeBatchSize);
+        if (purged > 0) {
+            log.info("Purged {} expired refresh tokens", purged);
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package org.com.aqoo.domain.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.com.aqoo.domain.auth.dto.UserProfile;
+import org.com.aqoo.domain.auth.dto.UserProfileView;
+import org.com.aqoo.repository.UserRepository;
+import org.com.aqoo.util.ImageUrlUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * userId 로 찾는 사용자 프로필(닉네임, 대표 물고기, 레벨) 메모리 캐시
+ * - 최대 maxSize 개까지 LRU 로 유지하고, ttl 이 지난 항목은 다시 조회합니다.
+ * - 여러 명을 한 번에 찾으면 캐시에 없는 사용자만 모아서 IN 쿼리 한 번으로 조회합니다.
+ * - 프로필이 바뀌는 곳(UserService.updateUser, increaseUserExp)에서 invalidate 를 호출해야 합니다.
+ */
+@Component
+public class UserProfileDirectory {
+
+    private final UserRepository userRepository;
+    private final ImageUrlUtils imageUtils;
+    private final int maxSize;
+    private final long ttlNanos;
+
+    // access-order LinkedHashMap (가장 오래 안 쓴 항목부터 제거), this 로 동기화
+    private final LinkedHashMap<String, Entry> entries;
+
+    // 조회 도중 invalidate 가 있었는지 확인하기 위한 카운터 (있었다면 조회 결과를 캐시하지 않음)
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter loads;
+    private final Counter evictions;
+
+    public UserProfileDirectory(UserRepository userRepository,
+                                ImageUrlUtils imageUtils,
+                                MeterRegistry meterRegistry,
+                                @Value("${user.profile-cache.max-size:10000}") int maxSize,
+                                @Value("${user.profile-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.imageUtils = imageUtils;
+        this.maxSize = Math.max(1, maxSize);
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                boolean evict = size() > UserProfileDirectory.this.maxSize;
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+
+        this.hits = Counter.builder("user.profile.cache.requests")
+                .description("Profile lookups served from the cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("user.profile.cache.requests")
+                .description("Profile lookups that had to be loaded from the database")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.loads = Counter.builder("user.profile.cache.loads")
+                .description("Batched IN queries issued for cache misses")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("user.profile.cache.evictions")
+                .description("Profiles evicted because the cache was full")
+                .register(meterRegistry);
+        Gauge.builder("user.profile.cache.size", this, UserProfileDirectory::size)
+                .description("Profiles currently cached")
+                .register(meterRegistry);
+    }
+
+    /** 한 명의 프로필 조회 (DB 에 없는 사용자는 기본 프로필) */
+    public UserProfile get(String userId) {
+        return getAll(List.of(userId)).get(userId);
+    }
+
+    /**
+     * 여러 명의 프로필을 한 번에 조회
+     * 캐시에 없는 사용자는 IN 쿼리 한 번으로 불러오며, DB 에 없는 사용자는 기본 프로필로 채웁니다.
+     *
+     * @return userId -> 프로필 (요청한 모든 userId 를 포함)
+     */
+    public Map<String, UserProfile> getAll(Collection<String> userIds) {
+        Map<String, UserProfile> result = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        long now = System.nanoTime();
+        synchronized (this) {
+            for (String userId : userIds) {
+                Entry entry = entries.get(userId);
+                if (entry != null && now - entry.loadedAt < ttlNanos) {
+                    result.put(userId, entry.profile);
+                } else {
+                    if (entry != null) {
+                        entries.remove(userId);
+                    }
+                    missing.add(userId);
+                }
+            }
+        }
+        hits.increment(result.size());
+        if (missing.isEmpty()) {
+            return result;
+        }
+        misses.increment(missing.size());
+
+        long invalidationsBefore = invalidations.get();
+        Map<String, UserProfile> loaded = load(missing);
+        result.putAll(loaded);
+        for (String userId : missing) {
+            result.putIfAbsent(userId, UserProfile.unknown(userId));
+        }
+
+        synchronized (this) {
+            // 조회 중에 프로필이 바뀌었을 수 있으면 이번 결과는 캐시하지 않음 (다음 조회 때 다시 읽음)
+            if (invalidations.get() == invalidationsBefore) {
+                long loadedAt = System.nanoTime();
+                loaded.forEach((userId, profile) -> entries.put(userId, new Entry(profile, loadedAt)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 프로필이 바뀐 사용자의 캐시 제거
+     * 트랜잭션 안에서 호출되면 커밋 직후에도 한 번 더 제거해서, 커밋 전 값이 다시 캐시되지 않도록 합니다.
+     */
+    public void invalidate(String userId) {
+        evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void evict(String userId) {
+        invalidations.incrementAndGet();
+        synchronized (this) {
+            entries.remove(userId);
+        }
+    }
+
+    private Map<String, UserProfile> load(List<String> userIds) {
+        loads.increment();
+        Map<String, UserProfile> loaded = new HashMap<>();
+        for (UserProfileView view : userRepository.findProfilesByIdIn(userIds)) {
+            loaded.put(view.getId(), toProfile(view));
+        }
+        return loaded;
+    }
+
+    private UserProfile toProfile(UserProfileView view) {
+        String image = view.getMainFishImage();
+        String mainFishImage = (image == null || image.isEmpty()) ? "" : imageUtils.toAbsoluteUrl(image);
+        int level = view.getLevel() == null ? 1 : view.getLevel();
+        return new UserProfile(view.getId(), view.getNickname(), mainFishImage, level);
+    }
+
+    private static final class Entry {
+        private final UserProfile profile;
+        private final long loadedAt;
+
+        private Entry(UserProfile profile, long loadedAt) {
+            this.profile = profile;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
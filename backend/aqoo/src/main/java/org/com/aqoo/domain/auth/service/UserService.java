@@ -16,6 +16,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final ImageUrlUtils imageUtils;
+    private final UserProfileDirectory profileDirectory;
 
     // 회원정보 조회 서비스
     public UserInfoResponse getUserInfo(String userId) {
@@ -54,8 +55,9 @@ public class UserService {
         // 3. mainFishId 업데이트
         user.setMainFishImage(request.getMainFishImage());
 
-        // 4. 변경된 데이터 저장
+        // 4. 변경된 데이터 저장 (채팅방/게임 화면의 프로필 캐시도 갱신)
         userRepository.save(user);
+        profileDirectory.invalidate(user.getId());
 
         // 5. 응답 반환
         return new UpdateUserResponse(
@@ -96,6 +98,7 @@ public class UserService {
         user.setExp(newExp);
         user.setLevel(level);
         userRepository.save(user);
+        profileDirectory.invalidate(user.getId());
 
         // 경험치 퍼센트 계산
         double expProgress = (newExp*100.0) / (double) expToNextLevel;
@@ -1,6 +1,7 @@
 package org.com.aqoo.domain.chat.controller;
 
 import lombok.AllArgsConstructor;
+import org.com.aqoo.domain.chat.dto.ChatHistoryResponse;
 import org.com.aqoo.domain.chat.dto.ChatRoomDto;
 import org.com.aqoo.domain.chat.dto.InviteRequest;
 import org.com.aqoo.domain.chat.dto.MemberDto;
@@ -20,7 +21,7 @@ public class ChatRoomController {
 
     private final ChatRoomService chatRoomService;
 
-    /** 모든 채팅방 목록 조회 */
+    /** 모든 채팅방 목록 조회 (방이 많으면 /directory 의 페이지 조회를 사용) */
     @GetMapping
     public List<ChatRoomDto> getAllChatRooms() {
         return chatRoomService.getAllRooms().stream()
@@ -28,12 +29,46 @@ public class ChatRoomController {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 로비 방 목록 (최신순, 커서 페이지)
+     * 응답의 nextCursor 를 다음 요청의 cursor 로 넘기면 이어서 조회합니다.
+     * gameType, minOpenSeats(최소 빈 자리), minOwnerLevel / maxOwnerLevel(방장 레벨) 로 거를 수 있습니다.
+     */
+    @GetMapping("/directory")
+    public ResponseEntity<?> getRoomDirectory(@RequestParam(required = false) String cursor,
+                                              @RequestParam(defaultValue = "20") int limit,
+                                              @RequestParam(required = false) String gameType,
+                                              @RequestParam(required = false) Integer minOpenSeats,
+                                              @RequestParam(required = false) Integer minOwnerLevel,
+                                              @RequestParam(required = false) Integer maxOwnerLevel) {
+        try {
+            return ResponseEntity.ok(chatRoomService.getRoomDirectory(
+                    cursor, limit, gameType, minOpenSeats, minOwnerLevel, maxOwnerLevel));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage()));
+        }
+    }
+
     /** 특정 채팅방 조회 */
     @GetMapping("/{roomId}")
     public List<MemberDto> getChatRoomMembers(@PathVariable String roomId) {
         return chatRoomService.getRoomMembers(roomId);
     }
 
+    /**
+     * 재접속 시 놓친 채팅 메시지 조회
+     * after 에 마지막으로 받은 메시지의 seq 를 주면 그 이후 메시지만 반환합니다.
+     */
+    @GetMapping("/{roomId}/messages")
+    public ResponseEntity<ChatHistoryResponse> getChatHistory(@PathVariable String roomId,
+                                                              @RequestParam(defaultValue = "0") long after) {
+        ChatHistoryResponse response = chatRoomService.getChatHistory(roomId, after);
+        if (response == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(response);
+    }
+
     /** 채팅방 생성 */
     @PostMapping
     public ChatRoomDto createChatRoom(@RequestParam String userId) {
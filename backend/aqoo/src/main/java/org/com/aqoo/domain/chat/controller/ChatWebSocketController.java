@@ -5,6 +5,7 @@ import org.com.aqoo.domain.chat.dto.ChatMessageDto;
 import org.com.aqoo.domain.chat.dto.DropdownStateUpdate;
 import org.com.aqoo.domain.chat.dto.DropdownUpdateMessage;
 import org.com.aqoo.domain.chat.service.ChatRoomService;
+import org.com.aqoo.domain.chat.service.MemberRemovalScheduler;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
@@ -17,12 +18,13 @@ public class ChatWebSocketController {
 
     private final SimpMessagingTemplate messagingTemplate;
     private final ChatRoomService chatRoomService;
+    private final MemberRemovalScheduler memberRemovalScheduler;
 
     /** 채팅 메시지 전송 (사용자 작성 메시지) */
     @MessageMapping("/chat.sendMessage")
     public void sendMessage(ChatMessageDto chatMessage) {
         System.out.println("chat.sendMessage 실행");
-        messagingTemplate.convertAndSend("/topic/" + chatMessage.getRoomId(), chatMessage);
+        chatRoomService.publishChatMessage(chatMessage);
     }
 
     /** 채팅방 참가 */
@@ -30,6 +32,8 @@ public class ChatWebSocketController {
     public void joinRoom(ChatMessageDto chatMessage, SimpMessageHeaderAccessor headerAccessor) {
         System.out.println("chat.joinRoom 실행");
         String originalSender = chatMessage.getSender();
+        // 연결이 끊겼다가 유예 시간 안에 돌아온 경우 제거 예약 취소
+        memberRemovalScheduler.cancelRemoval(chatMessage.getRoomId(), originalSender);
         chatRoomService.addMember(chatMessage.getRoomId(), originalSender);
 
         // 시스템 메시지로 변환하여 참가 알림 전송
@@ -40,7 +44,7 @@ public class ChatWebSocketController {
         headerAccessor.getSessionAttributes().put("userId", originalSender);
         headerAccessor.getSessionAttributes().put("roomId", chatMessage.getRoomId());
 
-        messagingTemplate.convertAndSend("/topic/" + chatMessage.getRoomId(), chatMessage);
+        chatRoomService.publishChatMessage(chatMessage);
 
         // 최신 사용자 목록 브로드캐스트
         chatRoomService.broadcastUserList(chatMessage.getRoomId());
@@ -58,7 +62,7 @@ public class ChatWebSocketController {
         chatMessage.setSender("SYSTEM");
         chatMessage.setContent(originalSender + "님이 준비되셨습니다.");
 
-        messagingTemplate.convertAndSend("/topic/" + chatMessage.getRoomId(), chatMessage);
+        chatRoomService.publishChatMessage(chatMessage);
     }
 
     /** 준비 해제(unready) 처리 */
@@ -73,7 +77,7 @@ public class ChatWebSocketController {
         chatMessage.setSender("SYSTEM");
         chatMessage.setContent(originalSender + "님이 준비해제 되셨습니다.");
 
-        messagingTemplate.convertAndSend("/topic/" + chatMessage.getRoomId(), chatMessage);
+        chatRoomService.publishChatMessage(chatMessage);
     }
 
     /** 채팅방 퇴장 */
@@ -87,7 +91,7 @@ public class ChatWebSocketController {
         chatMessage.setType(ChatMessageDto.MessageType.LEAVE);
         chatMessage.setSender("SYSTEM");
         chatMessage.setContent(originalSender + "님이 퇴장했습니다.");
-        messagingTemplate.convertAndSend("/topic/" + chatMessage.getRoomId(), chatMessage);
+        chatRoomService.publishChatMessage(chatMessage);
 
         // 채팅방 인원이 0명이면 삭제
         if (chatRoomService.isRoomEmpty(chatMessage.getRoomId())) {
@@ -119,13 +123,16 @@ public class ChatWebSocketController {
         kickMessage.setType(ChatMessageDto.MessageType.USER_KICKED);
         kickMessage.setSender("SYSTEM");
         kickMessage.setContent(targetUser + "님이 추방되셨습니다.");
-        messagingTemplate.convertAndSend("/topic/" + chatMessage.getRoomId(), kickMessage);
+        chatRoomService.publishChatMessage(kickMessage);
     }
 
     @MessageMapping("/chat.dropdown")
     public void updateDropdownState(@Payload DropdownUpdateMessage message) {
         // 필요 시 message.sender가 방장인지 검증하는 로직 추가
 
+        // 게임 시작 시 선택된 게임 규칙을 사용하도록 방에 저장
+        chatRoomService.updateGameType(message.getRoomId(), message.getGameType());
+
         // 드롭다운 업데이트 메시지 생성
         DropdownStateUpdate update = new DropdownStateUpdate();
         update.setMessage("GAME_DROPDOWN_UPDATED");
@@ -0,0 +1,20 @@
+package org.com.aqoo.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 재접속 시 놓친 채팅 메시지 응답
+ * - messages 는 요청한 after 보다 큰 seq 의 메시지 (오래된 순)
+ * - truncated 가 true 면 버퍼에서 이미 밀려난 메시지가 있으므로, 클라이언트는 그 구간을 복구할 수 없습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ChatHistoryResponse {
+    private String roomId;
+    private long lastSeq;
+    private boolean truncated;
+    private List<ChatMessageDto> messages;
+}
@@ -15,6 +15,8 @@ public class ChatMessageDto {
     private String content;
     private MessageType type;
     private String targetUser;
+    // 방 단위 메시지 순번 (서버가 /topic/{roomId} 로 보낼 때 부여, 재접속 시 이후 메시지만 다시 받는 데 사용)
+    private long seq;
 
     public enum MessageType {
         CHAT,
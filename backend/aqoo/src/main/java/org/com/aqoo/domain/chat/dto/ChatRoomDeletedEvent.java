@@ -0,0 +1,14 @@
+package org.com.aqoo.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 채팅방이 삭제되었을 때 발행되는 애플리케이션 이벤트
+ * 방에 딸린 다른 도메인 상태(게임 등)를 정리하는 데 사용합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ChatRoomDeletedEvent {
+    private String roomId;
+}
@@ -0,0 +1,19 @@
+package org.com.aqoo.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.com.aqoo.domain.chat.model.RoomListing;
+
+import java.util.List;
+
+/**
+ * 방 목록 한 페이지 (최신순)
+ * nextCursor 를 다음 요청의 cursor 로 넘기면 이어서 조회하며, 더 없으면 null 입니다.
+ * 조건에 맞는 방이 드물면 rooms 가 limit 보다 적어도 nextCursor 가 있을 수 있습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class RoomDirectoryPage {
+    private List<RoomListing> rooms;
+    private String nextCursor;
+}
@@ -0,0 +1,57 @@
+package org.com.aqoo.domain.chat.model;
+
+import org.com.aqoo.domain.chat.dto.ChatMessageDto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 방마다 최근 채팅 메시지를 고정 크기로 보관하는 링 버퍼
+ * - 메시지마다 방 단위로 1씩 증가하는 seq 를 붙이고, 가장 오래된 메시지부터 덮어씁니다.
+ * - 배열은 방 생성 시 한 번만 할당하므로 메시지가 쌓여도 추가 할당이 없습니다.
+ * - 재접속한 클라이언트는 마지막으로 받은 seq 이후의 메시지만 다시 받으면 됩니다.
+ */
+public class ChatHistory {
+
+    private final ChatMessageDto[] buffer;
+    // 마지막으로 발급한 seq (0 이면 아직 메시지 없음), this 로 동기화
+    private long lastSeq;
+
+    public ChatHistory(int capacity) {
+        this.buffer = new ChatMessageDto[Math.max(1, capacity)];
+    }
+
+    /** seq 를 발급해서 메시지에 기록하고 버퍼에 저장 */
+    public synchronized long append(ChatMessageDto message) {
+        long seq = ++lastSeq;
+        message.setSeq(seq);
+        buffer[(int) (seq % buffer.length)] = message;
+        return seq;
+    }
+
+    public synchronized long getLastSeq() {
+        return lastSeq;
+    }
+
+    /** 버퍼에 남아 있는 가장 오래된 seq */
+    public synchronized long getFirstSeq() {
+        return Math.max(1, lastSeq - buffer.length + 1);
+    }
+
+    /** afterSeq 보다 큰 seq 의 메시지를 오래된 순서로 반환 (버퍼에서 밀려난 메시지는 제외) */
+    public synchronized List<ChatMessageDto> since(long afterSeq) {
+        // 마지막 seq 이상이면 보낼 것이 없음 (afterSeq + 1 이 넘치는 Long.MAX_VALUE 포함)
+        if (afterSeq >= lastSeq) {
+            return List.of();
+        }
+        long from = Math.max(afterSeq + 1, lastSeq - buffer.length + 1);
+        if (from > lastSeq) {
+            return List.of();
+        }
+        List<ChatMessageDto> messages = new ArrayList<>((int) (lastSeq - from + 1));
+        for (long seq = Math.max(1, from); seq <= lastSeq; seq++) {
+            messages.add(buffer[(int) (seq % buffer.length)]);
+        }
+        return messages;
+    }
+}
@@ -5,6 +5,7 @@ import lombok.Setter;
 
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Getter
 @Setter
@@ -13,13 +14,17 @@ public class ChatRoom {
     private String ownerId;      // 채팅방 생성자 (유저 ID)
     private Set<String> members; // 채팅방에 참가한 유저 목록
     private Set<String> readyMembers; // 게임 준비 상태를 표시한 사용자 목록
+    private volatile String gameType; // 방장이 드롭다운에서 고른 게임 종류 (null 이면 기본 게임)
+    private final AtomicBoolean userListScheduled = new AtomicBoolean(false); // USER_LIST 전송이 이미 예약되어 있는지
+    private final ChatHistory history; // 최근 채팅 메시지 (재접속 시 놓친 메시지 복구용)
 
-    public ChatRoom(String id, String ownerId) {
+    public ChatRoom(String id, String ownerId, int historyCapacity) {
         this.id = id;
         this.ownerId = ownerId;
         this.members = ConcurrentHashMap.newKeySet();
         this.members.add(ownerId); // 방을 만든 유저를 자동으로 추가
         this.readyMembers = ConcurrentHashMap.newKeySet();
+        this.history = new ChatHistory(historyCapacity);
         // 방장은 준비 버튼 없이 게임 시작 버튼을 사용하므로 자동으로 readyMembers에 포함하지 않습니다.
     }
 
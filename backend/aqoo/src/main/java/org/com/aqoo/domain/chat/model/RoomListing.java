@@ -0,0 +1,24 @@
+package org.com.aqoo.domain.chat.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 방 목록(로비)에 보여줄 방 정보 스냅샷 (RoomDirectory 의 색인 단위, 불변)
+ */
+@Getter
+@AllArgsConstructor
+public class RoomListing {
+    // 방이 목록에 처음 올라간 순서 (최신순 정렬과 커서에 사용)
+    @JsonIgnore
+    private final long seq;
+    private final String roomId;
+    private final String ownerId;
+    private final String ownerNickname;
+    private final int ownerLevel;
+    // 방장이 고른 게임 종류 (고르지 않았으면 기본 게임)
+    private final String gameType;
+    private final int memberCount;
+    private final int openSeats;
+}
@@ -1,14 +1,23 @@
 package org.com.aqoo.domain.chat.service;
 
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
-import org.com.aqoo.domain.auth.dto.UserInfoResponse;
-import org.com.aqoo.domain.auth.service.UserService;
+import lombok.extern.slf4j.Slf4j;
+import org.com.aqoo.domain.auth.dto.UserProfile;
+import org.com.aqoo.domain.auth.service.UserProfileDirectory;
+import org.com.aqoo.domain.chat.dto.ChatHistoryResponse;
+import org.com.aqoo.domain.chat.dto.ChatMessageDto;
+import org.com.aqoo.domain.chat.dto.ChatRoomDeletedEvent;
 import org.com.aqoo.domain.chat.dto.InviteRequest;
 import org.com.aqoo.domain.chat.dto.MemberDto;
+import org.com.aqoo.domain.chat.dto.RoomDirectoryPage;
 import org.com.aqoo.domain.chat.dto.RoomUpdate;
+import org.com.aqoo.domain.chat.model.ChatHistory;
 import org.com.aqoo.domain.chat.model.ChatRoom;
 import org.com.aqoo.domain.push.dto.PushRequest;
 import org.com.aqoo.domain.push.service.PushService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
@@ -17,8 +26,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChatRoomService {
@@ -26,8 +39,26 @@ public class ChatRoomService {
     private final Map<String, ChatRoom> chatRooms = new ConcurrentHashMap<>();
     // messagingTemplate을 이용하여 각종 메시지를 브로드캐스트
     private final SimpMessagingTemplate messagingTemplate;
-    private final UserService userService;
+    private final UserProfileDirectory profileDirectory;
     private final PushService pushService;
+    private final ApplicationEventPublisher eventPublisher;
+    // 로비 방 목록 색인 (방이 바뀔 때마다 reindex)
+    private final RoomDirectory roomDirectory;
+
+    // USER_LIST 디바운스 창 (ms) - 이 시간 안에 일어난 입장/준비/퇴장은 USER_LIST 한 번으로 합쳐서 전송 (0 이하면 즉시 전송)
+    @Value("${chat.user-list.debounce-ms:100}")
+    private long userListDebounceMs;
+
+    // 방마다 보관할 최근 채팅 메시지 수 (재접속 시 놓친 메시지 복구용)
+    @Value("${chat.history.capacity:100}")
+    private int chatHistoryCapacity;
+
+    // 디바운스된 USER_LIST 를 보내는 스레드
+    private final ScheduledExecutorService userListScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "user-list-debounce");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     /** 모든 채팅방 목록 조회 */
     public List<ChatRoom> getAllRooms() {
@@ -37,8 +68,9 @@ public class ChatRoomService {
     /** 채팅방 생성 */
     public ChatRoom createRoom(String ownerId) {
         String roomId = UUID.randomUUID().toString();
-        ChatRoom room = new ChatRoom(roomId, ownerId);
+        ChatRoom room = new ChatRoom(roomId, ownerId, chatHistoryCapacity);
         chatRooms.put(roomId, room);
+        reindex(room);
         System.out.println("Created room: " + roomId);
         return room;
     }
@@ -56,6 +88,7 @@ public class ChatRoomService {
             throw new IllegalStateException("해당 채팅방은 존재하지 않거나 이미 삭제되었습니다.");
         }
         room.addMember(userId);
+        reindex(room);
         broadcastUserList(roomId);
     }
 
@@ -74,6 +107,7 @@ public class ChatRoomService {
             } else {
                 room.removeMember(userId);
             }
+            reindex(room);
         }
         // 준비 상태에서도 해당 사용자 제거
         unmarkReady(roomId, userId);
@@ -86,12 +120,55 @@ public class ChatRoomService {
         return room != null && room.isEmpty();
     }
 
-    /** 채팅방 삭제 */
+    /** 채팅방 삭제 (방에 딸린 게임 상태도 함께 정리되도록 이벤트 발행) */
     public void deleteRoom(String roomId) {
-        chatRooms.remove(roomId);
+        if (chatRooms.remove(roomId) != null) {
+            roomDirectory.remove(roomId);
+            eventPublisher.publishEvent(new ChatRoomDeletedEvent(roomId));
+        }
         System.out.println("채팅방 " + roomId + " 삭제됨");
     }
 
+    /**
+     * 채팅 메시지를 방 기록에 남기고 /topic/{roomId} 로 브로드캐스트
+     * - seq 발급과 전송을 같은 락 안에서 처리해서, 클라이언트가 seq 순서대로 받도록 합니다.
+     * - 이미 삭제된 방이면 기록 없이 전송만 합니다.
+     */
+    public void publishChatMessage(ChatMessageDto message) {
+        String destination = "/topic/" + message.getRoomId();
+        ChatRoom room = chatRooms.get(message.getRoomId());
+        if (room == null) {
+            messagingTemplate.convertAndSend(destination, message);
+            return;
+        }
+        ChatHistory history = room.getHistory();
+        synchronized (history) {
+            history.append(message);
+            messagingTemplate.convertAndSend(destination, message);
+        }
+    }
+
+    /**
+     * 재접속한 클라이언트가 놓친 채팅 메시지 조회
+     *
+     * @param afterSeq 클라이언트가 마지막으로 받은 seq (처음이면 0)
+     * @return 방이 없으면 null
+     */
+    public ChatHistoryResponse getChatHistory(String roomId, long afterSeq) {
+        ChatRoom room = getRoom(roomId);
+        if (room == null) {
+            return null;
+        }
+        ChatHistory history = room.getHistory();
+        synchronized (history) {
+            // 음수나 마지막 seq 보다 큰 값은 범위 안으로 (after + 1 이 넘치지 않도록)
+            long after = Math.max(0, Math.min(afterSeq, history.getLastSeq()));
+            List<ChatMessageDto> messages = history.since(after);
+            boolean truncated = after + 1 < history.getFirstSeq() && history.getLastSeq() > 0;
+            return new ChatHistoryResponse(roomId, history.getLastSeq(), truncated, messages);
+        }
+    }
+
     /** 준비 상태 표시: 해당 채팅방에서 사용자가 준비되었다고 표시 */
     public void markReady(String roomId, String userId) {
         ChatRoom room = chatRooms.get(roomId);
@@ -110,20 +187,72 @@ public class ChatRoomService {
         }
     }
 
+    /** 방장이 드롭다운에서 고른 게임 종류 저장 (게임 시작 시 GameEngine 선택에 사용) */
+    public void updateGameType(String roomId, String gameType) {
+        ChatRoom room = chatRooms.get(roomId);
+        if (room != null) {
+            room.setGameType(gameType);
+            reindex(room);
+        }
+    }
+
+    /** 로비 방 목록 한 페이지 (RoomDirectory 색인에서 조회) */
+    public RoomDirectoryPage getRoomDirectory(String cursor, int limit, String gameType, Integer minOpenSeats,
+                                              Integer minOwnerLevel, Integer maxOwnerLevel) {
+        return roomDirectory.page(cursor, limit, gameType, minOpenSeats, minOwnerLevel, maxOwnerLevel);
+    }
+
+    // 방 목록 색인 갱신 (그 사이 삭제된 방이면 무시)
+    private void reindex(ChatRoom room) {
+        roomDirectory.upsert(room, () -> chatRooms.get(room.getId()) == room);
+    }
+
     /** 모든 멤버가 준비되었는지 확인 */
     public boolean areAllReady(String roomId) {
         ChatRoom room = chatRooms.get(roomId);
         return room != null && room.areAllReady();
     }
 
-    /** USER_LIST 메시지를 생성하고 브로드캐스트 */
+    /**
+     * USER_LIST 브로드캐스트 예약
+     * - 디바운스 창 안에서 여러 번 호출되어도 창이 끝날 때 그 시점의 최신 목록으로 한 번만 전송
+     */
     public void broadcastUserList(String roomId) {
-        RoomUpdate update = createUserListUpdate(roomId);
-        if (update != null) {
-            messagingTemplate.convertAndSend("/topic/room/" + roomId, update);
+        ChatRoom room = chatRooms.get(roomId);
+        if (room == null) {
+            return;
+        }
+        if (userListDebounceMs <= 0) {
+            sendUserList(room);
+            return;
+        }
+        if (room.getUserListScheduled().compareAndSet(false, true)) {
+            userListScheduler.schedule(() -> sendUserList(room), userListDebounceMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void sendUserList(ChatRoom room) {
+        // 목록을 만들기 전에 플래그를 내려서, 만드는 도중의 변경은 다음 창에서 다시 전송되도록 함
+        room.getUserListScheduled().set(false);
+        // 그 사이 삭제된 방이면 전송하지 않음
+        if (chatRooms.get(room.getId()) != room) {
+            return;
+        }
+        try {
+            RoomUpdate update = createUserListUpdate(room.getId());
+            if (update != null) {
+                messagingTemplate.convertAndSend("/topic/room/" + room.getId(), update);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to broadcast USER_LIST for roomId: {}", room.getId(), e);
         }
     }
 
+    @PreDestroy
+    public void shutdown() {
+        userListScheduler.shutdownNow();
+    }
+
     /** 게임 종료 후 사용자 준비 상태 전원 해제 */
     public void clearReadyStatus(String roomId) {
         ChatRoom room = getRoom(roomId);
@@ -141,20 +270,20 @@ public class ChatRoomService {
         return room != null && room.getMembers().contains(userId);
     }
 
-    /** 최신 사용자 목록을 생성하여 RoomUpdate로 반환 */
+    /** 최신 사용자 목록을 생성하여 RoomUpdate로 반환 (멤버 프로필은 프로필 캐시에서 한 번에 조회) */
     public RoomUpdate createUserListUpdate(String roomId) {
         ChatRoom room = getRoom(roomId);
         if (room != null) {
             System.out.println("RoomUpdate 실행");
-            List<RoomUpdate.UserInfo> userList = room.getMembers().stream()
+            List<String> members = List.copyOf(room.getMembers());
+            Map<String, UserProfile> profiles = profileDirectory.getAll(members);
+            List<RoomUpdate.UserInfo> userList = members.stream()
                     .map(userId -> {
                         boolean isHost = userId.equals(room.getOwnerId());
                         boolean ready = room.getReadyMembers().contains(userId);
-                        UserInfoResponse tmpUser = userService.getUserInfo(userId);
-                        String mainFishImage = tmpUser.getMainFishImage();
-                        String nickname = tmpUser.getNickname();  // nickname 정보 추가
-                        int level = tmpUser.getLevel();
-                        return new RoomUpdate.UserInfo(userId, nickname, ready, isHost, mainFishImage, level);
+                        UserProfile profile = profiles.get(userId);
+                        return new RoomUpdate.UserInfo(userId, profile.getNickname(), ready, isHost,
+                                profile.getMainFishImage(), profile.getLevel());
                     })
                     .collect(Collectors.toList());
             return new RoomUpdate(roomId, "USER_LIST", userList);
@@ -212,15 +341,14 @@ public class ChatRoomService {
             throw new RuntimeException("채팅방이 존재하지 않습니다. roomId: " + roomId);
         }
         // room.getMembers()는 Set<String> (사용자 ID 목록)라고 가정합니다.
-        List<MemberDto> memberDtos = room.getMembers().stream()
+        // 멤버 프로필은 프로필 캐시에서 한 번에 조회 (캐시에 없는 멤버만 IN 쿼리 한 번)
+        List<String> members = List.copyOf(room.getMembers());
+        Map<String, UserProfile> profiles = profileDirectory.getAll(members);
+        List<MemberDto> memberDtos = members.stream()
                 .map(userId -> {
-                    // userService를 통해 해당 사용자 정보를 조회 (nickname, mainFishImage 등)
-                    UserInfoResponse userInfo = userService.getUserInfo(userId);
-                    String nickname = userInfo.getNickname();
-                    String mainFishImage = userInfo.getMainFishImage();
+                    UserProfile profile = profiles.get(userId);
                     boolean isHost = userId.equals(room.getOwnerId());
-                    int level = userInfo.getLevel();
-                    return new MemberDto(userId, nickname, mainFishImage, isHost, level);
+                    return new MemberDto(userId, profile.getNickname(), profile.getMainFishImage(), isHost, profile.getLevel());
                 })
                 .collect(Collectors.toList());
         return memberDtos;
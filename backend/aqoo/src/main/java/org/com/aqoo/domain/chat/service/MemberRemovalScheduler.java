@@ -0,0 +1,151 @@
+package org.com.aqoo.domain.chat.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.com.aqoo.util.HashedWheelTimer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 연결이 끊긴 사용자를 유예 시간 뒤에 채팅방에서 제거하는 예약 관리
+ * - 모든 예약은 애플리케이션 공유 HashedWheelTimer 하나로 처리하므로, 재접속 폭주에도 스레드가 늘지 않습니다.
+ * - 유예 시간 안에 같은 사용자가 같은 방에 다시 들어오면 예약을 취소합니다.
+ * - 만료 시에는 기존과 같이 ChatRoomService.isUserReconnected 로 한 번 더 확인한 뒤 제거합니다.
+ * - 실제 제거(방 목록 재색인, 프로필 조회, 방 삭제 이벤트)는 별도 풀에서 실행하여 타이머 스레드가 다른 예약을 늦추지 않게 합니다.
+ */
+@Slf4j
+@Component
+public class MemberRemovalScheduler {
+
+    private final ChatRoomService chatRoomService;
+    private final HashedWheelTimer timer;
+    private final long graceSeconds;
+
+    // "roomId:userId" -> 제거 예약 (맵에 남아 있는 예약만 실제로 실행됨)
+    private final Map<String, PendingRemoval> pendingRemovals = new ConcurrentHashMap<>();
+
+    // 만료된 예약의 제거 작업을 실행하는 스레드 풀
+    private final ExecutorService removalExecutor;
+
+    private final Counter removedCounter;
+    private final Counter cancelledCounter;
+
+    public MemberRemovalScheduler(ChatRoomService chatRoomService,
+                                  HashedWheelTimer timer,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${chat.disconnect-grace-seconds:5}") long graceSeconds,
+                                  @Value("${chat.disconnect-removal-threads:2}") int removalThreads) {
+        this.chatRoomService = chatRoomService;
+        this.timer = timer;
+        this.graceSeconds = graceSeconds;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.removalExecutor = Executors.newFixedThreadPool(Math.max(1, removalThreads), runnable -> {
+            Thread thread = new Thread(runnable, "member-removal-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.removedCounter = Counter.builder("chat.disconnect.removals")
+                .description("Members removed after the disconnect grace period")
+                .tag("result", "removed")
+                .register(meterRegistry);
+        this.cancelledCounter = Counter.builder("chat.disconnect.removals")
+                .description("Pending removals cancelled because the member re-joined")
+                .tag("result", "cancelled")
+                .register(meterRegistry);
+        Gauge.builder("chat.disconnect.pending", pendingRemovals, Map::size)
+                .description("Members waiting for the disconnect grace period to expire")
+                .register(meterRegistry);
+    }
+
+    /** 유예 시간 뒤 제거 예약 (이미 예약되어 있으면 새 예약으로 교체) */
+    public void scheduleRemoval(String roomId, String userId) {
+        PendingRemoval removal = new PendingRemoval(roomId, userId);
+        PendingRemoval previous = pendingRemovals.put(removal.key, removal);
+        if (previous != null) {
+            previous.cancel();
+        }
+        removal.timeout = timer.schedule(removal, graceSeconds, TimeUnit.SECONDS);
+    }
+
+    /** 같은 방에 다시 들어온 사용자의 제거 예약 취소 */
+    public void cancelRemoval(String roomId, String userId) {
+        PendingRemoval pending = pendingRemovals.remove(key(roomId, userId));
+        if (pending != null) {
+            pending.cancel();
+            cancelledCounter.increment();
+        }
+    }
+
+    public int pendingRemovals() {
+        return pendingRemovals.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        removalExecutor.shutdownNow();
+    }
+
+    // removalExecutor 에서 실행 (DB 조회와 동기 이벤트 발행이 있을 수 있음)
+    private void removeMember(String roomId, String userId) {
+        try {
+            if (chatRoomService.isUserReconnected(roomId, userId)) {
+                return;
+            }
+            chatRoomService.removeMember(roomId, userId);
+            removedCounter.increment();
+            if (chatRoomService.isRoomEmpty(roomId)) {
+                chatRoomService.deleteRoom(roomId);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to remove disconnected member {} from roomId: {}", userId, roomId, e);
+        }
+    }
+
+    private static String key(String roomId, String userId) {
+        return roomId + ":" + userId;
+    }
+
+    private final class PendingRemoval implements Runnable {
+        private final String roomId;
+        private final String userId;
+        private final String key;
+        private volatile HashedWheelTimer.Timeout timeout;
+
+        private PendingRemoval(String roomId, String userId) {
+            this.roomId = roomId;
+            this.userId = userId;
+            this.key = key(roomId, userId);
+        }
+
+        @Override
+        public void run() {
+            // 그 사이 재입장으로 취소되었거나 새 예약으로 교체되었으면 무시
+            // 타이머 스레드에서는 예약만 정리하고 제거 작업은 풀로 넘김
+            if (pendingRemovals.remove(key, this)) {
+                try {
+                    removalExecutor.execute(() -> removeMember(roomId, userId));
+                } catch (RejectedExecutionException e) {
+                    log.warn("Dropped removal of {} from roomId: {} during shutdown", userId, roomId);
+                }
+            }
+        }
+
+        private void cancel() {
+            HashedWheelTimer.Timeout scheduled = timeout;
+            if (scheduled != null) {
+                scheduled.cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package org.com.aqoo.domain.chat.service;
+
+import org.com.aqoo.domain.auth.dto.UserProfile;
+import org.com.aqoo.domain.auth.service.UserProfileDirectory;
+import org.com.aqoo.domain.chat.dto.RoomDirectoryPage;
+import org.com.aqoo.domain.chat.model.ChatRoom;
+import org.com.aqoo.domain.chat.model.RoomListing;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+/**
+ * 로비 방 목록용 색인
+ * - 방이 바뀔 때마다(생성, 입장, 퇴장, 게임 종류 변경, 삭제) ChatRoomService 가 upsert / remove 로 색인을 갱신합니다.
+ * - 최신순 색인 외에 게임 종류별, 빈 자리 수별 보조 색인을 두고, 조건이 있으면 해당 색인에서 바로 읽습니다.
+ * - 한 페이지를 만들 때 최대 limit * SCAN_FACTOR 개만 확인하므로, 방이 50개든 5만 개든 요청 비용이 같습니다.
+ *   (색인이 없는 조건인 방장 레벨만 확인한 방 중에서 걸러냅니다)
+ * - 게임 종류는 클라이언트가 고른 값(Game, gameA, gameB 등) 그대로 색인합니다. 여러 종류가 같은 GameEngine 을 쓰더라도 로비에서는 구분됩니다.
+ * - 방장 레벨은 방이 바뀔 때의 값입니다.
+ */
+@Component
+public class RoomDirectory {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // 한 페이지를 만들 때 확인할 최대 방 수 = limit * SCAN_FACTOR
+    private static final int SCAN_FACTOR = 20;
+
+    // 게임 종류를 아직 고르지 않은 방 (클라이언트 드롭다운의 기본값과 같음)
+    static final String DEFAULT_GAME_TYPE = "Game";
+
+    // 최신순 (seq 내림차순)
+    private static final Comparator<Long> NEWEST_FIRST = Comparator.reverseOrder();
+
+    private final UserProfileDirectory profileDirectory;
+    private final int maxMembers;
+
+    private long sequence;
+    private final Map<String, RoomListing> byRoomId = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, RoomListing> byRecency = new ConcurrentSkipListMap<>(NEWEST_FIRST);
+    private final Map<String, ConcurrentSkipListMap<Long, RoomListing>> byGameType = new ConcurrentHashMap<>();
+    // 빈 자리 수 -> 방 (빈 자리가 없는 방은 0 에 들어감)
+    private final ConcurrentSkipListMap<Integer, ConcurrentSkipListMap<Long, RoomListing>> byOpenSeats = new ConcurrentSkipListMap<>();
+
+    public RoomDirectory(UserProfileDirectory profileDirectory,
+                         @Value("${chat.room.max-members:6}") int maxMembers) {
+        this.profileDirectory = profileDirectory;
+        this.maxMembers = maxMembers;
+    }
+
+    /**
+     * 방 정보를 색인에 반영
+     *
+     * 방 상태(인원, 게임 종류, 방장)는 락 안에서 읽으므로, 동시에 여러 번 호출되어도 마지막으로 색인된 값이 최신 상태입니다.
+     *
+     * @param live 색인을 갱신하는 시점에도 방이 살아 있는지 (삭제된 방이 다시 올라가지 않도록 락 안에서 확인)
+     */
+    public void upsert(ChatRoom room, BooleanSupplier live) {
+        while (true) {
+            // 프로필 조회(캐시 미스 시 DB)는 락 밖에서
+            String ownerId = room.getOwnerId();
+            UserProfile owner = profileDirectory.get(ownerId);
+            synchronized (this) {
+                if (!live.getAsBoolean()) {
+                    return;
+                }
+                // 조회하는 사이 방장이 바뀌었으면 새 방장으로 다시 조회
+                if (!Objects.equals(ownerId, room.getOwnerId())) {
+                    continue;
+                }
+                index(room, owner);
+                return;
+            }
+        }
+    }
+
+    // upsert 의 락 안에서 호출
+    private void index(ChatRoom room, UserProfile owner) {
+        String gameType = gameTypeOf(room.getGameType());
+        int memberCount = room.getMembers().size();
+        RoomListing previous = byRoomId.get(room.getId());
+        long seq = previous != null ? previous.getSeq() : ++sequence;
+        RoomListing listing = new RoomListing(seq, room.getId(), room.getOwnerId(), owner.getNickname(),
+                owner.getLevel(), gameType, memberCount, Math.max(0, maxMembers - memberCount));
+        if (previous != null) {
+            unindex(previous);
+        }
+        byRoomId.put(listing.getRoomId(), listing);
+        byRecency.put(seq, listing);
+        byGameType.computeIfAbsent(gameType, key -> new ConcurrentSkipListMap<>(NEWEST_FIRST)).put(seq, listing);
+        byOpenSeats.computeIfAbsent(listing.getOpenSeats(), key -> new ConcurrentSkipListMap<>(NEWEST_FIRST)).put(seq, listing);
+    }
+
+    public synchronized void remove(String roomId) {
+        RoomListing previous = byRoomId.remove(roomId);
+        if (previous != null) {
+            unindex(previous);
+        }
+    }
+
+    /**
+     * 최신순 방 목록 한 페이지
+     *
+     * @param cursor        이전 페이지의 nextCursor (처음이면 null)
+     * @param gameType      게임 종류 (null 이면 전체)
+     * @param minOpenSeats  최소 빈 자리 수 (null 이면 전체)
+     * @param minOwnerLevel 방장 최소 레벨 (null 이면 제한 없음)
+     * @param maxOwnerLevel 방장 최대 레벨 (null 이면 제한 없음)
+     */
+    public RoomDirectoryPage page(String cursor, int limit, String gameType, Integer minOpenSeats,
+                                  Integer minOwnerLevel, Integer maxOwnerLevel) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        long after = parseCursor(cursor);
+        String gameTypeKey = gameType == null || gameType.isBlank() ? null : gameType;
+
+        // 조건 중 색인이 있는 것으로 읽고, 나머지 조건은 확인하면서 거름
+        Iterator<RoomListing> candidates;
+        if (gameTypeKey != null) {
+            ConcurrentSkipListMap<Long, RoomListing> index = byGameType.get(gameTypeKey);
+            candidates = index == null ? List.<RoomListing>of().iterator() : olderThan(index, after).values().iterator();
+        } else if (minOpenSeats != null && minOpenSeats > 0) {
+            candidates = mergeNewestFirst(byOpenSeats.tailMap(minOpenSeats, true).values(), after);
+        } else {
+            candidates = olderThan(byRecency, after).values().iterator();
+        }
+
+        Predicate<RoomListing> filter = listing ->
+                (gameTypeKey == null || gameTypeKey.equals(listing.getGameType()))
+                        && (minOpenSeats == null || listing.getOpenSeats() >= minOpenSeats)
+                        && (minOwnerLevel == null || listing.getOwnerLevel() >= minOwnerLevel)
+                        && (maxOwnerLevel == null || listing.getOwnerLevel() <= maxOwnerLevel);
+
+        List<RoomListing> rooms = new ArrayList<>(pageSize);
+        int scanLimit = pageSize * SCAN_FACTOR;
+        int scanned = 0;
+        RoomListing last = null;
+        while (rooms.size() < pageSize && scanned < scanLimit && candidates.hasNext()) {
+            RoomListing listing = candidates.next();
+            scanned++;
+            last = listing;
+            if (filter.test(listing)) {
+                rooms.add(listing);
+            }
+        }
+        String nextCursor = last != null && candidates.hasNext() ? Long.toString(last.getSeq()) : null;
+        return new RoomDirectoryPage(rooms, nextCursor);
+    }
+
+    public int size() {
+        return byRoomId.size();
+    }
+
+    private void unindex(RoomListing listing) {
+        byRecency.remove(listing.getSeq(), listing);
+        removeFrom(byGameType.get(listing.getGameType()), listing);
+        removeFrom(byOpenSeats.get(listing.getOpenSeats()), listing);
+    }
+
+    private static void removeFrom(ConcurrentSkipListMap<Long, RoomListing> index, RoomListing listing) {
+        if (index != null) {
+            index.remove(listing.getSeq(), listing);
+        }
+    }
+
+    // 최신순 색인에서 커서보다 오래된 부분
+    private static NavigableMap<Long, RoomListing> olderThan(ConcurrentSkipListMap<Long, RoomListing> index, long after) {
+        return after == Long.MAX_VALUE ? index : index.tailMap(after, false);
+    }
+
+    // 여러 최신순 색인을 하나의 최신순 흐름으로 합침 (빈 자리 수 버킷은 최대 인원 수만큼만 있음)
+    private static Iterator<RoomListing> mergeNewestFirst(Iterable<ConcurrentSkipListMap<Long, RoomListing>> indexes, long after) {
+        PriorityQueue<PeekingIterator> heads = new PriorityQueue<>(
+                Comparator.comparingLong((PeekingIterator head) -> head.peek().getSeq()).reversed());
+        for (ConcurrentSkipListMap<Long, RoomListing> index : indexes) {
+            Iterator<RoomListing> iterator = olderThan(index, after).values().iterator();
+            if (iterator.hasNext()) {
+                heads.add(new PeekingIterator(iterator));
+            }
+        }
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !heads.isEmpty();
+            }
+
+            @Override
+            public RoomListing next() {
+                PeekingIterator head = heads.poll();
+                RoomListing listing = head.next();
+                if (head.hasNext()) {
+                    heads.add(head);
+                }
+                return listing;
+            }
+        };
+    }
+
+    private static String gameTypeOf(String gameType) {
+        return gameType == null || gameType.isBlank() ? DEFAULT_GAME_TYPE : gameType;
+    }
+
+    private static long parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 cursor 입니다: " + cursor);
+        }
+    }
+
+    private static final class PeekingIterator {
+        private final Iterator<RoomListing> iterator;
+        private RoomListing next;
+
+        private PeekingIterator(Iterator<RoomListing> iterator) {
+            this.iterator = iterator;
+            this.next = iterator.next();
+        }
+
+        private RoomListing peek() {
+            return next;
+        }
+
+        private boolean hasNext() {
+            return next != null;
+        }
+
+        private RoomListing next() {
+            RoomListing current = next;
+            next = iterator.hasNext() ? iterator.next() : null;
+            return current;
+        }
+    }
+}
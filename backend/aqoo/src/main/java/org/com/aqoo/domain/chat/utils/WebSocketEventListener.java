@@ -2,20 +2,16 @@ package org.com.aqoo.domain.chat.utils;
 
 import lombok.RequiredArgsConstructor;
 import org.com.aqoo.domain.chat.dto.ChatMessageDto;
-import org.com.aqoo.domain.chat.dto.RoomUpdate;
 import org.com.aqoo.domain.chat.service.ChatRoomService;
+import org.com.aqoo.domain.chat.service.MemberRemovalScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.event.EventListener;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 import org.springframework.web.socket.messaging.SessionSubscribeEvent;
 
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 @Component
 @RequiredArgsConstructor
@@ -23,12 +19,12 @@ public class WebSocketEventListener {
 
     private static final Logger logger = LoggerFactory.getLogger(WebSocketEventListener.class);
 
-    private final SimpMessagingTemplate messagingTemplate;
     private final ChatRoomService chatRoomService;
+    private final MemberRemovalScheduler memberRemovalScheduler;
 
     /**
      * WebSocket 연결이 끊어졌을 때 실행되는 이벤트 리스너
-     * (이벤트 발생 시, 일정 그레이스 기간(예: 10초) 후에 재연결 여부를 확인하고, 재연결되지 않았다면 사용자를 제거)
+     * (이벤트 발생 시, 일정 그레이스 기간(기본 5초) 후에 재연결 여부를 확인하고, 재연결되지 않았다면 사용자를 제거)
      */
     @EventListener
     public void handleWebSocketDisconnectListener(SessionDisconnectEvent event) {
@@ -53,24 +49,16 @@ public class WebSocketEventListener {
         if (userId != null && roomId != null) {
 //            logger.info("사용자 {}의 WebSocket 연결이 끊겼습니다.", userId);
 
-            // 그레이스 기간(10초) 후 재연결 여부 확인 후 최종 제거
-            ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
-            scheduler.schedule(() -> {
-                if (!chatRoomService.isUserReconnected(roomId, userId)) { // isUserReconnected 메서드 구현 필요
-                    chatRoomService.removeMember(roomId, userId);
-//                    logger.info("사용자 {}가 최종적으로 제거되었습니다.", userId);
-
-                    if (chatRoomService.isRoomEmpty(roomId)) {
-                        chatRoomService.deleteRoom(roomId);
-                    }
-                }
-            }, 5, TimeUnit.SECONDS);
+            // 그레이스 기간 후 재연결 여부 확인 후 최종 제거 (그 안에 다시 입장하면 joinRoom 에서 예약 취소)
+            memberRemovalScheduler.scheduleRemoval(roomId, userId);
         }
     }
 
     /**
      * 클라이언트가 "/topic/room/{roomId}"를 구독할 때마다 최신 USER_LIST 메시지를 브로드캐스트합니다.
      * 이 방식은 새 구독자가 생기면 해당 채널을 구독 중인 모든 클라이언트가 사용자 목록을 갱신하도록 합니다.
+     * 여러 명이 한꺼번에 구독해도 디바운스 창 안에서는 USER_LIST 한 번으로 합쳐집니다.
+     * 게임 점수판 복구(GAME_SYNC)는 클라이언트가 /app/game.sync 로 직접 요청하며, 요청한 세션에만 전송됩니다.
      */
     @EventListener
     public void handleSessionSubscribeEvent(SessionSubscribeEvent event) {
@@ -83,11 +71,7 @@ public class WebSocketEventListener {
             if (parts.length >= 3) {
                 String roomId = parts[parts.length - 1];  // 마지막 부분이 roomId
 //                logger.info("새 구독자가 생겼습니다. Destination: {}. 방 {}의 최신 사용자 목록을 브로드캐스트합니다.", destination, roomId);
-                RoomUpdate update = chatRoomService.createUserListUpdate(roomId);
-                if (update != null) {
-                    // 모든 클라이언트가 해당 채널을 구독 중이므로, convertAndSend를 사용하여 브로드캐스트합니다.
-                    messagingTemplate.convertAndSend("/topic/room/" + roomId, update);
-                }
+                chatRoomService.broadcastUserList(roomId);
             }
         }
     }
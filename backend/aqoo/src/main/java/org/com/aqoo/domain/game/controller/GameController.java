@@ -4,10 +4,12 @@ import lombok.RequiredArgsConstructor;
 import org.com.aqoo.domain.game.dto.EndGameMessage;
 import org.com.aqoo.domain.game.dto.PressMessage;
 import org.com.aqoo.domain.game.dto.StartGameMessage;
+import org.com.aqoo.domain.game.dto.SyncGameMessage;
 import org.com.aqoo.domain.game.dto.RoomResponse;
 import org.com.aqoo.domain.game.service.GameService;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.stereotype.Controller;
 
 @Controller
@@ -36,6 +38,16 @@ public class GameController {
         gameService.processPress(message);
     }
 
+    /**
+     * 전체 점수 재전송 요청 처리 (GAME_SYNC)
+     * 클라이언트는 게임 화면에 들어왔을 때와 SCORE_DELTA 의 seq 가 이어지지 않을 때 /app/game.sync 로 메시지를 전송
+     * 응답은 요청한 세션의 /user/queue/game 으로만 전송
+     */
+    @MessageMapping("/game.sync")
+    public void syncGame(@Payload SyncGameMessage message, SimpMessageHeaderAccessor headerAccessor) {
+        gameService.resync(message.getRoomId(), headerAccessor.getSessionId());
+    }
+
     /**
      * 타임아웃 등으로 게임 종료 요청 처리
      * 클라이언트는 /app/game.end 로 메시지를 전송
@@ -0,0 +1,29 @@
+package org.com.aqoo.domain.game.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.com.aqoo.domain.game.dto.PressStatsResponse;
+import org.com.aqoo.domain.game.service.GameService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/games")
+@RequiredArgsConstructor
+public class GameStatsController {
+
+    private final GameService gameService;
+
+    /**
+     * 진행 중인 게임의 참가자별 탭 허용/거부 수 조회
+     * 게임이 없거나 이미 끝났으면 404
+     */
+    @GetMapping("/{roomId}/press-stats")
+    public ResponseEntity<PressStatsResponse> getPressStats(@PathVariable String roomId) {
+        return gameService.getPressStats(roomId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,27 @@
+package org.com.aqoo.domain.game.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 진행 중인 게임의 탭 허용/거부 집계 (속도 제한 확인용)
+ */
+@Getter
+@AllArgsConstructor
+public class PressStatsResponse {
+    private String roomId;
+    private String state;
+    private long acceptedPresses;
+    private long rejectedPresses;
+    private List<PlayerPressStats> players;
+
+    @Getter
+    @AllArgsConstructor
+    public static class PlayerPressStats {
+        private String userName;
+        private long accepted;
+        private long rejected;
+    }
+}
@@ -18,4 +18,10 @@ public class RoomResponse {
     private String winner;
     // 전체 순위(100에 도달한 순서대로의 사용자 목록)를 전달하기 위한 필드
     private List<String> finishOrder;
+    // 이 프레임이 반영하고 있는 마지막 SCORE_DELTA 의 seq (이후 seq 의 delta 를 이어서 적용)
+    private long seq;
+    // 서버 시계 기준 게임 종료 시각 (epoch ms, GAME_STARTED 와 GAME_SYNC 에만 있음)
+    private Long endsAt;
+    // 이 프레임을 보낸 서버 시각 (epoch ms), 클라이언트는 endsAt - serverTime 만큼 남은 것으로 계산
+    private Long serverTime;
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package org.com.aqoo.domain.game.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 점수 변경분만 담은 경량 프레임 (message = "SCORE_DELTA")
+ * - slots[i] 번 참가자의 점수가 scores[i] 로 바뀌었음을 의미합니다.
+ * - slot 번호는 GAME_STARTED / GAME_SYNC 때 받은 players 목록의 인덱스입니다.
+ * - seq 는 방마다 1씩 증가하며, 클라이언트는 마지막으로 적용한 seq 보다 큰 프레임만 반영하면 됩니다.
+ * - seq 가 이어지지 않으면(프레임 유실) 클라이언트는 /app/game.sync 로 GAME_SYNC 를 요청합니다.
+ * - 느린 세션에서는 아직 못 보낸 프레임 여러 개가 하나로 합쳐질 수 있으며, 이때는 fromSeq ~ seq 를 모두 포함합니다 (ScoreDeltaCoalescer).
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoreDeltaFrame {
+    private String message;
+    private long seq;
+    private int[] slots;
+    private int[] scores;
+    // 합쳐진 프레임에만 있음 (합쳐진 첫 프레임의 seq)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long fromSeq;
+
+    public ScoreDeltaFrame(String message, long seq, int[] slots, int[] scores) {
+        this(message, seq, slots, scores, null);
+    }
+}
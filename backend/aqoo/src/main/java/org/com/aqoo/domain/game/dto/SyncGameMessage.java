@@ -0,0 +1,8 @@
+package org.com.aqoo.domain.game.dto;
+
+import lombok.Data;
+
+@Data
+public class SyncGameMessage {
+    private String roomId;
+}
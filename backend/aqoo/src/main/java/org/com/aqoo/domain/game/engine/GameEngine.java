@@ -0,0 +1,28 @@
+package org.com.aqoo.domain.game.engine;
+
+import org.com.aqoo.domain.game.service.GameRoomLoop;
+
+/**
+ * 미니게임 종류별 규칙 (SPI)
+ * - 채팅방 드롭다운의 gameType 으로 선택되며, 빈으로 등록하면 GameEngineRegistry 가 자동으로 찾습니다.
+ * - 방 루프, tick 묶음 전송, SCORE_DELTA, 속도 제한, 게임 시계, 상태 해제는 GameService 가 공통으로 처리하고
+ *   엔진은 점수 규칙과 종료 판정, 최종 순위만 책임집니다.
+ * - 모든 메서드는 해당 방의 루프 안에서 호출되므로 loop 의 상태를 동기화 없이 다뤄도 됩니다.
+ */
+public interface GameEngine {
+
+    /** 이 엔진을 선택하는 gameType 값 */
+    String getGameType();
+
+    /** slot 참가자가 아직 탭을 받을 수 있는지 (속도 제한 전에 확인하여 불필요한 토큰 소모를 막음) */
+    boolean acceptsPress(GameRoomLoop loop, int slot);
+
+    /** 속도 제한을 통과한 탭 수를 점수에 반영하고, 전송 방식을 알려줌 */
+    PressResult applyPress(GameRoomLoop loop, int slot, int presses);
+
+    /** 게임 규칙에 따라 스스로 끝났을 때(FINISHED)의 결과 */
+    GameResult completedResult(GameRoomLoop loop);
+
+    /** 제한 시간 종료나 종료 요청으로 끝났을 때의 결과 */
+    GameResult timeoutResult(GameRoomLoop loop);
+}
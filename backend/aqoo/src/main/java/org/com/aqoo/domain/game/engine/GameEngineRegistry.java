@@ -0,0 +1,39 @@
+package org.com.aqoo.domain.game.engine;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * gameType -> GameEngine 조회
+ * 등록되지 않은 gameType 이거나 아직 선택하지 않은 방은 기본 게임(TAP_RACE)으로 진행합니다.
+ */
+@Slf4j
+@Component
+public class GameEngineRegistry {
+
+    private final Map<String, GameEngine> engines;
+    private final GameEngine defaultEngine;
+
+    public GameEngineRegistry(List<GameEngine> engines) {
+        this.engines = engines.stream()
+                .collect(Collectors.toUnmodifiableMap(e -> e.getGameType().toUpperCase(), Function.identity()));
+        this.defaultEngine = this.engines.get(TapRaceGameEngine.GAME_TYPE);
+    }
+
+    public GameEngine resolve(String gameType) {
+        if (gameType == null || gameType.isBlank()) {
+            return defaultEngine;
+        }
+        GameEngine engine = engines.get(gameType.toUpperCase());
+        if (engine == null) {
+            log.info("Unknown gameType {}, falling back to {}", gameType, defaultEngine.getGameType());
+            return defaultEngine;
+        }
+        return engine;
+    }
+}
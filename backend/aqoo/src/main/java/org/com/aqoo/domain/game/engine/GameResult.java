@@ -0,0 +1,16 @@
+package org.com.aqoo.domain.game.engine;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * GAME_ENDED 에 실어 보낼 최종 결과
+ */
+@Getter
+@AllArgsConstructor
+public class GameResult {
+    private String winner;
+    private List<String> finishOrder;
+}
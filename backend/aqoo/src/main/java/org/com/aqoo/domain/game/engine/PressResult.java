@@ -0,0 +1,15 @@
+package org.com.aqoo.domain.game.engine;
+
+/**
+ * 탭을 반영한 뒤 GameService 가 어떻게 전송할지
+ */
+public enum PressResult {
+    // 점수 변화 없음 (전송하지 않음)
+    UNCHANGED,
+    // 다음 tick 에 SCORE_DELTA 로 묶어서 전송
+    BATCHED,
+    // 결승 도달처럼 중요한 변화라 바로 SCORE_DELTA 전송
+    IMMEDIATE,
+    // 게임이 규칙에 따라 끝남 (GAME_ENDED 전송 후 상태 해제)
+    FINISHED
+}
@@ -0,0 +1,86 @@
+package org.com.aqoo.domain.game.engine;
+
+import lombok.extern.slf4j.Slf4j;
+import org.com.aqoo.domain.game.entity.GameRoster;
+import org.com.aqoo.domain.game.service.GameRoomLoop;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 스페이스바를 먼저 100번 누르는 사람이 이기는 기본 게임
+ * - 100에 도달하면 해당 사용자는 추가 탭을 무시
+ * - 100 도달 시 finish order 에 순서대로 기록하고 즉시 전송
+ * - 모든 사용자가 100에 도달하면 게임 종료
+ */
+@Slf4j
+@Component
+public class TapRaceGameEngine implements GameEngine {
+
+    public static final String GAME_TYPE = "TAP_RACE";
+    private static final int GOAL = 100;
+
+    @Override
+    public String getGameType() {
+        return GAME_TYPE;
+    }
+
+    @Override
+    public boolean acceptsPress(GameRoomLoop loop, int slot) {
+        return loop.scoreOf(slot) < GOAL;
+    }
+
+    @Override
+    public PressResult applyPress(GameRoomLoop loop, int slot, int presses) {
+        // 점수를 업데이트하며 100 초과 방지
+        int score = Math.min(GOAL, loop.scoreOf(slot) + presses);
+        loop.setScore(slot, score);
+        if (score < GOAL) {
+            return PressResult.BATCHED;
+        }
+
+        // finishOrder 처리: 100에 도달한 경우 순서대로 기록
+        String user = loop.getRoster().get(slot).getUserName();
+        if (loop.addFinisher(user)) {
+            log.info("User {} finished! Finish order: {}", user, loop.getFinishOrder());
+        }
+        return loop.getFinishOrder().size() == loop.getRoster().size() ? PressResult.FINISHED : PressResult.IMMEDIATE;
+    }
+
+    /** 모든 사용자가 100에 도달하면 finishOrder 의 첫 번째 사용자(닉네임)를 승자로 설정 */
+    @Override
+    public GameResult completedResult(GameRoomLoop loop) {
+        List<String> finishOrder = List.copyOf(loop.getFinishOrder());
+        GameRoster roster = loop.getRoster();
+        String winner = roster.get(roster.slotOf(finishOrder.get(0))).getNickname();
+        return new GameResult(winner, finishOrder);
+    }
+
+    /**
+     * 시간 종료 시 결과
+     * - 100에 도달한 유저는 기존 finishOrder 에 기록된 순서대로 유지
+     * - 100에 도달하지 않은 유저는 탭 수 내림차순으로 정렬하여 순위 뒤에 이어붙임
+     * - 최종 승자는 finishOrder 의 첫 번째 유저로 결정
+     */
+    @Override
+    public GameResult timeoutResult(GameRoomLoop loop) {
+        int[] scores = loop.scoresSnapshot();
+        GameRoster roster = loop.getRoster();
+
+        List<String> finishOrder = new ArrayList<>(loop.getFinishOrder());
+        List<String> notFinished = IntStream.range(0, roster.size())
+                .filter(slot -> !finishOrder.contains(roster.get(slot).getUserName()))
+                .boxed()
+                .sorted(Comparator.comparingInt((Integer slot) -> scores[slot]).reversed()) // 내림차순 정렬
+                .map(slot -> roster.get(slot).getUserName())
+                .collect(Collectors.toList());
+        finishOrder.addAll(notFinished);
+
+        String winner = finishOrder.isEmpty() ? null : finishOrder.get(0);
+        return new GameResult(winner, finishOrder);
+    }
+}
@@ -0,0 +1,57 @@
+package org.com.aqoo.domain.game.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게임 시작 시점에 고정한 참가자 프로필 스냅샷 (불변)
+ * - 게임 도중에는 DB를 다시 조회하지 않으며, 게임 중 닉네임/대표 물고기를 바꿔도 결과에 영향이 없습니다.
+ * - 목록의 순서가 곧 각 참가자의 slot 번호입니다.
+ */
+public final class GameRoster {
+
+    private final List<Member> members;
+    private final Map<String, Integer> slotByUserName;
+
+    public GameRoster(List<Member> members) {
+        this.members = List.copyOf(members);
+        Map<String, Integer> slots = new HashMap<>();
+        for (int i = 0; i < this.members.size(); i++) {
+            slots.put(this.members.get(i).getUserName(), i);
+        }
+        this.slotByUserName = Map.copyOf(slots);
+    }
+
+    public List<Member> getMembers() {
+        return members;
+    }
+
+    public int size() {
+        return members.size();
+    }
+
+    public Member get(int slot) {
+        return members.get(slot);
+    }
+
+    /** userName 의 slot 번호, 참가자가 아니면 -1 */
+    public int slotOf(String userName) {
+        return slotByUserName.getOrDefault(userName, -1);
+    }
+
+    public boolean contains(String userName) {
+        return slotByUserName.containsKey(userName);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static final class Member {
+        private final String userName;
+        private final String nickname;
+        private final String mainFishImage;
+    }
+}
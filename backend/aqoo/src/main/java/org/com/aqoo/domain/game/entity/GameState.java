@@ -0,0 +1,16 @@
+package org.com.aqoo.domain.game.entity;
+
+/**
+ * 게임 하나의 생명주기
+ * CREATED -> RUNNING -> ENDED -> EVICTED 순서로만 진행됩니다.
+ */
+public enum GameState {
+    // 루프가 만들어졌지만 GAME_STARTED 를 아직 보내지 않음
+    CREATED,
+    // 탭을 받는 중
+    RUNNING,
+    // GAME_ENDED 를 보냄 (이후 탭 무시)
+    ENDED,
+    // 결과 전송 후 모든 상태가 해제됨
+    EVICTED
+}
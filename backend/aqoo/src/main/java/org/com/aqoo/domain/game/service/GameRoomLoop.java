@@ -0,0 +1,225 @@
+package org.com.aqoo.domain.game.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.com.aqoo.domain.game.engine.GameEngine;
+import org.com.aqoo.domain.game.entity.GameRoster;
+import org.com.aqoo.domain.game.entity.GameState;
+import org.com.aqoo.util.HashedWheelTimer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 방 하나의 게임 상태를 소유하는 단일 작성자(single-writer) 이벤트 루프
+ * - 모든 상태 변경은 mailbox 에 쌓인 작업으로만 이루어지고, 한 시점에 하나의 스레드만 mailbox 를 비웁니다.
+ * - 따라서 점수, finish order, 브로드캐스트 순서는 락 없이도 방 단위로 직렬화됩니다.
+ * - 실제 실행 스레드는 공유 풀에서 빌려 쓰므로 방이 많아지면 코어 수만큼 병렬로 처리됩니다.
+ */
+@Slf4j
+public class GameRoomLoop {
+
+    // 한 번 스케줄될 때 처리할 최대 작업 수 (한 방이 풀 스레드를 독점하지 않도록 제한)
+    private static final int MAX_TASKS_PER_DRAIN = 256;
+
+    @Getter
+    private final String roomId;
+    // 이 방이 진행하는 게임 규칙
+    @Getter
+    private final GameEngine engine;
+    // 게임 시작 시 고정된 참가자 프로필 (slot 순서)
+    @Getter
+    private final GameRoster roster;
+    // 참가자별 탭 속도 제한 (루프 안에서만 사용)
+    @Getter
+    private final PressRateLimiter rateLimiter;
+    private final Executor executor;
+    private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    // ===== 아래 상태는 루프 안에서만 읽고 쓴다 (배열은 밖으로 내보내지 않음) =====
+
+    // slot -> score (slot 은 roster 순서)
+    private final int[] scores;
+
+    // 100에 도달한 순서대로의 userName 목록
+    private final List<String> finishOrder = new ArrayList<>();
+
+    // 마지막 브로드캐스트 이후 점수가 바뀐 slot (다음 tick 에 SCORE_DELTA 로 전송)
+    private final boolean[] changedSlots;
+
+    // 마지막 브로드캐스트 이후 점수 변경이 있었는지
+    @Getter
+    @Setter
+    private boolean dirty;
+
+    // 지금까지 보낸 SCORE_DELTA 의 마지막 seq
+    @Getter
+    private long seq;
+
+    // 다음 tick 의 flush 가 이미 예약되어 있는지
+    @Getter
+    @Setter
+    private boolean flushScheduled;
+
+    // 게임 생명주기 (지표 수집을 위해 다른 스레드에서도 읽으므로 volatile)
+    @Getter
+    private volatile GameState state = GameState.CREATED;
+
+    // 서버 게임 시계 (제한 시간이 지나면 자동 종료), 게임이 먼저 끝나면 취소
+    @Getter
+    @Setter
+    private volatile HashedWheelTimer.Timeout clock;
+
+    // 서버 게임 시계가 끝나는 시각 (epoch ms, 시작 카운트다운 포함)
+    @Getter
+    @Setter
+    private volatile long endsAt;
+
+    public GameRoomLoop(String roomId, GameEngine engine, GameRoster roster,
+                        PressRateLimiter rateLimiter, Executor executor) {
+        this.roomId = roomId;
+        this.engine = engine;
+        this.roster = roster;
+        this.rateLimiter = rateLimiter;
+        this.executor = executor;
+        this.scores = new int[roster.size()];
+        this.changedSlots = new boolean[roster.size()];
+    }
+
+    /** slot 의 현재 점수 */
+    public int scoreOf(int slot) {
+        return scores[slot];
+    }
+
+    /** 모든 slot 점수의 복사본 (roster 순서) */
+    public int[] scoresSnapshot() {
+        return scores.clone();
+    }
+
+    /** slot 점수 변경 (루프 안에서만 호출, 전송 대상 표시는 markChanged) */
+    public void setScore(int slot, int score) {
+        scores[slot] = score;
+    }
+
+    /** 100에 도달한 순서 (읽기 전용) */
+    public List<String> getFinishOrder() {
+        return Collections.unmodifiableList(finishOrder);
+    }
+
+    /**
+     * finish order 에 기록 (루프 안에서만 호출)
+     *
+     * @return 처음 기록된 경우 true
+     */
+    public boolean addFinisher(String userName) {
+        if (finishOrder.contains(userName)) {
+            return false;
+        }
+        finishOrder.add(userName);
+        return true;
+    }
+
+    /** slot 을 다음 SCORE_DELTA 에 포함하도록 표시 (루프 안에서만 호출) */
+    public void markChanged(int slot) {
+        changedSlots[slot] = true;
+        dirty = true;
+    }
+
+    /**
+     * 마지막 전송 이후 바뀐 slot 을 오름차순으로 꺼내고 표시를 지운다 (루프 안에서만 호출)
+     */
+    public int[] drainChangedSlots() {
+        int count = 0;
+        for (boolean c : changedSlots) {
+            if (c) count++;
+        }
+        int[] slots = new int[count];
+        int i = 0;
+        for (int slot = 0; slot < changedSlots.length; slot++) {
+            if (changedSlots[slot]) {
+                slots[i++] = slot;
+                changedSlots[slot] = false;
+            }
+        }
+        return slots;
+    }
+
+    /** GAME_ENDED 를 보낸 뒤에는 탭과 예약된 flush 를 모두 무시 */
+    public boolean isEnded() {
+        return state == GameState.ENDED || state == GameState.EVICTED;
+    }
+
+    /**
+     * 상태를 앞으로만 전이 (예: ENDED 이후 RUNNING 으로 돌아가지 않음)
+     *
+     * @return 실제로 전이했으면 true
+     */
+    public boolean transitionTo(GameState next) {
+        if (next.ordinal() <= state.ordinal()) {
+            return false;
+        }
+        state = next;
+        return true;
+    }
+
+    /**
+     * 이 루프가 붙잡고 있는 힙 크기의 대략적인 추정치 (byte)
+     * 객체 헤더와 참조 크기를 단순 합산한 값으로, 추세 확인용입니다.
+     */
+    public long estimatedRetainedBytes() {
+        int slots = roster.size();
+        long bytes = 256;                        // 루프 자체와 mailbox, 고정 필드
+        bytes += 16L + 4L * slots;               // scores
+        bytes += 16L + slots;                    // changedSlots
+        bytes += 64L + 24L * slots;              // finishOrder
+        bytes += 64L + 96L * slots;              // roster (Member 와 slot 맵)
+        bytes += 64L + 40L * slots;              // rateLimiter
+        bytes += 32L * mailbox.size();           // 대기 중인 작업
+        return bytes;
+    }
+
+    /** 다음 delta 프레임의 seq 발급 */
+    public long nextSeq() {
+        return ++seq;
+    }
+
+    /** 작업을 mailbox 에 넣고, 루프가 쉬고 있으면 깨운다 */
+    public void submit(Runnable task) {
+        mailbox.offer(task);
+        schedule();
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            Runnable task;
+            int processed = 0;
+            while (processed < MAX_TASKS_PER_DRAIN && (task = mailbox.poll()) != null) {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    log.error("Game loop task failed for roomId: {}", roomId, e);
+                }
+                processed++;
+            }
+        } finally {
+            scheduled.set(false);
+            // drain 도중 새로 들어온 작업이 있으면 다시 스케줄
+            if (!mailbox.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
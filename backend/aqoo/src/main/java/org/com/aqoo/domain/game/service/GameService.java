@@ -1,72 +1,167 @@
 package org.com.aqoo.domain.game.service;
 
-import jakarta.transaction.Transactional;
-import lombok.AllArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.com.aqoo.domain.auth.dto.UserInfoResponse;
-import org.com.aqoo.domain.auth.service.UserService;
+import org.com.aqoo.domain.auth.dto.UserProfile;
+import org.com.aqoo.domain.auth.service.UserProfileDirectory;
+import org.com.aqoo.domain.chat.dto.ChatRoomDeletedEvent;
 import org.com.aqoo.domain.game.dto.PressMessage;
+import org.com.aqoo.domain.game.dto.PressStatsResponse;
 import org.com.aqoo.domain.game.dto.RoomResponse;
+import org.com.aqoo.domain.game.dto.ScoreDeltaFrame;
+import org.com.aqoo.domain.game.engine.GameEngine;
+import org.com.aqoo.domain.game.engine.GameEngineRegistry;
+import org.com.aqoo.domain.game.engine.GameResult;
+import org.com.aqoo.domain.game.engine.PressResult;
+import org.com.aqoo.domain.game.entity.GameRoster;
+import org.com.aqoo.domain.game.entity.GameState;
 import org.com.aqoo.domain.game.entity.Player;
 import org.com.aqoo.domain.chat.service.ChatRoomService;
 import org.com.aqoo.domain.chat.model.ChatRoom;
+import org.com.aqoo.util.HashedWheelTimer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 @Service
 @Slf4j
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class GameService {
 
     private final SimpMessagingTemplate messagingTemplate;
     private final ChatRoomService chatRoomService;
-    private final UserService userService;
+    private final UserProfileDirectory profileDirectory;
+    private final HashedWheelTimer timer;
+    private final GameEngineRegistry gameEngineRegistry;
+    private final MeterRegistry meterRegistry;
 
-    // 각 방의 점수를 관리하는 Map: roomId -> (userName -> score)
-    private final Map<String, Map<String, Integer>> scoreMap = new ConcurrentHashMap<>();
+    // 각 방의 게임 루프: roomId -> GameRoomLoop (점수와 finish order 는 루프가 소유)
+    // 결과 전송이 끝난 게임(EVICTED)은 즉시 제거되므로 크기는 진행 중인 게임 수로 제한됨
+    private final Map<String, GameRoomLoop> roomLoops = new ConcurrentHashMap<>();
 
-    // 각 방의 finish order(결승 순위)를 관리하는 Map: roomId -> List of userName (100에 도달한 순서)
-    private final Map<String, List<String>> finishOrderMap = new ConcurrentHashMap<>();
+    // 지금까지 해제된 게임 수 (지표용)
+    private final AtomicLong evictedGames = new AtomicLong();
+
+    // 모든 방의 루프가 공유하는 실행 스레드 풀 (한 방은 한 시점에 한 스레드에서만 실행됨)
+    private final ExecutorService gameLoopExecutor = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(), new GameLoopThreadFactory("game-loop-"));
+
+    // SCORE_DELTA 묶음 전송용 tick 스케줄러 (모든 방이 공유, 예약 후 실제 작업은 각 방의 루프로 넘김)
+    private final ScheduledExecutorService tickScheduler =
+            Executors.newSingleThreadScheduledExecutor(new GameLoopThreadFactory("game-tick-"));
+
+    // 초당 SCORE_DELTA 최대 전송 횟수 (tick 동안 들어온 탭은 한 번의 업데이트로 합쳐짐)
+    @Value("${game.tick-hz:25}")
+    private int tickHz;
+
+    // 서버 기준 게임 제한 시간 (초), 지나면 클라이언트 요청 없이도 게임 종료
+    @Value("${game.duration-seconds:30}")
+    private int durationSeconds;
+
+    // 클라이언트가 GAME_STARTED 를 받은 뒤 보여주는 시작 카운트다운 (초), 제한 시간은 카운트다운이 끝난 뒤부터 셈
+    @Value("${game.countdown-seconds:3}")
+    private int countdownSeconds;
+
+    // 참가자 한 명이 낼 수 있는 초당 탭 수와 순간 최대 탭 수 (이를 넘는 탭은 점수 반영 전에 버림)
+    @Value("${game.press.max-rate:15}")
+    private double pressMaxRate;
+
+    @Value("${game.press.burst:10}")
+    private int pressBurst;
+
+    private Counter rejectedPressCounter;
+
+    /**
+     * 게임 생명주기 지표 등록
+     * - game.rooms.active: 진행 중인 게임 수 (CREATED, RUNNING)
+     * - game.rooms.retained: 메모리에 남아 있는 게임 루프 수
+     * - game.rooms.evicted: 해제된 게임 누적 수
+     * - game.state.retained.bytes: 남아 있는 게임 상태의 추정 크기
+     */
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder("game.rooms.active", roomLoops,
+                        loops -> loops.values().stream().filter(loop -> !loop.isEnded()).count())
+                .description("Games that have not ended yet")
+                .register(meterRegistry);
+        Gauge.builder("game.rooms.retained", roomLoops, Map::size)
+                .description("Game loops still held in memory")
+                .register(meterRegistry);
+        FunctionCounter.builder("game.rooms.evicted", evictedGames, AtomicLong::get)
+                .description("Games whose state has been released")
+                .register(meterRegistry);
+        rejectedPressCounter = Counter.builder("game.press.rejected")
+                .description("Presses dropped by the per-player rate limiter")
+                .register(meterRegistry);
+        Gauge.builder("game.state.retained.bytes", roomLoops,
+                        loops -> loops.values().stream().mapToLong(GameRoomLoop::estimatedRetainedBytes).sum())
+                .description("Estimated heap retained by game state")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
 
     /**
      * 게임 시작: 채팅방 멤버의 점수를 0으로 초기화하고 "GAME_STARTED" 메시지를 브로드캐스트
+     * - 채팅방에서 선택한 gameType 으로 게임 규칙(GameEngine)을 고름
+     * - 전체 참가자 정보(players)는 이때와 GAME_SYNC 때만 전송하고, 이후에는 SCORE_DELTA 만 전송
+     * - 참가자 nickname, mainFishImage 는 여기서 한 번만 조회하여 roster 로 고정 (이후 탭/종료 처리에서는 DB 조회 없음)
+     * - 같은 방에서 다시 시작하면 새 루프로 교체되어 이전 게임 상태와 섞이지 않음
+     * - 서버 게임 시계를 시작하여 카운트다운 + 제한 시간이 지나면 자동으로 endGame 처리
+     * - 종료 시각(endsAt)을 함께 보내서 클라이언트 타이머가 서버 시계를 따르도록 함
      */
-    @Transactional
     public void startGame(String roomId) {
         log.info("startGame() called for roomId: {}", roomId);
         ChatRoom chatRoom = chatRoomService.getRoom(roomId);
         if (chatRoom != null) {
             System.out.println("ChatRoom members: " + chatRoom.getMembers());
-            Map<String, Integer> roomScore = new ConcurrentHashMap<>();
-            chatRoom.getMembers().forEach(member -> roomScore.put(member, 0));
-            scoreMap.put(roomId, roomScore);
-            // finishOrder 초기화
-            finishOrderMap.put(roomId, new ArrayList<>());
-
-            List<Player> players = roomScore.entrySet().stream()
-                    .map(e -> {
-                        String userName = e.getKey();
-                        int score = e.getValue();
-                        // userService에서 해당 사용자의 정보를 가져온 후 mainFishImage와 nickname을 추출
-                        UserInfoResponse userInfo = userService.getUserInfo(userName);
-                        String mainFishImage = userInfo.getMainFishImage();
-                        String nickname = userInfo.getNickname();
-                        return new Player(userName, score, mainFishImage, nickname);
-                    })
-                    .collect(Collectors.toList());
-
-            // 게임 시작 시 승자와 finishOrder는 아직 없음
-            RoomResponse response = new RoomResponse(roomId, players, "GAME_STARTED", null, null);
-            messagingTemplate.convertAndSend("/topic/room/" + roomId, response);
-            log.info("Broadcasted GAME_STARTED message for roomId: {}", roomId);
+            GameRoster roster = snapshotRoster(chatRoom);
+            PressRateLimiter rateLimiter = new PressRateLimiter(roster.size(), pressMaxRate, pressBurst);
+            GameEngine engine = gameEngineRegistry.resolve(chatRoom.getGameType());
+            GameRoomLoop loop = new GameRoomLoop(roomId, engine, roster, rateLimiter, gameLoopExecutor);
+            GameRoomLoop previous = roomLoops.put(roomId, loop);
+            if (previous != null) {
+                // 이전 게임이 남아 있으면 결과 전송 없이 정리
+                previous.submit(() -> evict(previous));
+            }
+            long deadlineMillis = TimeUnit.SECONDS.toMillis(countdownSeconds + durationSeconds);
+            loop.setEndsAt(System.currentTimeMillis() + deadlineMillis);
+            loop.setClock(timer.schedule(() -> loop.submit(() -> applyEnd(loop)), deadlineMillis, TimeUnit.MILLISECONDS));
+
+            loop.submit(() -> {
+                if (!loop.transitionTo(GameState.RUNNING)) {
+                    return;
+                }
+                // 게임 시작 시 승자와 finishOrder는 아직 없음
+                RoomResponse response = new RoomResponse(roomId, toPlayers(loop), "GAME_STARTED", null, null, loop.getSeq(),
+                        loop.getEndsAt(), System.currentTimeMillis());
+                messagingTemplate.convertAndSend("/topic/room/" + roomId, response);
+                log.info("Broadcasted GAME_STARTED message for roomId: {}", roomId);
+            });
         } else {
             log.error("ChatRoom not found for roomId: {}", roomId);
         }
@@ -74,114 +169,283 @@ public class GameService {
 
 
     /**
-     * 스페이스바 탭 이벤트 처리
-     * - 100에 도달하면 해당 사용자는 추가 탭을 무시
-     * - 100 도달 시 finish order에 순서대로 기록
-     * - 모든 사용자가 100에 도달하면 GAME_ENDED 메시지를 브로드캐스트
+     * 스페이스바 탭 이벤트 처리 (해당 방의 루프에서 순서대로 실행)
+     * - 참가자별 토큰 버킷을 넘는 탭은 점수 반영과 브로드캐스트 전에 버림
+     * - 점수 규칙과 종료 판정은 방의 GameEngine 이 결정
+     * - 일반 탭은 다음 tick 에 한 번의 SCORE_DELTA 로 합쳐서 전송하고, 중요한 변화는 즉시 전송
+     * - 게임이 끝나면 GAME_ENDED 메시지를 브로드캐스트
      */
-    @Transactional
     public void processPress(PressMessage pressMessage) {
         String roomId = pressMessage.getRoomId();
         String user = pressMessage.getUserName();
         int press = pressMessage.getPressCount();
 
-        log.info("processPress() called: roomId={}, userName={}, pressCount={}", roomId, user, press);
+        log.debug("processPress() called: roomId={}, userName={}, pressCount={}", roomId, user, press);
 
-        Map<String, Integer> roomScore = scoreMap.get(roomId);
-        if (roomScore != null) {
-            // 이미 100 이상이면 추가 탭 무시
-            if (roomScore.getOrDefault(user, 0) >= 100) {
-                log.info("User {} already reached 100, ignoring press", user);
-                return;
-            }
+        GameRoomLoop loop = roomLoops.get(roomId);
+        if (loop == null) {
+            log.error("No game loop found for roomId: {}", roomId);
+            return;
+        }
+        loop.submit(() -> applyPress(loop, user, press));
+    }
 
-            // 점수를 업데이트하며 100 초과 방지
-            roomScore.merge(user, press, (oldVal, pressVal) -> Math.min(100, oldVal + pressVal));
-            int currentScore = roomScore.get(user);
-            log.info("Updated score for {}: {}", user, currentScore);
+    private void applyPress(GameRoomLoop loop, String user, int press) {
+        String roomId = loop.getRoomId();
+        GameEngine engine = loop.getEngine();
+        if (loop.isEnded()) {
+            log.debug("Game already ended for roomId: {}, ignoring press", roomId);
+            return;
+        }
 
-            // finishOrder 처리: 100에 도달한 경우 순서대로 기록
-            List<String> finishOrder = finishOrderMap.computeIfAbsent(roomId, k -> new ArrayList<>());
-            if (currentScore == 100 && !finishOrder.contains(user)) {
-                finishOrder.add(user);
-                log.info("User {} finished! Finish order: {}", user, finishOrder);
-            }
+        // 게임 시작 시점의 참가자가 아니면 무시
+        int slot = loop.getRoster().slotOf(user);
+        if (slot < 0) {
+            log.debug("User {} is not in the roster of roomId: {}, ignoring press", user, roomId);
+            return;
+        }
 
-            // Player 객체 생성 시 nickname 포함
-            List<Player> players = roomScore.entrySet().stream()
-                    .map(e -> {
-                        String userName = e.getKey();
-                        int score = e.getValue();
-                        UserInfoResponse userInfo = userService.getUserInfo(userName);
-                        String mainFishImage = userInfo.getMainFishImage();
-                        String nickname = userInfo.getNickname();
-                        return new Player(userName, score, mainFishImage, nickname);
-                    })
-                    .collect(Collectors.toList());
-
-            boolean allReached100 = roomScore.values().stream().allMatch(score -> score >= 100);
-            if (allReached100) {
-                // 모든 사용자가 100에 도달하면 finishOrder의 첫 번째 사용자를 승자로 설정
-                String winnerId = finishOrder.get(0);
-                String winner = userService.getUserInfo(winnerId).getNickname();
-                RoomResponse response = new RoomResponse(roomId, players, "GAME_ENDED", winner, finishOrder);
-                messagingTemplate.convertAndSend("/topic/room/" + roomId, response);
-                log.info("Broadcasted GAME_ENDED message for roomId: {} with finish order: {}", roomId, finishOrder);
-            } else {
-                RoomResponse response = new RoomResponse(roomId, players, "PRESS_UPDATED", null, null);
-                messagingTemplate.convertAndSend("/topic/room/" + roomId, response);
-                log.info("Broadcasted PRESS_UPDATED message for roomId: {}", roomId);
-            }
-        } else {
-            log.error("No score map found for roomId: {}", roomId);
+        // 규칙상 더 이상 탭을 받지 않는 참가자 (예: 이미 100 도달)
+        if (!engine.acceptsPress(loop, slot)) {
+            log.debug("User {} no longer accepts presses, ignoring press", user);
+            return;
+        }
+
+        // 물리적으로 가능한 속도를 넘는 탭은 버림
+        int granted = loop.getRateLimiter().acquire(slot, press, System.nanoTime());
+        if (press <= 0 || granted < press) {
+            // 0 이하의 비정상 탭은 한 건으로 집계
+            rejectedPressCounter.increment(press <= 0 ? 1 : press - granted);
+        }
+        if (granted == 0) {
+            log.debug("Press from {} rate limited in roomId: {}", user, roomId);
+            return;
+        }
+
+        PressResult result = engine.applyPress(loop, slot, granted);
+        log.trace("Updated score for {}: {} ({})", user, loop.scoreOf(slot), result);
+        if (result == PressResult.UNCHANGED) {
+            return;
+        }
+        loop.markChanged(slot);
+
+        switch (result) {
+            // 일반 탭은 다음 tick 에 묶어서 전송
+            case BATCHED -> scheduleFlush(loop);
+            // 결승 도달 같은 변화는 tick 을 기다리지 않고 바로 전송
+            case IMMEDIATE -> flush(loop);
+            // 규칙에 따라 게임이 끝나면 GAME_ENDED 전송 후 상태 해제
+            case FINISHED -> finish(loop, engine.completedResult(loop));
+            default -> { }
         }
     }
 
+    /** 다음 tick 에 flush 가 실행되도록 예약 (tick 당 한 번만 예약됨) */
+    private void scheduleFlush(GameRoomLoop loop) {
+        if (loop.isFlushScheduled()) {
+            return;
+        }
+        loop.setFlushScheduled(true);
+        long tickMillis = Math.max(1, 1000L / Math.max(1, tickHz));
+        tickScheduler.schedule(() -> loop.submit(() -> {
+            loop.setFlushScheduled(false);
+            flush(loop);
+        }), tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /** 마지막 전송 이후 바뀐 slot 의 점수만 SCORE_DELTA 한 번으로 브로드캐스트 */
+    private void flush(GameRoomLoop loop) {
+        if (!loop.isDirty() || loop.isEnded()) {
+            return;
+        }
+        loop.setDirty(false);
+
+        int[] slots = loop.drainChangedSlots();
+        int[] values = new int[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            values[i] = loop.scoreOf(slots[i]);
+        }
+
+        String roomId = loop.getRoomId();
+        ScoreDeltaFrame frame = new ScoreDeltaFrame("SCORE_DELTA", loop.nextSeq(), slots, values);
+        messagingTemplate.convertAndSend("/topic/room/" + roomId, frame);
+        log.debug("Broadcasted SCORE_DELTA seq {} for roomId: {}", frame.getSeq(), roomId);
+    }
+
     /**
-     * 타임아웃 등으로 게임 종료 시 처리
-     * - 100에 도달한 유저는 기존 finishOrderMap에 기록된 순서대로 유지
-     * - 100에 도달하지 않은 유저는 탭 수 내림차순으로 정렬하여 순위 뒤에 이어붙임
-     * - 최종 승자는 finishOrder의 첫 번째 유저로 결정
+     * 요청한 세션에만 현재 게임 상태 전체를 "GAME_SYNC" 로 전송 (/user/queue/game)
+     * - 방 전체로 보내면 한 명의 재동기화가 모든 참가자에게 전체 roster 를 다시 보내게 되므로 세션 단위로 보냄
+     * - 진행 중인 게임이 없으면 아무것도 하지 않음
+     */
+    public void resync(String roomId, String sessionId) {
+        GameRoomLoop loop = roomLoops.get(roomId);
+        if (loop == null || sessionId == null) {
+            return;
+        }
+        loop.submit(() -> {
+            if (loop.isEnded()) {
+                return;
+            }
+            // 아직 전송하지 않은 변경분을 먼저 내보내서 seq 가 GAME_SYNC 의 점수와 일치하도록 함
+            flush(loop);
+            RoomResponse response = new RoomResponse(roomId, toPlayers(loop), "GAME_SYNC", null, null, loop.getSeq(),
+                    loop.getEndsAt(), System.currentTimeMillis());
+            messagingTemplate.convertAndSendToUser(sessionId, "/queue/game", response, sessionHeaders(sessionId));
+            log.debug("Sent GAME_SYNC seq {} for roomId: {} to session {}", response.getSeq(), roomId, sessionId);
+        });
+    }
+
+    /** 인증 principal 없이 세션 id 로 user destination 을 보내기 위한 헤더 */
+    private static MessageHeaders sessionHeaders(String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setLeaveMutable(true);
+        return accessor.getMessageHeaders();
+    }
+
+    /**
+     * 타임아웃 등으로 게임 종료 시 처리 (해당 방의 루프에서 실행)
+     * - 보통은 서버 게임 시계가 호출하며, 클라이언트의 /app/game.end 는 먼저 끝내는 용도로만 쓰임
+     * - 최종 순위와 승자는 방의 GameEngine 이 계산
      */
-    @Transactional
     public void endGame(String roomId) {
         log.info("endGame() called for roomId: {}", roomId);
-        Map<String, Integer> roomScore = scoreMap.get(roomId);
-        if (roomScore != null) {
-            // Player 객체 생성 시 nickname 포함
-            List<Player> players = roomScore.entrySet().stream()
-                    .map(e -> {
-                        String userName = e.getKey();
-                        int score = e.getValue();
-                        UserInfoResponse userInfo = userService.getUserInfo(userName);
-                        String mainFishImage = userInfo.getMainFishImage();
-                        String nickname = userInfo.getNickname();
-                        return new Player(userName, score, mainFishImage, nickname);
-                    })
-                    .collect(Collectors.toList());
-
-            // 기존 finishOrder (100 도달 유저 순서)
-            List<String> finishOrder = new ArrayList<>(finishOrderMap.getOrDefault(roomId, new ArrayList<>()));
-            // finishOrder에 기록되지 않은 유저 (100 미달 유저)
-            Set<String> finishedUsers = new HashSet<>(finishOrder);
-            List<Map.Entry<String, Integer>> notFinishedList = roomScore.entrySet().stream()
-                    .filter(e -> !finishedUsers.contains(e.getKey()))
-                    .sorted((e1, e2) -> Integer.compare(e2.getValue(), e1.getValue())) // 내림차순 정렬
-                    .collect(Collectors.toList());
-            // 100 미달 유저들을 정렬된 순서대로 finishOrder 뒤에 추가
-            for (Map.Entry<String, Integer> entry : notFinishedList) {
-                finishOrder.add(entry.getKey());
+        GameRoomLoop loop = roomLoops.get(roomId);
+        if (loop == null) {
+            log.error("No game loop found for roomId: {}", roomId);
+            return;
+        }
+        loop.submit(() -> applyEnd(loop));
+    }
+
+    private void applyEnd(GameRoomLoop loop) {
+        if (loop.isEnded()) {
+            log.info("Game already ended for roomId: {}", loop.getRoomId());
+            return;
+        }
+        finish(loop, loop.getEngine().timeoutResult(loop));
+    }
+
+    /** GAME_ENDED 를 브로드캐스트하고, 결과 전송이 끝났으므로 상태 해제 (루프 안에서 호출) */
+    private void finish(GameRoomLoop loop, GameResult result) {
+        String roomId = loop.getRoomId();
+        loop.transitionTo(GameState.ENDED);
+        loop.setDirty(false);
+        RoomResponse response = new RoomResponse(roomId, toPlayers(loop), "GAME_ENDED",
+                result.getWinner(), result.getFinishOrder(), loop.getSeq(), null, null);
+        messagingTemplate.convertAndSend("/topic/room/" + roomId, response);
+        log.info("Broadcasted GAME_ENDED message for roomId: {}. Winner: {}. Final finish order: {}",
+                roomId, result.getWinner(), result.getFinishOrder());
+        evict(loop);
+    }
+
+    /**
+     * 진행 중인 게임의 참가자별 탭 허용/거부 수 조회
+     * 루프 안에서 집계하므로 호출 스레드는 결과가 나올 때까지 잠시 대기
+     */
+    public Optional<PressStatsResponse> getPressStats(String roomId) {
+        GameRoomLoop loop = roomLoops.get(roomId);
+        if (loop == null) {
+            return Optional.empty();
+        }
+        CompletableFuture<PressStatsResponse> future = new CompletableFuture<>();
+        loop.submit(() -> {
+            GameRoster roster = loop.getRoster();
+            PressRateLimiter limiter = loop.getRateLimiter();
+            List<PressStatsResponse.PlayerPressStats> players = new ArrayList<>(roster.size());
+            long accepted = 0;
+            long rejected = 0;
+            for (int slot = 0; slot < roster.size(); slot++) {
+                players.add(new PressStatsResponse.PlayerPressStats(
+                        roster.get(slot).getUserName(), limiter.acceptedOf(slot), limiter.rejectedOf(slot)));
+                accepted += limiter.acceptedOf(slot);
+                rejected += limiter.rejectedOf(slot);
             }
+            future.complete(new PressStatsResponse(roomId, loop.getState().name(), accepted, rejected, players));
+        });
+        try {
+            return Optional.of(future.get(1, TimeUnit.SECONDS));
+        } catch (Exception e) {
+            log.error("Failed to collect press stats for roomId: {}", roomId, e);
+            return Optional.empty();
+        }
+    }
 
-            // 최종 승자: finishOrder의 첫 번째 유저 (100에 도달한 유저가 있다면 그 중 가장 빠른 순서)
-            String computedWinner = finishOrder.isEmpty() ? null : finishOrder.get(0);
-            RoomResponse response = new RoomResponse(roomId, players, "GAME_ENDED", computedWinner, finishOrder);
-            messagingTemplate.convertAndSend("/topic/room/" + roomId, response);
-            log.info("Game ended via timeout for roomId: {}. Winner: {}. Final finish order: {}",
-                    roomId, computedWinner, finishOrder);
-        } else {
-            log.error("No score map found for roomId: {}", roomId);
+    /** 채팅방이 삭제되면 진행 중이던 게임도 결과 전송 없이 해제 */
+    @EventListener
+    public void handleChatRoomDeleted(ChatRoomDeletedEvent event) {
+        GameRoomLoop loop = roomLoops.get(event.getRoomId());
+        if (loop != null) {
+            loop.submit(() -> evict(loop));
+        }
+    }
+
+    /**
+     * 게임 상태를 모두 해제하고 EVICTED 로 전이 (루프 안에서 호출)
+     * 게임 시계를 취소하고, 방이 아직 이 루프를 가리키고 있을 때만 맵에서 제거
+     */
+    private void evict(GameRoomLoop loop) {
+        if (!loop.transitionTo(GameState.EVICTED)) {
+            return;
         }
+        HashedWheelTimer.Timeout clock = loop.getClock();
+        if (clock != null) {
+            clock.cancel();
+        }
+        loop.setDirty(false);
+        roomLoops.remove(loop.getRoomId(), loop);
+        evictedGames.incrementAndGet();
+        log.info("Evicted game state for roomId: {}", loop.getRoomId());
+    }
+
+    /**
+     * 채팅방 멤버의 프로필을 조회하여 불변 roster 로 고정
+     * 프로필은 프로필 캐시에서 한 번에 가져오며, 게임 중에는 다시 조회하지 않습니다.
+     */
+    private GameRoster snapshotRoster(ChatRoom chatRoom) {
+        List<String> userNames = List.copyOf(chatRoom.getMembers());
+        Map<String, UserProfile> profiles = profileDirectory.getAll(userNames);
+        List<GameRoster.Member> members = userNames.stream()
+                .map(userName -> {
+                    UserProfile profile = profiles.get(userName);
+                    return new GameRoster.Member(userName, profile.getNickname(), profile.getMainFishImage());
+                })
+                .collect(Collectors.toList());
+        return new GameRoster(members);
     }
 
-}
\ No newline at end of file
+    /** roster 와 루프가 가진 점수로 Player 목록 생성 (DB 조회 없음) */
+    private List<Player> toPlayers(GameRoomLoop loop) {
+        GameRoster roster = loop.getRoster();
+        int[] scores = loop.scoresSnapshot();
+        List<Player> players = new ArrayList<>(roster.size());
+        for (int slot = 0; slot < roster.size(); slot++) {
+            GameRoster.Member member = roster.get(slot);
+            players.add(new Player(member.getUserName(), scores[slot], member.getMainFishImage(), member.getNickname()));
+        }
+        return players;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        tickScheduler.shutdownNow();
+        gameLoopExecutor.shutdown();
+    }
+
+    /** 게임 루프 스레드 이름 지정 (로그/덤프에서 구분하기 위함) */
+    private static class GameLoopThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger counter = new AtomicInteger(1);
+
+        GameLoopThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, prefix + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
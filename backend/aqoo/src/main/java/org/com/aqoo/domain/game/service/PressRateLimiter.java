@@ -0,0 +1,62 @@
+package org.com.aqoo.domain.game.service;
+
+/**
+ * 참가자(slot)별 토큰 버킷
+ * - 초당 ratePerSecond 개씩 토큰이 차고, 최대 burst 개까지 쌓입니다.
+ * - 탭 하나당 토큰 하나를 쓰며, 토큰이 모자라면 남는 탭은 버립니다.
+ * - 방 루프 안에서만 호출되므로 동기화하지 않습니다.
+ */
+public class PressRateLimiter {
+
+    private final double ratePerNano;
+    private final double burst;
+    private final double[] tokens;
+    private final long[] lastRefill;
+
+    // slot 별 허용/거부된 탭 수
+    private final long[] accepted;
+    private final long[] rejected;
+
+    public PressRateLimiter(int slots, double ratePerSecond, int burst) {
+        this.ratePerNano = ratePerSecond / 1_000_000_000d;
+        this.burst = Math.max(1, burst);
+        this.tokens = new double[slots];
+        this.lastRefill = new long[slots];
+        this.accepted = new long[slots];
+        this.rejected = new long[slots];
+        long now = System.nanoTime();
+        for (int i = 0; i < slots; i++) {
+            tokens[i] = this.burst;
+            lastRefill[i] = now;
+        }
+    }
+
+    /**
+     * 요청한 탭 수 중 실제로 반영할 수 있는 수를 반환 (0이면 전부 거부)
+     * 음수나 0 같은 비정상 값은 모두 거부로 집계합니다.
+     */
+    public int acquire(int slot, int requested, long nowNanos) {
+        if (requested <= 0) {
+            rejected[slot]++;
+            return 0;
+        }
+        // 호출한 쪽의 시각이 마지막 충전보다 앞서더라도 토큰을 빼지 않음
+        long elapsed = Math.max(0, nowNanos - lastRefill[slot]);
+        double available = Math.min(burst, tokens[slot] + elapsed * ratePerNano);
+        lastRefill[slot] += elapsed;
+
+        int granted = (int) Math.min(requested, Math.floor(available));
+        tokens[slot] = available - granted;
+        accepted[slot] += granted;
+        rejected[slot] += requested - granted;
+        return granted;
+    }
+
+    public long acceptedOf(int slot) {
+        return accepted[slot];
+    }
+
+    public long rejectedOf(int slot) {
+        return rejected[slot];
+    }
+}
@@ -0,0 +1,74 @@
+package org.com.aqoo.domain.mail.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보낼 메일 (outbox 한 행)
+ * - id 순서가 보내는 순서입니다. 같은 수신자에게는 앞의 메일이 끝나기 전에 다음 메일을 보내지 않습니다.
+ * - 보내는 데 성공하면 행을 지우고, 재시도를 모두 실패하면 FAILED 로 남겨 둡니다.
+ */
+@Entity
+@Table(name = "outbound_mail", indexes = {
+        @Index(name = "idx_outbound_mail_status_id", columnList = "status, id"),
+        @Index(name = "idx_outbound_mail_recipient_id", columnList = "recipient, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class OutboundMail {
+
+    public enum Status {
+        PENDING,  // 보낼 차례를 기다리는 중 (재시도 대기 포함)
+        SENDING,  // 워커가 가져가서 보내는 중
+        FAILED    // 재시도를 모두 실패
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 255)
+    private String recipient;
+
+    @Column(nullable = false, length = 255)
+    private String subject;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // 이 시각 이후에 보냄 (재시도 backoff)
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // SENDING 으로 바꾼 시각 (노드가 죽어서 남은 SENDING 을 되살릴 때 사용)
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public OutboundMail(String recipient, String subject, String content, LocalDateTime now) {
+        this.recipient = recipient;
+        this.subject = subject;
+        this.content = content;
+        this.status = Status.PENDING;
+        this.nextAttemptAt = now;
+        this.createdAt = now;
+    }
+}
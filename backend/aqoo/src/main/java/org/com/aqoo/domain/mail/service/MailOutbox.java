@@ -0,0 +1,307 @@
+package org.com.aqoo.domain.mail.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.com.aqoo.domain.mail.entity.OutboundMail;
+import org.com.aqoo.repository.OutboundMailRepository;
+import org.com.aqoo.util.MailManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 메일 발송 대기열 (outbound_mail 테이블)
+ * - enqueue 는 행 하나만 저장하고 바로 돌아오므로, 요청 스레드와 DB 커넥션이 SMTP 응답을 기다리지 않습니다.
+ * - dispatcher 스레드 하나가 넣은 순서(id)대로 메일을 골라 워커 풀에 넘깁니다. 같은 수신자의 메일은 앞의 메일이
+ *   끝나야(성공 또는 최종 실패) 다음 메일을 보내므로 수신자별 순서가 유지됩니다.
+ * - 실패하면 지수 backoff 로 max-attempts 번까지 다시 보내고, 그래도 실패하면 FAILED 로 남깁니다.
+ * - 수신자별 토큰 버킷으로 같은 주소에 보내는 속도를 제한합니다 (넘치면 버리지 않고 미룸).
+ * - 테이블에 남아 있으므로 재시작해도 보내지 못한 메일은 그대로 이어서 보냅니다. 보낸 뒤 행을 지우기 전에 죽으면
+ *   한 번 더 보낼 수 있습니다 (at-least-once).
+ */
+@Slf4j
+@Service
+public class MailOutbox {
+
+    private final OutboundMailRepository outboundMailRepository;
+    private final MailManager mailManager;
+
+    private final int workers;
+    private final int maxAttempts;
+    private final long retryBaseDelayMs;
+    private final long retryMaxDelayMs;
+    private final long pollIntervalMs;
+    private final long staleSendingMs;
+    private final int batchSize;
+    private final double recipientRatePerNano;
+    private final double recipientBurst;
+
+    private final ScheduledExecutorService dispatcher;
+    private final ExecutorService workerPool;
+    // 워커가 보내는 중인 수신자 (dispatcher 와 워커가 같이 씀)
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean wakeRequested = new AtomicBoolean();
+    private final AtomicBoolean started = new AtomicBoolean();
+    // 수신자별 토큰 버킷 (dispatcher 스레드에서만 씀)
+    private final Map<String, RecipientBucket> buckets = new HashMap<>();
+
+    private final Counter enqueued;
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+    private final Counter throttled;
+    private final Timer sendTimer;
+
+    public MailOutbox(OutboundMailRepository outboundMailRepository,
+                      MailManager mailManager,
+                      MeterRegistry meterRegistry,
+                      @Value("${aqoo.mail.workers:2}") int workers,
+                      @Value("${aqoo.mail.max-attempts:6}") int maxAttempts,
+                      @Value("${aqoo.mail.retry-base-delay-ms:5000}") long retryBaseDelayMs,
+                      @Value("${aqoo.mail.retry-max-delay-ms:600000}") long retryMaxDelayMs,
+                      @Value("${aqoo.mail.poll-interval-ms:1000}") long pollIntervalMs,
+                      @Value("${aqoo.mail.stale-sending-ms:300000}") long staleSendingMs,
+                      @Value("${aqoo.mail.batch-size:200}") int batchSize,
+                      @Value("${aqoo.mail.recipient-rate-per-minute:2}") double recipientRatePerMinute,
+                      @Value("${aqoo.mail.recipient-burst:3}") int recipientBurst) {
+        this.outboundMailRepository = outboundMailRepository;
+        this.mailManager = mailManager;
+        this.workers = Math.max(1, workers);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBaseDelayMs = retryBaseDelayMs;
+        this.retryMaxDelayMs = retryMaxDelayMs;
+        this.pollIntervalMs = pollIntervalMs;
+        this.staleSendingMs = staleSendingMs;
+        this.batchSize = Math.max(1, batchSize);
+        this.recipientRatePerNano = recipientRatePerMinute / 60_000_000_000d;
+        this.recipientBurst = Math.max(1, recipientBurst);
+
+        this.dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mail-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger counter = new AtomicInteger();
+        this.workerPool = Executors.newFixedThreadPool(this.workers, runnable -> {
+            Thread thread = new Thread(runnable, "mail-worker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.enqueued = Counter.builder("mail.outbox.enqueued")
+                .description("Mails added to the outbound queue")
+                .register(meterRegistry);
+        this.sent = Counter.builder("mail.outbox.attempts")
+                .description("Delivery attempts by outcome")
+                .tag("result", "sent")
+                .register(meterRegistry);
+        this.retried = Counter.builder("mail.outbox.attempts")
+                .description("Delivery attempts by outcome")
+                .tag("result", "retry")
+                .register(meterRegistry);
+        this.failed = Counter.builder("mail.outbox.attempts")
+                .description("Delivery attempts by outcome")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        this.throttled = Counter.builder("mail.outbox.throttled")
+                .description("Times a due mail was held back by the per-recipient rate limit")
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("mail.outbox.send")
+                .description("SMTP send time per attempt")
+                .register(meterRegistry);
+        Gauge.builder("mail.outbox.in-flight", inFlight, Set::size)
+                .description("Mails currently being sent by workers")
+                .register(meterRegistry);
+    }
+
+    // 트랜잭션 매니저 등 모든 빈이 준비된 뒤에 dispatcher 시작
+    @EventListener(ContextRefreshedEvent.class)
+    public void start() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        dispatcher.scheduleWithFixedDelay(this::dispatchSafely, 0, pollIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("Mail outbox started: workers={}, maxAttempts={}, recipient limit {}/min (burst {})",
+                workers, maxAttempts, recipientRatePerNano * 60_000_000_000d, (int) recipientBurst);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        dispatcher.shutdownNow();
+        workerPool.shutdown();
+        // 보내는 중인 메일은 조금 기다려 줌 (끝나지 않으면 stale-sending-ms 뒤에 다시 보냄)
+        workerPool.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 메일을 대기열에 넣음 (SMTP 전송은 기다리지 않음)
+     * 호출한 쪽 트랜잭션에 함께 저장되고, 커밋된 뒤에 dispatcher 를 깨웁니다.
+     */
+    public void enqueue(String to, String subject, String content) {
+        outboundMailRepository.save(new OutboundMail(to, subject, content, LocalDateTime.now()));
+        enqueued.increment();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wake();
+                }
+            });
+        } else {
+            wake();
+        }
+    }
+
+    /** 아직 보내지 못한(재시도 대기 포함) 메일 수 */
+    public long pendingCount() {
+        return outboundMailRepository.countByStatus(OutboundMail.Status.PENDING);
+    }
+
+    // 다음 poll 을 기다리지 않고 바로 한 번 더 고름 (이미 깨워 둔 상태면 합침)
+    private void wake() {
+        if (wakeRequested.compareAndSet(false, true)) {
+            try {
+                dispatcher.execute(() -> {
+                    wakeRequested.set(false);
+                    dispatchSafely();
+                });
+            } catch (RuntimeException e) {
+                // 종료 중
+                wakeRequested.set(false);
+            }
+        }
+    }
+
+    private void dispatchSafely() {
+        try {
+            dispatch();
+        } catch (RuntimeException e) {
+            log.warn("Mail dispatch failed, retrying on next poll", e);
+        }
+    }
+
+    private void dispatch() {
+        LocalDateTime now = LocalDateTime.now();
+        outboundMailRepository.releaseStale(OutboundMail.Status.PENDING, OutboundMail.Status.SENDING,
+                now.minusNanos(staleSendingMs * 1_000_000L));
+
+        // 수신자마다 가장 앞의 메일만 (SENDING 이거나 재시도를 기다리는 메일이 있으면 뒤 메일도 기다림)
+        // 기다리는 메일은 DB 에서 걸러 내므로 밀린 메일이 batch-size 를 넘어도 다른 수신자의 메일이 묻히지 않음
+        List<OutboundMail> heads = outboundMailRepository.findDueHeads(OutboundMail.Status.PENDING,
+                OutboundMail.Status.FAILED, now, PageRequest.of(0, batchSize));
+        long nowNanos = System.nanoTime();
+        for (OutboundMail mail : heads) {
+            if (inFlight.size() >= workers) {
+                break;
+            }
+            String recipient = mail.getRecipient();
+            if (inFlight.contains(recipient)) {
+                continue;
+            }
+            RecipientBucket bucket = buckets.computeIfAbsent(recipient, key -> new RecipientBucket(recipientBurst, nowNanos));
+            if (!bucket.tryAcquire(nowNanos, recipientRatePerNano, recipientBurst)) {
+                throttled.increment();
+                continue;
+            }
+            // 다른 노드가 먼저 가져갔으면 건너뜀
+            if (outboundMailRepository.claim(mail.getId(), OutboundMail.Status.PENDING, OutboundMail.Status.SENDING, now) == 0) {
+                continue;
+            }
+            inFlight.add(recipient);
+            workerPool.execute(() -> deliver(mail));
+        }
+        if (buckets.size() > 10_000) {
+            // 다시 가득 찬 버킷은 새로 만든 것과 같으므로 정리
+            buckets.values().removeIf(bucket -> bucket.isFull(nowNanos, recipientRatePerNano, recipientBurst));
+        }
+    }
+
+    private void deliver(OutboundMail mail) {
+        try {
+            long startedAt = System.nanoTime();
+            try {
+                mailManager.send(mail.getRecipient(), mail.getSubject(), mail.getContent());
+            } catch (Exception e) {
+                sendTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                markFailed(mail, e);
+                return;
+            }
+            sendTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            outboundMailRepository.deleteById(mail.getId());
+            sent.increment();
+        } catch (RuntimeException e) {
+            // 결과를 테이블에 쓰지 못함 - SENDING 으로 남아서 stale-sending-ms 뒤에 다시 보냄
+            log.error("Failed to record the result of mail {} in the outbox", mail.getId(), e);
+        } finally {
+            inFlight.remove(mail.getRecipient());
+            wake();
+        }
+    }
+
+    private void markFailed(OutboundMail mail, Exception cause) {
+        int attempts = mail.getAttempts() + 1;
+        String error = String.valueOf(cause.getMessage());
+        if (error.length() > 500) {
+            error = error.substring(0, 500);
+        }
+        if (attempts >= maxAttempts) {
+            failed.increment();
+            log.error("Giving up on mail {} to {} after {} attempts: {}", mail.getId(), mail.getRecipient(), attempts, error);
+            outboundMailRepository.markAttemptFailed(mail.getId(), OutboundMail.Status.FAILED, attempts,
+                    mail.getNextAttemptAt(), error);
+            return;
+        }
+        long delayMs = Math.min(retryMaxDelayMs, retryBaseDelayMs << Math.min(attempts - 1, 20));
+        retried.increment();
+        log.warn("Mail {} to {} failed (attempt {}/{}), retrying in {}ms: {}",
+                mail.getId(), mail.getRecipient(), attempts, maxAttempts, delayMs, error);
+        outboundMailRepository.markAttemptFailed(mail.getId(), OutboundMail.Status.PENDING, attempts,
+                LocalDateTime.now().plusNanos(delayMs * 1_000_000L), error);
+    }
+
+    /** 수신자 한 명의 토큰 버킷 (PressRateLimiter 와 같은 방식) */
+    private static class RecipientBucket {
+        private double tokens;
+        private long lastRefill;
+
+        RecipientBucket(double burst, long nowNanos) {
+            this.tokens = burst;
+            this.lastRefill = nowNanos;
+        }
+
+        boolean tryAcquire(long nowNanos, double ratePerNano, double burst) {
+            tokens = Math.min(burst, tokens + (nowNanos - lastRefill) * ratePerNano);
+            lastRefill = nowNanos;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+
+        boolean isFull(long nowNanos, double ratePerNano, double burst) {
+            return tokens + (nowNanos - lastRefill) * ratePerNano >= burst;
+        }
+    }
+}
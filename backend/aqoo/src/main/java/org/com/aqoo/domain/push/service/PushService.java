@@ -3,13 +3,12 @@ package org.com.aqoo.domain.push.service;
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.Message;
 import com.google.firebase.messaging.WebpushConfig;
-import org.com.aqoo.domain.auth.entity.User;
+import org.com.aqoo.domain.auth.service.RefreshTokenStore;
 import org.com.aqoo.domain.notification.dto.NotificationRequest;
 import org.com.aqoo.domain.notification.service.NotificationService;
 import org.com.aqoo.domain.push.dto.PushRequest;
 import org.com.aqoo.domain.push.entity.UserToken;
 import org.com.aqoo.repository.UserTokenRepository;
-import org.com.aqoo.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -24,7 +23,7 @@ public class PushService {
     @Autowired
     private NotificationService notificationService;
     @Autowired
-    private UserRepository userRepository;
+    private RefreshTokenStore refreshTokenStore;
     @Autowired
     private FirebaseService firebaseService;  // FirebaseService 추가
 
@@ -93,9 +92,8 @@ public class PushService {
             return;
         }
 
-        // 해당 유저의 refreshToken이 없으면 푸시 알람을 보내지 않음
-        User user = userRepository.findById(request.getRecipientId()).orElse(null);
-        if (user == null || user.getRefreshToken() == null || user.getRefreshToken().isEmpty()) {
+        // 해당 유저의 유효한 refreshToken이 없으면(모든 기기에서 로그아웃) 푸시 알람을 보내지 않음
+        if (!refreshTokenStore.hasActiveSession(request.getRecipientId())) {
             System.out.println(request.getRecipientId() + " 유저는 로그아웃되었습니다. 푸시 알람을 보내지 않습니다.");
             return;
         }
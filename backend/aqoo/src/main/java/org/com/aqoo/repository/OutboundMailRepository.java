@@ -0,0 +1,55 @@
+package org.com.aqoo.repository;
+
+import org.com.aqoo.domain.mail.entity.OutboundMail;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboundMailRepository extends JpaRepository<OutboundMail, Long> {
+
+    // 지금 보낼 수 있는 수신자별 맨 앞 메일 (앞에 끝나지 않은 메일이 있거나 재시도를 기다리는 수신자는 빠짐)
+    @Query("SELECT m FROM OutboundMail m WHERE m.status = :pending AND m.nextAttemptAt <= :now "
+            + "AND m.id = (SELECT MIN(o.id) FROM OutboundMail o WHERE o.recipient = m.recipient AND o.status <> :failed) "
+            + "ORDER BY m.id")
+    List<OutboundMail> findDueHeads(@Param("pending") OutboundMail.Status pending,
+                                    @Param("failed") OutboundMail.Status failed,
+                                    @Param("now") LocalDateTime now,
+                                    Pageable pageable);
+
+    long countByStatus(OutboundMail.Status status);
+
+    // PENDING 인 메일만 SENDING 으로 (여러 노드가 같은 메일을 동시에 가져가지 않도록, 1 이면 가져온 것)
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboundMail m SET m.status = :sending, m.claimedAt = :now WHERE m.id = :id AND m.status = :pending")
+    int claim(@Param("id") Long id,
+              @Param("pending") OutboundMail.Status pending,
+              @Param("sending") OutboundMail.Status sending,
+              @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboundMail m SET m.status = :status, m.attempts = :attempts, m.nextAttemptAt = :nextAttemptAt, "
+            + "m.lastError = :lastError WHERE m.id = :id")
+    int markAttemptFailed(@Param("id") Long id,
+                          @Param("status") OutboundMail.Status status,
+                          @Param("attempts") int attempts,
+                          @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                          @Param("lastError") String lastError);
+
+    // 보내는 도중 노드가 죽어서 오래 SENDING 으로 남은 메일을 다시 PENDING 으로
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboundMail m SET m.status = :pending WHERE m.status = :sending AND m.claimedAt < :before")
+    int releaseStale(@Param("pending") OutboundMail.Status pending,
+                     @Param("sending") OutboundMail.Status sending,
+                     @Param("before") LocalDateTime before);
+}
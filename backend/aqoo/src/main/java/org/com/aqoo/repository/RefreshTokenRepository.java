@@ -0,0 +1,36 @@
+package org.com.aqoo.repository;
+
+import org.com.aqoo.domain.auth.entity.RefreshToken;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    // 토큰 해시로 아직 만료되지 않은 세션의 userId 조회 (PK 조회)
+    @Query("SELECT r.userId FROM RefreshToken r WHERE r.tokenHash = :tokenHash AND r.expiresAt > :now")
+    Optional<String> findActiveUserId(@Param("tokenHash") String tokenHash, @Param("now") LocalDateTime now);
+
+    // 로그인 중인 세션이 하나라도 있는지 (user_id 인덱스)
+    boolean existsByUserIdAndExpiresAtAfter(String userId, LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.tokenHash = :tokenHash AND r.userId = :userId")
+    int deleteByTokenHashAndUserId(@Param("tokenHash") String tokenHash, @Param("userId") String userId);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.userId = :userId")
+    int deleteAllByUserId(@Param("userId") String userId);
+
+    // 만료된 토큰 해시를 batch 크기만큼 (expires_at 인덱스)
+    @Query("SELECT r.tokenHash FROM RefreshToken r WHERE r.expiresAt <= :now")
+    List<String> findExpiredTokenHashes(@Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -1,11 +1,13 @@
 package org.com.aqoo.repository;
 
+import org.com.aqoo.domain.auth.dto.UserProfileView;
 import org.com.aqoo.domain.auth.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +24,9 @@ public interface UserRepository extends JpaRepository<User, String> {
 
     List<User> findByIdContainingIgnoreCase(String keyword);
 
+    // 프로필 캐시 miss 를 IN 쿼리 한 번으로 조회 (id, nickname, main_fish_image, level 컬럼만)
+    List<UserProfileView> findProfilesByIdIn(Collection<String> ids);
+
     @Query("SELECT u FROM User u " +
             "WHERE u.id <> :userId " +
             "  AND u.id NOT IN (" +
@@ -0,0 +1,187 @@
+package org.com.aqoo.util;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 애플리케이션 전체가 공유하는 해시드 휠 타이머
+ * - 타이머 스레드 하나가 tick 마다 휠의 한 칸만 확인하므로, 예약이 수만 개여도 비용이 거의 일정합니다.
+ * - 정밀도는 tick 단위(기본 100ms)이므로 게임 제한 시간, 재접속 유예 시간처럼 오차를 허용하는 용도에 사용합니다.
+ * - 만료된 작업은 타이머 스레드에서 실행되므로, 무거운 작업은 다른 실행기로 넘겨야 합니다.
+ */
+@Slf4j
+@Component
+public class HashedWheelTimer {
+
+    private final long tickNanos;
+    private final List<WheelTimeout>[] wheel;
+    private final int mask;
+    private final Queue<WheelTimeout> newTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingTimeouts = new AtomicInteger();
+    private final long startTime;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    // 워커 스레드에서만 접근
+    private long tick;
+
+    @SuppressWarnings("unchecked")
+    public HashedWheelTimer(@Value("${timer.tick-ms:100}") long tickMillis,
+                            @Value("${timer.wheel-size:512}") int wheelSize) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive: " + tickMillis);
+        }
+        // 휠 크기는 2의 거듭제곱으로 맞춰 나머지 연산을 비트 연산으로 대체
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.wheel = new List[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+        this.mask = size - 1;
+        this.startTime = System.nanoTime();
+        this.worker = new Thread(this::run, "hashed-wheel-timer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * delay 후에 task 를 한 번 실행하도록 예약
+     *
+     * @return 예약을 취소할 수 있는 핸들
+     * @throws IllegalStateException 타이머가 이미 멈춘 경우 (실행되지 않을 예약을 받지 않음)
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (!running) {
+            throw new IllegalStateException("HashedWheelTimer is stopped");
+        }
+        long deadline = System.nanoTime() - startTime + unit.toNanos(delay);
+        WheelTimeout timeout = new WheelTimeout(task, deadline);
+        pendingTimeouts.incrementAndGet();
+        newTimeouts.offer(timeout);
+        return timeout;
+    }
+
+    /** 아직 만료되거나 취소되지 않은 예약 수 */
+    public int pendingTimeouts() {
+        return pendingTimeouts.get();
+    }
+
+    /** 타이머 스레드를 멈춤 (아직 만료되지 않은 예약은 실행되지 않음) */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            long deadline = tickNanos * (tick + 1);
+            long sleepNanos = deadline - (System.nanoTime() - startTime);
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        return;
+                    }
+                    continue;
+                }
+            }
+            transferNewTimeouts();
+            expire(wheel[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    /** 새로 예약된 작업을 휠의 알맞은 칸으로 옮김 */
+    private void transferNewTimeouts() {
+        WheelTimeout timeout;
+        while ((timeout = newTimeouts.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            // 이미 지난 deadline 은 현재 칸에 넣어 이번 tick 에 바로 실행
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void expire(List<WheelTimeout> bucket) {
+        Iterator<WheelTimeout> it = bucket.iterator();
+        while (it.hasNext()) {
+            WheelTimeout timeout = it.next();
+            if (timeout.isCancelled()) {
+                it.remove();
+            } else if (timeout.remainingRounds <= 0) {
+                it.remove();
+                timeout.expire();
+            } else {
+                timeout.remainingRounds--;
+            }
+        }
+    }
+
+    /** 예약 취소 핸들 */
+    public interface Timeout {
+        /** 아직 실행되지 않았다면 취소하고 true 반환 */
+        boolean cancel();
+
+        boolean isCancelled();
+    }
+
+    private final class WheelTimeout implements Timeout {
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(ST_INIT);
+        // 워커 스레드에서만 접근
+        private long remainingRounds;
+
+        private WheelTimeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (state.compareAndSet(ST_INIT, ST_CANCELLED)) {
+                pendingTimeouts.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state.get() == ST_CANCELLED;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(ST_INIT, ST_EXPIRED)) {
+                return;
+            }
+            pendingTimeouts.decrementAndGet();
+            try {
+                task.run();
+            } catch (Throwable t) {
+                log.warn("Timer task threw an exception", t);
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.com.aqoo.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyStore;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * JWT 서명 키 모음 (kid -> HS256 키)
+ * - 키는 설정(jwt.keys=kid:base64,...) 이나 PKCS12 keystore 파일(alias 가 kid)에서 읽으므로, 재시작해도 토큰이 유지되고
+ *   같은 키를 가진 모든 노드가 서로의 토큰을 검증할 수 있습니다.
+ * - 새 토큰은 active kid 키로 서명하고 헤더에 kid 를 넣습니다. 검증은 헤더의 kid 로 키를 찾으므로,
+ *   ring 에 남아 있는 이전 키로 서명된 토큰도 만료될 때까지 유효합니다 (키 교체 중 무중단).
+ * - 아무 키도 설정하지 않으면 예전처럼 시작할 때 임의의 키를 만듭니다 (개발용, 재시작하면 모든 토큰 무효).
+ */
+@Slf4j
+@Component
+public class JwtKeyRing extends SigningKeyResolverAdapter {
+
+    // kid -> 키 (시작할 때 한 번 만들고 바꾸지 않음)
+    private final Map<String, SecretKey> keys;
+    @Getter
+    private final String activeKid;
+
+    public JwtKeyRing(@Value("${jwt.keys:}") String configuredKeys,
+                      @Value("${jwt.active-kid:}") String activeKid,
+                      @Value("${jwt.keystore.path:}") String keystorePath,
+                      @Value("${jwt.keystore.password:}") String keystorePassword) {
+        Map<String, SecretKey> loaded = new LinkedHashMap<>();
+        loadConfigured(configuredKeys, loaded);
+        if (!keystorePath.isBlank()) {
+            loadKeystore(Path.of(keystorePath), keystorePassword.toCharArray(), loaded);
+        }
+        if (loaded.isEmpty()) {
+            String kid = "local-" + UUID.randomUUID();
+            log.warn("No JWT keys configured (jwt.keys / jwt.keystore.path), using random key {}. "
+                    + "Tokens will not survive a restart or work across nodes.", kid);
+            loaded.put(kid, Keys.secretKeyFor(SignatureAlgorithm.HS256));
+            activeKid = kid;
+        }
+        if (activeKid.isBlank()) {
+            // 지정하지 않으면 처음 읽은 키로 서명
+            activeKid = loaded.keySet().iterator().next();
+        }
+        if (!loaded.containsKey(activeKid)) {
+            throw new IllegalStateException("jwt.active-kid " + activeKid + " is not in the key ring " + loaded.keySet());
+        }
+        this.keys = Collections.unmodifiableMap(loaded);
+        this.activeKid = activeKid;
+        log.info("JWT key ring: active kid {}, verify kids {}", activeKid, keys.keySet());
+    }
+
+    /** 새 토큰에 서명할 키 */
+    public SecretKey getActiveKey() {
+        return keys.get(activeKid);
+    }
+
+    public Set<String> getKids() {
+        return keys.keySet();
+    }
+
+    /** 토큰 헤더의 kid 로 검증 키 선택 (kid 가 없는 토큰은 active 키로 검증) */
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        String kid = header.getKeyId();
+        SecretKey key = keys.get(kid != null ? kid : activeKid);
+        if (key == null) {
+            throw new JwtException("Unknown JWT key id: " + kid);
+        }
+        return key;
+    }
+
+    private static void loadConfigured(String configuredKeys, Map<String, SecretKey> loaded) {
+        for (String entry : configuredKeys.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int separator = trimmed.indexOf(':');
+            if (separator <= 0) {
+                throw new IllegalStateException("jwt.keys entries must be kid:base64-secret");
+            }
+            String kid = trimmed.substring(0, separator);
+            // 256bit 보다 짧은 키는 WeakKeyException
+            loaded.put(kid, Keys.hmacShaKeyFor(Decoders.BASE64.decode(trimmed.substring(separator + 1))));
+        }
+    }
+
+    private static void loadKeystore(Path path, char[] password, Map<String, SecretKey> loaded) {
+        try (InputStream in = Files.newInputStream(path)) {
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(in, password);
+            for (String alias : Collections.list(keyStore.aliases())) {
+                if (keyStore.getKey(alias, password) instanceof SecretKey secret) {
+                    loaded.put(alias, Keys.hmacShaKeyFor(secret.getEncoded()));
+                }
+            }
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to load JWT keystore " + path, e);
+        }
+    }
+}
@@ -2,41 +2,68 @@ package org.com.aqoo.util;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtUtil {
 
-    private static final Key SECRET_KEY = Keys.secretKeyFor(SignatureAlgorithm.HS256); // 안전한 키 생성
         private static final long ACCESS_TOKEN_EXPIRATION = 1000 * 60 * 60; // 1시간
 //    private static final long ACCESS_TOKEN_EXPIRATION = 1000 * 15; // 테스트용, 15초
-    private static final long REFRESH_TOKEN_EXPIRATION = 1000 * 60 * 60 * 24 * 7; // 7일
+    public static final long REFRESH_TOKEN_EXPIRATION = 1000 * 60 * 60 * 24 * 7; // 7일 (RefreshTokenStore 의 만료 시각에도 사용)
+
+    // 서명 키 모음 (새 토큰은 active 키로 서명, 검증은 토큰 헤더의 kid 로 키 선택)
+    private final JwtKeyRing keyRing;
+    // 서명 검증용 파서 (불변이고 thread-safe 하므로 요청마다 만들지 않고 재사용)
+    private final JwtParser parser;
+
+    public JwtUtil(JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(keyRing)
+                .build();
+    }
 
     //토큰 생성 메서드
     public String generateToken(String userId, String type) {
         System.out.println(type + " 토큰 생성");
         long expiration = type.equals("ACCESS") ? ACCESS_TOKEN_EXPIRATION : REFRESH_TOKEN_EXPIRATION;
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setSubject(userId)
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(SECRET_KEY, SignatureAlgorithm.HS256)
+                .setHeaderParam(JwsHeader.KEY_ID, keyRing.getActiveKid());
+        if (!type.equals("ACCESS")) {
+            // 리프레시 토큰은 세션마다 따로 저장하므로, 같은 초에 발급해도 서로 다른 토큰이 되도록 jti 추가
+            builder.setId(UUID.randomUUID().toString());
+        }
+        return builder
+                .signWith(keyRing.getActiveKey(), SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * 서명과 만료 시간을 한 번에 검증하고 claims 반환
+     *
+     * @throws ExpiredJwtException 만료된 토큰
+     * @throws JwtException        서명이 맞지 않거나 형식이 잘못된 토큰
+     */
+    public Claims parseClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
     // 토큰 유효성 검증 메서드
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(SECRET_KEY)
-                    .build()
-                    .parseClaimsJws(token);
+            parseClaims(token);
             return true;
         } catch (ExpiredJwtException e) {
             System.out.println("액세스 토큰이 만료되었습니다.");
@@ -50,12 +77,7 @@ public class JwtUtil {
     // 토큰에서 사용자 ID 추출 메서드
     public String extractUsername(String token) throws Exception {
         try{
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(SECRET_KEY)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            return claims.getSubject();
+            return parseClaims(token).getSubject();
         }
         catch (Exception e) {
             throw new Exception("JWT 검증 오류: " + e.getMessage());
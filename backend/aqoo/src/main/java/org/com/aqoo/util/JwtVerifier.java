@@ -0,0 +1,153 @@
+package org.com.aqoo.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 들어오는 액세스 토큰 검증기
+ * - 토큰은 JwtUtil.parseClaims 로 한 번만 파싱하고 서명을 한 번만 검증합니다.
+ * - 검증에 성공한 토큰은 SHA-256 해시를 키로 만료 시각까지 캐시해서, 같은 토큰이 다시 오면 파싱과 HMAC 검증을 건너뜁니다.
+ *   (토큰 원문은 캐시에 남기지 않습니다)
+ * - 최대 maxSize 개까지 LRU 로 유지합니다.
+ */
+@Component
+public class JwtVerifier {
+
+    private final JwtUtil jwtUtil;
+    private final int maxSize;
+
+    // access-order LinkedHashMap (가장 오래 안 쓴 항목부터 제거), this 로 동기화
+    private final LinkedHashMap<TokenHash, VerifiedToken> entries;
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter expired;
+    private final Counter invalid;
+    private final Timer verifyTimer;
+
+    public JwtVerifier(JwtUtil jwtUtil,
+                       MeterRegistry meterRegistry,
+                       @Value("${jwt.verified-cache.max-size:10000}") int maxSize) {
+        this.jwtUtil = jwtUtil;
+        this.maxSize = Math.max(1, maxSize);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<TokenHash, VerifiedToken> eldest) {
+                return size() > JwtVerifier.this.maxSize;
+            }
+        };
+
+        this.hits = Counter.builder("jwt.verify.cache.requests")
+                .description("Token verifications answered from the verified-claims cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("jwt.verify.cache.requests")
+                .description("Token verifications that had to parse and check the signature")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.expired = Counter.builder("jwt.verify.failures")
+                .description("Rejected tokens")
+                .tag("reason", "expired")
+                .register(meterRegistry);
+        this.invalid = Counter.builder("jwt.verify.failures")
+                .description("Rejected tokens")
+                .tag("reason", "invalid")
+                .register(meterRegistry);
+        this.verifyTimer = Timer.builder("jwt.verify")
+                .description("Time to parse a token and verify its signature (cache misses only)")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("jwt.verify.cache.size", this, JwtVerifier::size)
+                .description("Verified tokens currently cached")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토큰 검증 (캐시에 있고 아직 만료되지 않았으면 파싱하지 않음)
+     *
+     * @throws ExpiredJwtException 만료된 토큰
+     * @throws JwtException        서명이 맞지 않거나 형식이 잘못된 토큰
+     */
+    public VerifiedToken verify(String token) {
+        TokenHash hash = TokenHash.of(token);
+        long now = System.currentTimeMillis();
+        VerifiedToken cached;
+        synchronized (this) {
+            cached = entries.get(hash);
+            if (cached != null && cached.expiresAt() <= now) {
+                entries.remove(hash);
+                cached = null;
+            }
+        }
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        long startedAt = System.nanoTime();
+        Claims claims;
+        try {
+            claims = jwtUtil.parseClaims(token);
+        } catch (ExpiredJwtException e) {
+            expired.increment();
+            throw e;
+        } catch (JwtException | IllegalArgumentException e) {
+            invalid.increment();
+            throw e;
+        } finally {
+            verifyTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+        Date expiration = claims.getExpiration();
+        VerifiedToken verified = new VerifiedToken(claims.getSubject(), expiration != null ? expiration.getTime() : 0L);
+        // 만료 시각이 없는 토큰은 캐시하지 않음 (언제까지 믿어도 되는지 알 수 없음)
+        if (expiration != null) {
+            synchronized (this) {
+                entries.put(hash, verified);
+            }
+        }
+        return verified;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /** 검증된 토큰의 내용 (subject 는 userId) */
+    public record VerifiedToken(String subject, long expiresAt) {
+    }
+
+    /** 토큰 원문 대신 캐시 키로 쓰는 SHA-256 해시 */
+    private record TokenHash(long h0, long h1, long h2, long h3) {
+
+        static TokenHash of(String token) {
+            ByteBuffer digest = ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8)));
+            return new TokenHash(digest.getLong(), digest.getLong(), digest.getLong(), digest.getLong());
+        }
+    }
+}
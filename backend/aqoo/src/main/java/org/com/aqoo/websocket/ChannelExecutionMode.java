@@ -0,0 +1,13 @@
+package org.com.aqoo.websocket;
+
+/**
+ * STOMP 클라이언트 inbound/outbound 채널의 실행 방식
+ */
+public enum ChannelExecutionMode {
+
+    // 크기를 정한 공유 스레드 풀 (세션 안의 순서는 보장하지 않음, 기본값)
+    PLATFORM,
+
+    // 단일 스레드 lane 묶음 (세션마다 받은/보낸 순서대로 처리, inbound 는 같은 방의 메시지를 한 lane 에서 직렬로 처리)
+    ORDERED
+}
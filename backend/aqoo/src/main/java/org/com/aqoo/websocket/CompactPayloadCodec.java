@@ -0,0 +1,58 @@
+package org.com.aqoo.websocket;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 브로드캐스트용 JSON 페이로드를 Smile(바이너리 JSON)로 바꾸는 코덱
+ * - 필드 이름과 반복되는 짧은 문자열은 Smile 의 back-reference 로 한 번만 씁니다.
+ * - 이미지 주소(server.url 로 시작하는 문자열)는 앞부분을 떼고 경로만 보냅니다. 클라이언트가 server.url 을 다시 붙입니다.
+ * - JSON 을 한 번만 읽고 바로 쓰는 스트리밍 변환이라 객체를 다시 만들지 않습니다.
+ */
+@Component
+public class CompactPayloadCodec {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final SmileFactory smileFactory = SmileFactory.builder()
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .build();
+    private final String imageBaseUrl;
+
+    public CompactPayloadCodec(@Value("${server.url:}") String imageBaseUrl) {
+        this.imageBaseUrl = imageBaseUrl;
+    }
+
+    /** JSON 바이트를 Smile 로 변환 (JSON 이 아니면 IOException) */
+    public byte[] encode(byte[] json) throws IOException {
+        ByteArrayBuilder out = new ByteArrayBuilder(smileFactory._getBufferRecycler());
+        try (JsonParser parser = jsonFactory.createParser(json);
+             SmileGenerator generator = smileFactory.createGenerator(out)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.VALUE_STRING) {
+                    generator.writeString(shorten(parser.getText()));
+                } else {
+                    generator.copyCurrentEvent(parser);
+                }
+            }
+        }
+        byte[] encoded = out.toByteArray();
+        out.release();
+        return encoded;
+    }
+
+    private String shorten(String value) {
+        if (!imageBaseUrl.isEmpty() && value.length() > imageBaseUrl.length() && value.startsWith(imageBaseUrl)) {
+            return value.substring(imageBaseUrl.length());
+        }
+        return value;
+    }
+}
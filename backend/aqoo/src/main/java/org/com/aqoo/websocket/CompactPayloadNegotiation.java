@@ -0,0 +1,181 @@
+package org.com.aqoo.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세션별 /topic 페이로드 인코딩 협상
+ * - 클라이언트가 CONNECT 프레임에 "aqoo-payload: compact" 헤더를 보내면 그 세션에는 /topic 메시지를
+ *   CompactPayloadCodec(Smile) 로 바꿔서 application/octet-stream 바이너리 프레임으로 보냅니다.
+ * - 바이너리 프레임은 SockJS 로 보낼 수 없으므로 compact 는 순수 WebSocket 엔드포인트(/ws-native) 로 접속한 세션에만 적용합니다.
+ *   헤더가 없는 기존 클라이언트와 /ws(SockJS) 세션은 지금처럼 JSON 을 받습니다.
+ * - 브로드캐스트 하나는 구독자 수와 관계없이 한 번만 변환하고, compact 세션이 하나도 없으면 변환하지 않습니다.
+ */
+@Slf4j
+@Component
+public class CompactPayloadNegotiation {
+
+    public static final String PAYLOAD_HEADER = "aqoo-payload";
+    public static final String COMPACT = "compact";
+
+    // 브로드캐스트 메시지에 붙여 두는 변환 결과 (구독자들이 나눠 씀, STOMP 프레임에는 쓰이지 않음)
+    private static final String COMPACT_PAYLOAD_HEADER = "aqoo-compact-payload";
+    private static final String TOPIC_PREFIX = "/topic/";
+
+    private final CompactPayloadCodec codec;
+    private final SlowConsumerProtection slowConsumerProtection;
+    private final Set<String> compactSessions = ConcurrentHashMap.newKeySet();
+
+    private final Counter jsonBytes;
+    private final Counter compactBytes;
+
+    public CompactPayloadNegotiation(CompactPayloadCodec codec,
+                                     SlowConsumerProtection slowConsumerProtection,
+                                     MeterRegistry meterRegistry) {
+        this.codec = codec;
+        this.slowConsumerProtection = slowConsumerProtection;
+        Gauge.builder("websocket.compact.sessions", compactSessions, Set::size)
+                .description("Sessions receiving compact (Smile) /topic payloads")
+                .register(meterRegistry);
+        this.jsonBytes = Counter.builder("websocket.compact.payload.bytes")
+                .description("Payload bytes of frames sent to compact sessions, before and after encoding")
+                .tag("encoding", "json")
+                .register(meterRegistry);
+        this.compactBytes = Counter.builder("websocket.compact.payload.bytes")
+                .description("Payload bytes of frames sent to compact sessions, before and after encoding")
+                .tag("encoding", "compact")
+                .register(meterRegistry);
+    }
+
+    /** clientInboundChannel 용: CONNECT 헤더로 인코딩 결정 */
+    public ChannelInterceptor inboundInterceptor() {
+        return new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+                if (accessor == null || !StompCommand.CONNECT.equals(accessor.getCommand())
+                        || !COMPACT.equalsIgnoreCase(accessor.getFirstNativeHeader(PAYLOAD_HEADER))) {
+                    return message;
+                }
+                String sessionId = accessor.getSessionId();
+                if (slowConsumerProtection.supportsBinary(sessionId)) {
+                    compactSessions.add(sessionId);
+                } else {
+                    log.debug("Compact payload requested over a text-only transport, using JSON for session {}", sessionId);
+                }
+                return message;
+            }
+        };
+    }
+
+    /** brokerChannel 용: compact 세션이 있으면 /topic 메시지에 변환기를 붙임 (실제 변환은 처음 필요할 때 한 번) */
+    public ChannelInterceptor brokerInterceptor() {
+        return new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                if (compactSessions.isEmpty() || !(message.getPayload() instanceof byte[] payload)) {
+                    return message;
+                }
+                MessageHeaders headers = message.getHeaders();
+                String destination = SimpMessageHeaderAccessor.getDestination(headers);
+                if (!SimpMessageType.MESSAGE.equals(SimpMessageHeaderAccessor.getMessageType(headers))
+                        || destination == null || !destination.startsWith(TOPIC_PREFIX)
+                        || !isJson(headers.get(MessageHeaders.CONTENT_TYPE))) {
+                    return message;
+                }
+                return MessageBuilder.fromMessage(message)
+                        .setHeader(COMPACT_PAYLOAD_HEADER, new CompactPayload(payload))
+                        .build();
+            }
+        };
+    }
+
+    /** clientOutboundChannel 용: compact 세션으로 가는 메시지의 페이로드를 변환 결과로 교체 */
+    public ChannelInterceptor outboundInterceptor() {
+        return new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                // JSON 세션은 그대로 보냄 (붙여 둔 헤더는 STOMP 프레임에 쓰이지 않음)
+                if (!(message.getHeaders().get(COMPACT_PAYLOAD_HEADER) instanceof CompactPayload compact)
+                        || !compactSessions.contains(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()))) {
+                    return message;
+                }
+                byte[] encoded = compact.get();
+                if (encoded == null) {
+                    return message;
+                }
+                MessageHeaderAccessor accessor = MessageHeaderAccessor.getMutableAccessor(message);
+                accessor.removeHeader(COMPACT_PAYLOAD_HEADER);
+                accessor.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+                jsonBytes.increment(compact.json.length);
+                compactBytes.increment(encoded.length);
+                return MessageBuilder.createMessage(encoded, accessor.getMessageHeaders());
+            }
+        };
+    }
+
+    @EventListener
+    public void handleSessionDisconnect(SessionDisconnectEvent event) {
+        compactSessions.remove(event.getSessionId());
+    }
+
+    private static boolean isJson(Object contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        MimeType mimeType = contentType instanceof MimeType type ? type : MimeType.valueOf(contentType.toString());
+        return MimeTypeUtils.APPLICATION_JSON.isCompatibleWith(mimeType);
+    }
+
+    /** 브로드캐스트 하나의 변환 결과 (처음 요청한 구독자 스레드에서 한 번만 변환) */
+    private final class CompactPayload {
+
+        private final byte[] json;
+        private volatile byte[] encoded;
+        private volatile boolean failed;
+
+        private CompactPayload(byte[] json) {
+            this.json = json;
+        }
+
+        /** @return 변환 결과, JSON 이 아니어서 변환하지 못했으면 null (원래 JSON 으로 보냄) */
+        byte[] get() {
+            byte[] result = encoded;
+            if (result != null || failed) {
+                return result;
+            }
+            synchronized (this) {
+                if (encoded == null && !failed) {
+                    try {
+                        encoded = codec.encode(json);
+                    } catch (IOException e) {
+                        failed = true;
+                        log.debug("Failed to encode compact payload, sending JSON", e);
+                    }
+                }
+                return encoded;
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.com.aqoo.websocket;
+
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * STOMP destination 을 지표 태그로 쓸 패턴으로 바꿈
+ * - /topic/room/{roomId} 처럼 방마다 다른 destination 이 그대로 태그가 되면 방 수만큼 시계열이 생기므로,
+ *   등록된 패턴(/topic/room/*) 중 처음 맞는 것으로 묶습니다.
+ * - 어느 패턴에도 맞지 않으면 "other" 로 모아서 태그 값의 종류가 패턴 수 + 1 을 넘지 않도록 합니다.
+ */
+public class DestinationPatterns {
+
+    static final String OTHER = "other";
+    static final String NONE = "none";
+
+    private final PathMatcher matcher = new AntPathMatcher();
+    private volatile List<String> patterns;
+
+    public DestinationPatterns(Collection<String> patterns) {
+        this.patterns = List.copyOf(patterns);
+    }
+
+    /** 앞쪽에 패턴 추가 (@MessageMapping 경로처럼 기본 패턴보다 구체적인 것) */
+    public synchronized void addFirst(Collection<String> more) {
+        List<String> merged = new ArrayList<>(more);
+        for (String pattern : patterns) {
+            if (!merged.contains(pattern)) {
+                merged.add(pattern);
+            }
+        }
+        this.patterns = List.copyOf(merged);
+    }
+
+    public String normalize(String destination) {
+        if (destination == null) {
+            return NONE;
+        }
+        for (String pattern : patterns) {
+            if (pattern.equals(destination) || matcher.match(pattern, destination)) {
+                return pattern;
+            }
+        }
+        return OTHER;
+    }
+
+    public List<String> getPatterns() {
+        return patterns;
+    }
+}
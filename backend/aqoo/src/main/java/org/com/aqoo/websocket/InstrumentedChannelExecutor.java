@@ -0,0 +1,102 @@
+package org.com.aqoo.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 채널 실행기를 감싸서 대기 중인 작업 수, 큐 대기 시간, 핸들러 실행 시간을 기록
+ * - websocket.channel.queued{channel}      : 실행기에 넘겼지만 아직 시작하지 않은 메시지 수
+ * - websocket.channel.queue.wait{channel}  : 넘긴 뒤 핸들러가 시작되기까지의 시간
+ * - websocket.channel.handle{channel}      : 핸들러 실행 시간 (DB 를 기다리는 핸들러가 여기서 드러남)
+ * - websocket.channel.rejected{channel}    : 대기열이 가득 차서 거절한 메시지 수
+ */
+public class InstrumentedChannelExecutor implements TaskExecutor {
+
+    private final Executor delegate;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Timer queueWait;
+    private final Timer handle;
+    private final Counter rejected;
+
+    public InstrumentedChannelExecutor(String channel, Executor delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        Gauge.builder("websocket.channel.queued", queued, AtomicInteger::get)
+                .description("Messages handed to the channel executor but not started yet")
+                .tag("channel", channel)
+                .register(meterRegistry);
+        this.queueWait = Timer.builder("websocket.channel.queue.wait")
+                .description("Time a message waited in the channel executor before its handler started")
+                .tag("channel", channel)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.handle = Timer.builder("websocket.channel.handle")
+                .description("Time spent in message handlers on the channel executor")
+                .tag("channel", channel)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("websocket.channel.rejected")
+                .description("Messages rejected because the channel executor queue was full")
+                .tag("channel", channel)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        queued.incrementAndGet();
+        try {
+            delegate.execute(new InstrumentedTask(task, System.nanoTime()));
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            rejected.increment();
+            throw e;
+        } catch (RuntimeException e) {
+            queued.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /** 원래 작업의 메시지를 그대로 노출해서 SessionOrderedExecutor 가 lane 을 고를 수 있도록 함 */
+    private final class InstrumentedTask implements MessageHandlingRunnable {
+
+        private final Runnable task;
+        private final long submittedAt;
+
+        private InstrumentedTask(Runnable task, long submittedAt) {
+            this.task = task;
+            this.submittedAt = submittedAt;
+        }
+
+        @Override
+        public Message<?> getMessage() {
+            return task instanceof MessageHandlingRunnable handling ? handling.getMessage() : null;
+        }
+
+        @Override
+        public MessageHandler getMessageHandler() {
+            return task instanceof MessageHandlingRunnable handling ? handling.getMessageHandler() : null;
+        }
+
+        @Override
+        public void run() {
+            long startedAt = System.nanoTime();
+            queued.decrementAndGet();
+            queueWait.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+            try {
+                task.run();
+            } finally {
+                handle.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
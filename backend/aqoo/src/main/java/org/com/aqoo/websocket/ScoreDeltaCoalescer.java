@@ -0,0 +1,116 @@
+package org.com.aqoo.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.com.aqoo.domain.game.dto.ScoreDeltaFrame;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompDecoder;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 아직 보내지 않은 SCORE_DELTA 프레임 두 개를 하나로 합침
+ * - 프레임 문자열을 직접 고치지 않고 StompDecoder 로 헤더와 본문을 나눈 뒤 ScoreDeltaFrame 단위로 합치고, StompEncoder 로 다시 만듭니다.
+ *   (헤더 escape 와 content-length 는 인코더가 처리하므로 escape 된 헤더나 멀티바이트 값이 있어도 정확함)
+ * - SCORE_DELTA 의 점수는 누적값이므로, slot 별로 더 최신 프레임의 점수를 남기면 두 프레임을 차례로 적용한 것과 같습니다.
+ * - 합친 프레임의 seq 와 STOMP 헤더는 최신 프레임의 것을 쓰고, fromSeq 에 합쳐진 첫 프레임의 seq 를 넣습니다.
+ * - MESSAGE 프레임이 아니거나, 본문이 JSON 이 아니거나, SCORE_DELTA 가 아니면 합치지 않습니다.
+ */
+final class ScoreDeltaCoalescer {
+
+    private static final String SCORE_DELTA = "SCORE_DELTA";
+    private static final StompDecoder decoder = new StompDecoder();
+    private static final StompEncoder encoder = new StompEncoder();
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ScoreDeltaCoalescer() {
+    }
+
+    /** 합칠 수 있는 SCORE_DELTA MESSAGE 프레임 (STOMP 헤더와 본문) */
+    record Delta(StompHeaderAccessor headers, ScoreDeltaFrame frame) {
+
+        String destination() {
+            return headers.getDestination();
+        }
+    }
+
+    /**
+     * SCORE_DELTA MESSAGE 프레임이면 헤더와 본문, 아니면 null
+     */
+    static Delta parse(WebSocketMessage<?> message) {
+        if (!(message instanceof TextMessage text)) {
+            return null;
+        }
+        try {
+            List<Message<byte[]>> frames = decoder.decode(ByteBuffer.wrap(text.asBytes()));
+            if (frames.size() != 1) {
+                return null;
+            }
+            Message<byte[]> frame = frames.get(0);
+            StompHeaderAccessor headers = StompHeaderAccessor.wrap(frame);
+            if (headers.getCommand() != StompCommand.MESSAGE || headers.getDestination() == null) {
+                return null;
+            }
+            JsonNode body = objectMapper.readTree(frame.getPayload());
+            if (body == null || !SCORE_DELTA.equals(body.path("message").asText(null))) {
+                return null;
+            }
+            ScoreDeltaFrame delta = objectMapper.treeToValue(body, ScoreDeltaFrame.class);
+            if (delta.getSlots() == null || delta.getScores() == null || delta.getSlots().length != delta.getScores().length) {
+                return null;
+            }
+            return new Delta(headers, delta);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /** older 다음에 newer 를 적용한 결과와 같은 프레임 (헤더는 newer 의 것) */
+    static Delta merge(Delta older, Delta newer) {
+        return new Delta(newer.headers(), merge(older.frame(), newer.frame()));
+    }
+
+    /** older 다음에 newer 를 적용한 결과와 같은 SCORE_DELTA (slot 오름차순) */
+    static ScoreDeltaFrame merge(ScoreDeltaFrame older, ScoreDeltaFrame newer) {
+        Map<Integer, Integer> scores = new TreeMap<>();
+        collect(older, scores);
+        collect(newer, scores);
+        int[] slots = new int[scores.size()];
+        int[] values = new int[scores.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Integer> entry : scores.entrySet()) {
+            slots[i] = entry.getKey();
+            values[i] = entry.getValue();
+            i++;
+        }
+        long fromSeq = older.getFromSeq() != null ? older.getFromSeq() : older.getSeq();
+        return new ScoreDeltaFrame(SCORE_DELTA, newer.getSeq(), slots, values, fromSeq);
+    }
+
+    /** 다시 STOMP MESSAGE 프레임으로 인코딩 (content-length 는 인코더가 본문 byte 수로 다시 씀) */
+    static TextMessage encode(Delta delta) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(delta.frame());
+            StompHeaderAccessor headers = StompHeaderAccessor.create(StompCommand.MESSAGE, delta.headers().toNativeHeaderMap());
+            return new TextMessage(encoder.encode(MessageBuilder.createMessage(body, headers.getMessageHeaders())));
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static void collect(ScoreDeltaFrame frame, Map<Integer, Integer> scores) {
+        for (int i = 0; i < frame.getSlots().length; i++) {
+            scores.put(frame.getSlots()[i], frame.getScores()[i]);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package org.com.aqoo.websocket;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 단일 스레드 lane 여러 개로 이루어진 실행기
+ * - 세션마다 mailbox 를 두고, 한 시점에 한 lane 만 그 mailbox 를 비우므로 한 세션의 프레임은 받은 순서대로 처리됩니다.
+ *   (CONNECT, SUBSCRIBE, SEND, DISCONNECT 가 서로 다른 lane 으로 흩어져 순서가 바뀌지 않음)
+ * - LaneKey 가 방을 알려주면 세션의 mailbox 가 그 방의 lane 으로 옮겨가서 처리되므로, 같은 방의 메시지는 한 스레드에서 직렬로 처리됩니다.
+ *   방을 모르는 프레임은 세션이 마지막으로 있던 lane 에서 그대로 처리됩니다.
+ * - 한 방(세션)의 느린 핸들러는 자기 lane 만 막고, 다른 lane 은 계속 처리됩니다.
+ * - 세션의 대기 메시지가 상한을 넘으면 기다리지 않고 RejectedExecutionException 으로 거절합니다.
+ *   (inbound 는 해당 세션에 ERROR 프레임, outbound 는 해당 메시지 누락으로 끝나고 다른 세션과 호출 스레드는 막히지 않음)
+ */
+@Slf4j
+public class SessionOrderedExecutor implements Executor {
+
+    // 한 번 스케줄될 때 처리할 최대 메시지 수 (한 세션이 lane 을 독점하지 않도록 제한)
+    private static final int MAX_TASKS_PER_DRAIN = 64;
+
+    private final List<ThreadPoolExecutor> lanes = new ArrayList<>();
+    // 처리할 메시지가 남아 있는 세션만 들고 있음 (비면 제거)
+    private final Map<String, SessionMailbox> mailboxes = new ConcurrentHashMap<>();
+    private final AtomicInteger roundRobin = new AtomicInteger();
+    private final int sessionQueueCapacity;
+    private final LaneKey laneKey;
+
+    public SessionOrderedExecutor(int laneCount, int sessionQueueCapacity, ThreadFactory threadFactory, LaneKey laneKey) {
+        this.sessionQueueCapacity = Math.max(1, sessionQueueCapacity);
+        this.laneKey = laneKey;
+        for (int i = 0; i < Math.max(1, laneCount); i++) {
+            // lane 큐에는 세션당 최대 한 개의 drain 작업만 들어가므로 크기를 따로 제한하지 않음
+            lanes.add(new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), threadFactory));
+        }
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        Message<?> message = messageOf(task);
+        String sessionId = message != null ? SimpMessageHeaderAccessor.getSessionId(message.getHeaders()) : null;
+        if (sessionId == null) {
+            // 세션이 없는 메시지는 지킬 순서가 없으므로 lane 을 돌아가며 사용
+            lanes.get(Math.floorMod(roundRobin.getAndIncrement(), lanes.size())).execute(task);
+            return;
+        }
+        SessionMailbox mailbox = mailboxes.compute(sessionId, (id, current) -> {
+            SessionMailbox target = current != null ? current : new SessionMailbox(id, laneOf(id));
+            target.enqueue(task);
+            return target;
+        });
+        mailbox.schedule();
+    }
+
+    public void shutdown() {
+        lanes.forEach(ThreadPoolExecutor::shutdown);
+    }
+
+    /** 아직 처리하지 못한 메시지가 남아 있는 세션 수 */
+    public int pendingSessions() {
+        return mailboxes.size();
+    }
+
+    private int laneOf(String key) {
+        return Math.floorMod(key.hashCode(), lanes.size());
+    }
+
+    private static Message<?> messageOf(Runnable task) {
+        return task instanceof MessageHandlingRunnable handling ? handling.getMessage() : null;
+    }
+
+    /**
+     * 세션 하나의 메시지 대기열 (GameRoomLoop 의 mailbox 와 같은 방식)
+     * enqueue 와 비었을 때의 제거는 mailboxes.compute 안에서만 일어나므로, 한 세션에 mailbox 가 둘 생기지 않습니다.
+     */
+    private final class SessionMailbox {
+
+        private final String sessionId;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+        // 지금 이 세션을 처리하는 lane (drain 안에서만 바뀜)
+        private volatile int lane;
+
+        private SessionMailbox(String sessionId, int lane) {
+            this.sessionId = sessionId;
+            this.lane = lane;
+        }
+
+        private void enqueue(Runnable task) {
+            if (size.incrementAndGet() > sessionQueueCapacity) {
+                size.decrementAndGet();
+                throw new RejectedExecutionException(
+                        "Session " + sessionId + " already has " + sessionQueueCapacity + " messages waiting");
+            }
+            tasks.offer(task);
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    lanes.get(lane).execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // 종료 중이면 남은 메시지는 버림
+                    scheduled.set(false);
+                    throw e;
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Runnable task;
+                int processed = 0;
+                while (processed < MAX_TASKS_PER_DRAIN && (task = tasks.peek()) != null) {
+                    String key = laneKey.of(messageOf(task));
+                    int target = key != null ? laneOf(key) : lane;
+                    if (target != lane) {
+                        // 다른 방의 lane 으로 옮겨서 이어서 처리 (남은 메시지는 그대로 순서 유지)
+                        lane = target;
+                        break;
+                    }
+                    tasks.poll();
+                    size.decrementAndGet();
+                    try {
+                        task.run();
+                    } catch (Exception e) {
+                        log.error("Channel task failed for session {}", sessionId, e);
+                    }
+                    processed++;
+                }
+            } finally {
+                scheduled.set(false);
+                // 비었으면 제거, 그 사이 들어온 메시지가 있으면 다시 스케줄
+                mailboxes.computeIfPresent(sessionId, (id, current) ->
+                        current == this && tasks.isEmpty() ? null : current);
+                if (!tasks.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+    }
+
+    /**
+     * 세션의 mailbox 를 어느 lane 에서 처리할지 고르는 기준 (세션 안의 순서는 두 경우 모두 보장)
+     * - ROOM    : 방 단위 직렬화 (inbound 용). /topic/room/{roomId} 구독과 /app/chat.*, /app/game.* 메시지 본문의 roomId 의 lane 으로 이동,
+     *             방을 알 수 없는 프레임(CONNECT, DISCONNECT 등)은 세션이 있던 lane 에서 처리
+     * - SESSION : 세션 id 로 정한 lane 에 고정 (outbound 용, 한 소켓으로 나가는 프레임 순서)
+     */
+    public enum LaneKey {
+        ROOM {
+            @Override
+            String of(Message<?> message) {
+                String roomId = message != null ? roomIdOf(message) : null;
+                return roomId != null ? "room:" + roomId : null;
+            }
+        },
+        SESSION {
+            @Override
+            String of(Message<?> message) {
+                return null;
+            }
+        };
+
+        private static final String ROOM_TOPIC_PREFIX = "/topic/room/";
+        private static final List<String> ROOM_COMMAND_PREFIXES = List.of("/app/chat.", "/app/game.");
+        private static final JsonFactory JSON = new JsonFactory();
+
+        /** 옮겨갈 lane 의 키, 지금 lane 에 그대로 있으면 null */
+        abstract String of(Message<?> message);
+
+        static String roomIdOf(Message<?> message) {
+            String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+            if (destination == null) {
+                return null;
+            }
+            if (destination.startsWith(ROOM_TOPIC_PREFIX)) {
+                return destination.substring(ROOM_TOPIC_PREFIX.length());
+            }
+            for (String prefix : ROOM_COMMAND_PREFIXES) {
+                if (destination.startsWith(prefix)) {
+                    return message.getPayload() instanceof byte[] bytes ? roomIdField(bytes) : null;
+                }
+            }
+            return null;
+        }
+
+        // 본문 전체를 트리로 읽지 않고 최상위 roomId 필드만 찾음
+        private static String roomIdField(byte[] payload) {
+            if (payload.length == 0) {
+                return null;
+            }
+            try (JsonParser parser = JSON.createParser(payload)) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    return null;
+                }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if ("roomId".equals(field)) {
+                        return value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                    }
+                    parser.skipChildren();
+                }
+            } catch (IOException e) {
+                // JSON 이 아니면 세션이 있던 lane 에서 처리
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package org.com.aqoo.websocket;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * WebSocket 세션 하나의 전송 지표 (방 지연을 일으키는 클라이언트 확인용)
+ */
+@Getter
+@AllArgsConstructor
+public class SessionSendStatsResponse {
+    private String sessionId;
+    // 방에 입장한 세션이면 userId / roomId, 아니면 null
+    private String userId;
+    private String roomId;
+    private int bufferedFrames;
+    private int bufferedBytes;
+    private long framesSent;
+    private long bytesSent;
+    private long framesCoalesced;
+    private double avgSendMillis;
+    private double maxSendMillis;
+
+    public static SessionSendStatsResponse from(SlowConsumerWebSocketSession session) {
+        long sent = session.getFramesSent();
+        double avgSendMillis = sent == 0 ? 0 : session.getTotalSendNanos() / 1_000_000d / sent;
+        return new SessionSendStatsResponse(
+                session.getId(),
+                (String) session.getAttributes().get("userId"),
+                (String) session.getAttributes().get("roomId"),
+                session.getBufferedFrames(),
+                session.getBufferedBytes(),
+                sent,
+                session.getBytesSent(),
+                session.getFramesCoalesced(),
+                avgSendMillis,
+                session.getMaxSendNanos() / 1_000_000d);
+    }
+}
@@ -0,0 +1,175 @@
+package org.com.aqoo.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.sockjs.transport.SockJsSession;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 느린 클라이언트 보호 설정과 세션별 전송 지표
+ * - WebSocket 세션을 SlowConsumerWebSocketSession 으로 감싸서 세션마다 버퍼 크기와 전송 시간을 제한합니다.
+ * - 실제 소켓 쓰기는 전송 전용 스레드 풀에서 하므로, outbound 채널 스레드는 느린 소켓을 기다리지 않습니다.
+ * - 살아 있는 세션의 전송 지표를 모아 두고, 방 지연을 일으키는 세션을 찾을 수 있도록 느린 순으로 보여줍니다.
+ * - 새 프레임이 오지 않아도 멈춘 전송을 찾도록 주기적으로 모든 세션의 전송 시간을 확인합니다.
+ */
+@Slf4j
+@Component
+public class SlowConsumerProtection {
+
+    // 프레임 하나를 보내는 데 허용하는 최대 시간 (ms)
+    @Getter
+    private final long sendTimeLimitMillis;
+    // 세션마다 보내지 못하고 쌓아 둘 수 있는 최대 크기 (byte)
+    @Getter
+    private final int sendBufferSizeLimit;
+
+    private final Map<String, SlowConsumerWebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    // 세션 버퍼를 소켓에 쓰는 스레드 풀
+    private final ExecutorService sendExecutor;
+    // 전송 시간 제한을 주기적으로 확인하는 스레드
+    private final ScheduledExecutorService sendWatchdog;
+
+    private final Counter coalesced;
+    private final Counter timeLimitDisconnects;
+    private final Counter bufferLimitDisconnects;
+    private final Timer sendTimer;
+
+    public SlowConsumerProtection(MeterRegistry meterRegistry,
+                                  @Value("${aqoo.websocket.send-time-limit-ms:10000}") long sendTimeLimitMillis,
+                                  @Value("${aqoo.websocket.send-buffer-size-limit:524288}") int sendBufferSizeLimit,
+                                  @Value("${aqoo.websocket.send-threads:0}") int sendThreads,
+                                  @Value("${aqoo.websocket.send-check-interval-ms:1000}") long sendCheckIntervalMillis) {
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.sendExecutor = Executors.newFixedThreadPool(
+                sendThreads > 0 ? sendThreads : Runtime.getRuntime().availableProcessors() * 2, runnable -> {
+                    Thread thread = new Thread(runnable, "ws-send-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.sendWatchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ws-send-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(10, sendCheckIntervalMillis);
+        sendWatchdog.scheduleWithFixedDelay(this::checkStalledSends, interval, interval, TimeUnit.MILLISECONDS);
+
+        this.coalesced = Counter.builder("websocket.session.frames.coalesced")
+                .description("Stale SCORE_DELTA frames merged into a newer one before being sent")
+                .register(meterRegistry);
+        this.timeLimitDisconnects = Counter.builder("websocket.session.slow.disconnects")
+                .description("Sessions closed because a single send exceeded the time limit")
+                .tag("reason", "time")
+                .register(meterRegistry);
+        this.bufferLimitDisconnects = Counter.builder("websocket.session.slow.disconnects")
+                .description("Sessions closed because the send buffer exceeded its limit")
+                .tag("reason", "buffer")
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("websocket.session.send")
+                .description("Time to write one frame to a WebSocket session")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("websocket.session.buffered.bytes", this, SlowConsumerProtection::totalBufferedBytes)
+                .description("Bytes waiting in per-session send buffers")
+                .register(meterRegistry);
+    }
+
+    /** WebSocket 핸들러를 감싸서 새 세션마다 SlowConsumerWebSocketSession 을 씌움 */
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                SlowConsumerWebSocketSession decorated = new SlowConsumerWebSocketSession(
+                        session, SlowConsumerProtection.this, sendTimeLimitMillis, sendBufferSizeLimit);
+                sessions.put(session.getId(), decorated);
+                super.afterConnectionEstablished(decorated);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    /** 최대 전송 시간, 버퍼 크기 순으로 느린 세션 limit 개 */
+    public List<SlowConsumerWebSocketSession> slowestSessions(int limit) {
+        return sessions.values().stream()
+                .sorted(Comparator.comparingLong(SlowConsumerWebSocketSession::getMaxSendNanos)
+                        .thenComparingInt(SlowConsumerWebSocketSession::getBufferedBytes)
+                        .reversed())
+                .limit(Math.max(0, limit))
+                .toList();
+    }
+
+    /** 바이너리 프레임을 보낼 수 있는 세션인지 (SockJS 세션은 텍스트 프레임만 보낼 수 있음) */
+    public boolean supportsBinary(String sessionId) {
+        SlowConsumerWebSocketSession session = sessionId != null ? sessions.get(sessionId) : null;
+        return session != null && !(session.getDelegate() instanceof SockJsSession);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sendWatchdog.shutdownNow();
+        sendExecutor.shutdownNow();
+    }
+
+    // 마지막 프레임을 보내다 멈춘 세션은 sendMessage 가 더 이상 불리지 않으므로 여기서 끊음
+    private void checkStalledSends() {
+        for (SlowConsumerWebSocketSession session : sessions.values()) {
+            try {
+                session.checkLimits();
+            } catch (RuntimeException e) {
+                log.warn("Failed to check send limits of WebSocket session {}", session.getId(), e);
+            }
+        }
+    }
+
+    void execute(Runnable flush) {
+        sendExecutor.execute(flush);
+    }
+
+    void frameSent(long elapsedNanos) {
+        sendTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void frameCoalesced() {
+        coalesced.increment();
+    }
+
+    void sessionDisconnected(String reason) {
+        ("time".equals(reason) ? timeLimitDisconnects : bufferLimitDisconnects).increment();
+    }
+
+    private double totalBufferedBytes() {
+        long total = 0;
+        for (SlowConsumerWebSocketSession session : sessions.values()) {
+            total += session.getBufferedBytes();
+        }
+        return total;
+    }
+}
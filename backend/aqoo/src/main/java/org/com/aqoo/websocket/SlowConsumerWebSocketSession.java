@@ -0,0 +1,254 @@
+package org.com.aqoo.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 세션마다 보낼 프레임을 버퍼에 쌓아 두고 전송 전용 스레드에서 내보내는 decorator
+ * - 보내는 쪽(outbound 채널 스레드)은 버퍼에 넣기만 하고 바로 돌아가므로, 느린 클라이언트가 다른 세션의 전송을 막지 않습니다.
+ * - 한 세션의 전송은 한 번에 하나의 작업에서만 이루어지므로 프레임 순서가 유지됩니다.
+ * - 같은 destination 의 SCORE_DELTA 가 아직 안 나간 상태로 버퍼 끝에 있으면 새 SCORE_DELTA 와 합칩니다 (오래된 점수 프레임 대신 최신 것만 전송).
+ *   밀린 프레임이 있을 때만 프레임을 decode 해서 확인하므로, 제때 나가는 세션에는 비용이 없습니다.
+ * - 프레임 하나를 보내는 데 sendTimeLimit 이상 걸리거나, 버퍼가 bufferSizeLimit 을 넘으면 세션을 끊습니다.
+ *   전송 시간은 새 프레임이 들어올 때와 SlowConsumerProtection 의 주기적인 확인 때 검사합니다.
+ *   클라이언트는 재접속 후 /app/game.sync 로 받는 GAME_SYNC, 구독 시 받는 USER_LIST 와 채팅 히스토리로 상태를 복구합니다.
+ * - Spring 의 ConcurrentWebSocketSessionDecorator 가 이 세션을 다시 감싸지만, 여기서는 버퍼에 넣고 바로 돌아가므로
+ *   전송 시간과 버퍼 크기 제한은 이 클래스에서만 검사합니다.
+ */
+@Slf4j
+public class SlowConsumerWebSocketSession extends WebSocketSessionDecorator {
+
+    private final SlowConsumerProtection protection;
+    private final long sendTimeLimitNanos;
+    private final int bufferSizeLimit;
+
+    // 아래 두 필드는 buffer 로 동기화 (버퍼에 있는 프레임은 아직 안 나간 것만)
+    private final ArrayDeque<Pending> buffer = new ArrayDeque<>();
+    private int bufferedBytes;
+
+    // 한 번 스케줄될 때 보낼 최대 프레임 수 (한 세션이 전송 스레드를 독점하지 않도록 제한)
+    private static final int MAX_FRAMES_PER_FLUSH = 64;
+
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private volatile long sendStartedAt;
+    // 제한을 넘었거나 전송에 실패해서 닫는 중
+    private volatile boolean limitExceeded;
+
+    // 세션별 전송 지표
+    private final AtomicLong framesSent = new AtomicLong();
+    private final AtomicLong bytesSent = new AtomicLong();
+    private final AtomicLong framesCoalesced = new AtomicLong();
+    private final AtomicLong totalSendNanos = new AtomicLong();
+    private final AtomicLong maxSendNanos = new AtomicLong();
+
+    public SlowConsumerWebSocketSession(WebSocketSession delegate, SlowConsumerProtection protection,
+                                        long sendTimeLimitMillis, int bufferSizeLimit) {
+        super(delegate);
+        this.protection = protection;
+        this.sendTimeLimitNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeLimitMillis);
+        this.bufferSizeLimit = bufferSizeLimit;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) {
+        if (limitExceeded) {
+            return;
+        }
+        enqueue(message);
+        if (!scheduleFlush()) {
+            // 이미 전송 중이거나 예약되어 있으면 버퍼에만 넣고 제한만 확인
+            checkLimits();
+        }
+    }
+
+    private boolean scheduleFlush() {
+        if (!flushScheduled.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            protection.execute(this::flush);
+        } catch (RejectedExecutionException e) {
+            // 애플리케이션 종료 중
+            flushScheduled.set(false);
+        }
+        return true;
+    }
+
+    private void enqueue(WebSocketMessage<?> message) {
+        // 밀린 프레임이 있을 때만 합칠 수 있는지 확인 (decode 는 락 밖에서)
+        boolean backlog = hasBufferedFrames();
+        ScoreDeltaCoalescer.Delta incoming = backlog ? ScoreDeltaCoalescer.parse(message) : null;
+        synchronized (buffer) {
+            Pending tail = buffer.peekLast();
+            if (incoming != null && tail != null) {
+                ScoreDeltaCoalescer.Delta last = tail.delta();
+                if (last != null && last.destination().equals(incoming.destination())) {
+                    ScoreDeltaCoalescer.Delta mergedDelta = ScoreDeltaCoalescer.merge(last, incoming);
+                    TextMessage merged = ScoreDeltaCoalescer.encode(mergedDelta);
+                    if (merged != null) {
+                        bufferedBytes += merged.getPayloadLength() - tail.message.getPayloadLength();
+                        tail.replace(merged, mergedDelta);
+                        framesCoalesced.incrementAndGet();
+                        protection.frameCoalesced();
+                        return;
+                    }
+                }
+            }
+            // SCORE_DELTA 가 아닌 프레임이 뒤에 오면 그 앞의 SCORE_DELTA 와는 합치지 않음 (버퍼 끝과만 합치므로 순서 유지)
+            buffer.add(new Pending(message, incoming, backlog));
+            bufferedBytes += message.getPayloadLength();
+        }
+    }
+
+    private void flush() {
+        try {
+            Pending pending;
+            int sent = 0;
+            while (!limitExceeded && sent < MAX_FRAMES_PER_FLUSH && (pending = poll()) != null) {
+                long startedAt = System.nanoTime();
+                sendStartedAt = startedAt;
+                try {
+                    getDelegate().sendMessage(pending.message);
+                } finally {
+                    sendStartedAt = 0;
+                }
+                long elapsed = System.nanoTime() - startedAt;
+                framesSent.incrementAndGet();
+                bytesSent.addAndGet(pending.message.getPayloadLength());
+                totalSendNanos.addAndGet(elapsed);
+                maxSendNanos.accumulateAndGet(elapsed, Math::max);
+                protection.frameSent(elapsed);
+                sent++;
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("Failed to send to WebSocket session {}", getId(), e);
+            closeQuietly(CloseStatus.SESSION_NOT_RELIABLE);
+        } finally {
+            flushScheduled.set(false);
+            // 보내는 도중 새로 들어온 프레임이 있으면 다시 스케줄
+            if (!limitExceeded && hasBufferedFrames()) {
+                scheduleFlush();
+            }
+        }
+    }
+
+    private Pending poll() {
+        synchronized (buffer) {
+            // 꺼낸 프레임은 버퍼에서 빠지므로 이후 프레임과 합쳐지지 않음
+            Pending pending = buffer.poll();
+            if (pending != null) {
+                bufferedBytes -= pending.message.getPayloadLength();
+            }
+            return pending;
+        }
+    }
+
+    /** 전송 시간과 버퍼 크기 제한 확인, 넘었으면 세션을 닫음 */
+    void checkLimits() {
+        long startedAt = sendStartedAt;
+        String reason = null;
+        if (startedAt != 0 && System.nanoTime() - startedAt > sendTimeLimitNanos) {
+            reason = "time";
+        } else if (getBufferedBytes() > bufferSizeLimit) {
+            reason = "buffer";
+        }
+        if (reason == null || limitExceeded) {
+            return;
+        }
+        limitExceeded = true;
+        log.warn("Closing slow WebSocket session {} (limit: {}, buffered {} bytes, max send {} ms)",
+                getId(), reason, getBufferedBytes(), TimeUnit.NANOSECONDS.toMillis(maxSendNanos.get()));
+        protection.sessionDisconnected(reason);
+        closeQuietly(CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    private void closeQuietly(CloseStatus status) {
+        limitExceeded = true;
+        synchronized (buffer) {
+            buffer.clear();
+            bufferedBytes = 0;
+        }
+        try {
+            getDelegate().close(status);
+        } catch (IOException e) {
+            log.debug("Failed to close WebSocket session {}", getId(), e);
+        }
+    }
+
+    private boolean hasBufferedFrames() {
+        synchronized (buffer) {
+            return !buffer.isEmpty();
+        }
+    }
+
+    public int getBufferedBytes() {
+        synchronized (buffer) {
+            return bufferedBytes;
+        }
+    }
+
+    public int getBufferedFrames() {
+        synchronized (buffer) {
+            return buffer.size();
+        }
+    }
+
+    public long getFramesSent() {
+        return framesSent.get();
+    }
+
+    public long getBytesSent() {
+        return bytesSent.get();
+    }
+
+    public long getFramesCoalesced() {
+        return framesCoalesced.get();
+    }
+
+    public long getTotalSendNanos() {
+        return totalSendNanos.get();
+    }
+
+    public long getMaxSendNanos() {
+        return maxSendNanos.get();
+    }
+
+    private static final class Pending {
+        private WebSocketMessage<?> message;
+        // SCORE_DELTA 이면 decode 결과, 아니면 null (inspected 가 false 면 아직 확인 전)
+        private ScoreDeltaCoalescer.Delta delta;
+        private boolean inspected;
+
+        private Pending(WebSocketMessage<?> message, ScoreDeltaCoalescer.Delta delta, boolean inspected) {
+            this.message = message;
+            this.delta = delta;
+            this.inspected = inspected;
+        }
+
+        // 버퍼가 비어 있을 때 들어온 프레임은 다음 프레임이 합쳐질 때 처음 확인
+        private ScoreDeltaCoalescer.Delta delta() {
+            if (!inspected) {
+                delta = ScoreDeltaCoalescer.parse(message);
+                inspected = true;
+            }
+            return delta;
+        }
+
+        private void replace(WebSocketMessage<?> message, ScoreDeltaCoalescer.Delta delta) {
+            this.message = message;
+            this.delta = delta;
+            this.inspected = true;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package org.com.aqoo.websocket;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * STOMP clientInboundChannel / clientOutboundChannel 에서 쓰는 실행기
+ * - aqoo.websocket.channel.mode 로 실행 방식(ChannelExecutionMode)을 고릅니다.
+ * - inbound 와 outbound 는 서로 다른 실행기를 쓰므로, DB 를 기다리는 inbound 핸들러가 다른 방으로의 전송을 막지 않습니다.
+ * - 모든 방식에 InstrumentedChannelExecutor 지표가 붙습니다.
+ */
+@Slf4j
+@Component
+public class StompChannelExecutors {
+
+    private final ChannelExecutionMode mode;
+    private final TaskExecutor inbound;
+    private final TaskExecutor outbound;
+
+    // 종료 시 정리할 실행기
+    private final List<Runnable> shutdownHooks = new ArrayList<>();
+
+    public StompChannelExecutors(MeterRegistry meterRegistry,
+                                 @Value("${aqoo.websocket.channel.mode:platform}") String mode,
+                                 @Value("${aqoo.websocket.channel.inbound-threads:0}") int inboundThreads,
+                                 @Value("${aqoo.websocket.channel.outbound-threads:0}") int outboundThreads,
+                                 @Value("${aqoo.websocket.channel.queue-capacity:10000}") int queueCapacity,
+                                 @Value("${aqoo.websocket.channel.session-queue-capacity:1000}") int sessionQueueCapacity) {
+        this.mode = ChannelExecutionMode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        int capacity = this.mode == ChannelExecutionMode.ORDERED ? sessionQueueCapacity : queueCapacity;
+        this.inbound = new InstrumentedChannelExecutor("inbound",
+                create("inbound", threadsOrDefault(inboundThreads), capacity, SessionOrderedExecutor.LaneKey.ROOM), meterRegistry);
+        this.outbound = new InstrumentedChannelExecutor("outbound",
+                create("outbound", threadsOrDefault(outboundThreads), capacity, SessionOrderedExecutor.LaneKey.SESSION), meterRegistry);
+        log.info("STOMP channel executors: mode={}, inbound={}, outbound={}",
+                this.mode, threadsOrDefault(inboundThreads), threadsOrDefault(outboundThreads));
+    }
+
+    public TaskExecutor inbound() {
+        return inbound;
+    }
+
+    public TaskExecutor outbound() {
+        return outbound;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        shutdownHooks.forEach(Runnable::run);
+    }
+
+    private Executor create(String channel, int threads, int queueCapacity, SessionOrderedExecutor.LaneKey laneKey) {
+        ThreadFactory threadFactory = new ChannelThreadFactory("ws-" + channel + "-");
+        if (mode == ChannelExecutionMode.ORDERED) {
+            SessionOrderedExecutor executor = new SessionOrderedExecutor(threads, queueCapacity, threadFactory, laneKey);
+            shutdownHooks.add(executor::shutdown);
+            return executor;
+        }
+        ThreadPoolExecutor executor = boundedPool(threads, queueCapacity, threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+        shutdownHooks.add(executor::shutdown);
+        return executor;
+    }
+
+    /**
+     * 고정 크기 스레드 풀 (큐가 가득 차면 RejectedExecutionException 으로 거절)
+     * 호출한 스레드(WebSocket 수신 스레드, broker)를 붙잡고 기다리면 다른 세션까지 멈추므로 넘친 메시지는 거절합니다.
+     */
+    static ThreadPoolExecutor boundedPool(int threads, int queueCapacity, ThreadFactory threadFactory) {
+        return new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(Math.max(1, queueCapacity)), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // 기본 스레드 수는 Spring 기본값과 같은 코어 수 * 2
+    private static int threadsOrDefault(int threads) {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors() * 2;
+    }
+
+    private static class ChannelThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger counter = new AtomicInteger();
+
+        ChannelThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
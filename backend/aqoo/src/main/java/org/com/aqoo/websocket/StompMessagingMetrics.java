@@ -0,0 +1,236 @@
+package org.com.aqoo.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageMappingInfo;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * STOMP 세션, 구독, destination 별 메시지 수와 @MessageMapping 핸들러 실행 시간 지표
+ * - websocket.sessions                                  : 연결된 STOMP 세션 수
+ * - websocket.subscriptions{destination}                : 패턴별 활성 구독 수
+ * - websocket.messages{direction, destination}          : inbound(클라이언트 SEND), broker(서버가 보낸 브로드캐스트),
+ *                                                         outbound(세션으로 나간 MESSAGE) 메시지 수
+ * - websocket.handler{destination}                      : @MessageMapping 핸들러 실행 시간
+ * destination 태그는 DestinationPatterns 로 묶으므로 방이 늘어나도 시계열 수는 늘지 않습니다.
+ * 관리 포트(management.server.port)의 /actuator/prometheus 로 수집할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class StompMessagingMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final DestinationPatterns destinations;
+
+    // 세션 -> (구독 id -> 구독한 destination 패턴)
+    private final Map<String, Map<String, String>> sessions = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> subscriptions = new ConcurrentHashMap<>();
+    private final Map<String, Counter> messageCounters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> handlerTimers = new ConcurrentHashMap<>();
+
+    // 핸들러 시작 시각 (beforeHandle 과 afterMessageHandled 는 같은 스레드에서 호출됨)
+    private final ThreadLocal<Long> handlerStartedAt = new ThreadLocal<>();
+
+    public StompMessagingMetrics(MeterRegistry meterRegistry,
+                                 @Value("${aqoo.metrics.websocket.destination-patterns:/topic/room/*,/topic/*,/queue/**,/user/**}")
+                                 List<String> patterns) {
+        this.meterRegistry = meterRegistry;
+        this.destinations = new DestinationPatterns(patterns);
+        Gauge.builder("websocket.sessions", sessions, Map::size)
+                .description("Connected STOMP sessions")
+                .register(meterRegistry);
+    }
+
+    /** @MessageMapping 경로(/app/game.press 등)를 그대로 태그로 쓰도록 패턴 앞에 등록 */
+    @EventListener
+    public void registerHandlerDestinations(ContextRefreshedEvent event) {
+        List<String> mapped = new ArrayList<>();
+        for (SimpAnnotationMethodMessageHandler handler :
+                event.getApplicationContext().getBeansOfType(SimpAnnotationMethodMessageHandler.class).values()) {
+            for (SimpMessageMappingInfo info : handler.getHandlerMethods().keySet()) {
+                for (String pattern : info.getDestinationConditions().getPatterns()) {
+                    for (String prefix : handler.getDestinationPrefixes()) {
+                        mapped.add(join(prefix, pattern));
+                    }
+                }
+            }
+        }
+        destinations.addFirst(mapped);
+        log.info("WebSocket metric destination patterns: {}", destinations.getPatterns());
+    }
+
+    @EventListener
+    public void handleSessionConnected(SessionConnectedEvent event) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (sessionId != null) {
+            sessions.putIfAbsent(sessionId, new ConcurrentHashMap<>());
+        }
+    }
+
+    /** 연결이 끊기면 남아 있던 구독까지 정리 (같은 세션에 두 번 와도 한 번만 반영) */
+    @EventListener
+    public void handleSessionDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscribed = sessions.remove(event.getSessionId());
+        if (subscribed != null) {
+            subscribed.values().forEach(pattern -> subscriptionsOf(pattern).decrementAndGet());
+        }
+    }
+
+    /** clientInboundChannel 용: SEND 수, SUBSCRIBE/UNSUBSCRIBE, @MessageMapping 핸들러 시간 */
+    public ChannelInterceptor inboundInterceptor() {
+        return new ExecutorChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                MessageHeaders headers = message.getHeaders();
+                SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(headers);
+                if (SimpMessageType.MESSAGE.equals(type)) {
+                    count("inbound", SimpMessageHeaderAccessor.getDestination(headers));
+                } else if (SimpMessageType.SUBSCRIBE.equals(type)) {
+                    subscribe(SimpMessageHeaderAccessor.getSessionId(headers),
+                            SimpMessageHeaderAccessor.getSubscriptionId(headers),
+                            SimpMessageHeaderAccessor.getDestination(headers));
+                } else if (SimpMessageType.UNSUBSCRIBE.equals(type)) {
+                    unsubscribe(SimpMessageHeaderAccessor.getSessionId(headers),
+                            SimpMessageHeaderAccessor.getSubscriptionId(headers));
+                }
+                return message;
+            }
+
+            @Override
+            public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+                if (handler instanceof SimpAnnotationMethodMessageHandler annotationHandler
+                        && isApplicationMessage(message, annotationHandler)) {
+                    handlerStartedAt.set(System.nanoTime());
+                }
+                return message;
+            }
+
+            @Override
+            public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+                Long startedAt = handlerStartedAt.get();
+                if (startedAt == null || !(handler instanceof SimpAnnotationMethodMessageHandler)) {
+                    return;
+                }
+                handlerStartedAt.remove();
+                String pattern = destinations.normalize(SimpMessageHeaderAccessor.getDestination(message.getHeaders()));
+                handlerTimer(pattern).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+
+    /** brokerChannel 용: 서버가 /topic, /queue 로 보낸 메시지 수 (구독자 수와 무관하게 한 번) */
+    public ChannelInterceptor brokerInterceptor() {
+        return messageCounter("broker");
+    }
+
+    /** clientOutboundChannel 용: 세션으로 나간 MESSAGE 프레임 수 (구독자 수만큼 늘어남) */
+    public ChannelInterceptor outboundInterceptor() {
+        return messageCounter("outbound");
+    }
+
+    private ChannelInterceptor messageCounter(String direction) {
+        return new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                if (SimpMessageType.MESSAGE.equals(SimpMessageHeaderAccessor.getMessageType(message.getHeaders()))) {
+                    count(direction, SimpMessageHeaderAccessor.getDestination(message.getHeaders()));
+                }
+                return message;
+            }
+        };
+    }
+
+    private void subscribe(String sessionId, String subscriptionId, String destination) {
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+        String pattern = destinations.normalize(destination);
+        String previous = sessions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>()).put(subscriptionId, pattern);
+        if (previous != null) {
+            subscriptionsOf(previous).decrementAndGet();
+        }
+        subscriptionsOf(pattern).incrementAndGet();
+    }
+
+    private void unsubscribe(String sessionId, String subscriptionId) {
+        Map<String, String> subscribed = sessionId == null ? null : sessions.get(sessionId);
+        String pattern = subscribed == null || subscriptionId == null ? null : subscribed.remove(subscriptionId);
+        if (pattern != null) {
+            subscriptionsOf(pattern).decrementAndGet();
+        }
+    }
+
+    private void count(String direction, String destination) {
+        String pattern = destinations.normalize(destination);
+        messageCounters.computeIfAbsent(direction + " " + pattern, key -> Counter.builder("websocket.messages")
+                .description("STOMP messages per destination pattern")
+                .tag("direction", direction)
+                .tag("destination", pattern)
+                .register(meterRegistry)).increment();
+    }
+
+    private AtomicInteger subscriptionsOf(String pattern) {
+        return subscriptions.computeIfAbsent(pattern, key -> {
+            AtomicInteger count = new AtomicInteger();
+            Gauge.builder("websocket.subscriptions", count, AtomicInteger::get)
+                    .description("Active STOMP subscriptions per destination pattern")
+                    .tag("destination", key)
+                    .register(meterRegistry);
+            return count;
+        });
+    }
+
+    private Timer handlerTimer(String pattern) {
+        return handlerTimers.computeIfAbsent(pattern, key -> Timer.builder("websocket.handler")
+                .description("Time spent in @MessageMapping handlers")
+                .tag("destination", key)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry));
+    }
+
+    /** CONNECT, SUBSCRIBE 등 @MessageMapping 이 처리하지 않는 메시지는 시간을 재지 않음 */
+    private static boolean isApplicationMessage(Message<?> message, SimpAnnotationMethodMessageHandler handler) {
+        MessageHeaders headers = message.getHeaders();
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (!SimpMessageType.MESSAGE.equals(SimpMessageHeaderAccessor.getMessageType(headers)) || destination == null) {
+            return false;
+        }
+        for (String prefix : handler.getDestinationPrefixes()) {
+            if (destination.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String join(String prefix, String pattern) {
+        if (prefix.endsWith("/") && pattern.startsWith("/")) {
+            return prefix + pattern.substring(1);
+        }
+        return prefix + pattern;
+    }
+}
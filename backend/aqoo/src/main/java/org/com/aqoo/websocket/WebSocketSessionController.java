@@ -0,0 +1,27 @@
+package org.com.aqoo.websocket;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/websocket/sessions")
+@RequiredArgsConstructor
+public class WebSocketSessionController {
+
+    private final SlowConsumerProtection slowConsumerProtection;
+
+    /**
+     * 가장 느린 WebSocket 세션 목록 (최대 전송 시간, 버퍼 크기 순)
+     */
+    @GetMapping("/slow")
+    public List<SessionSendStatsResponse> getSlowSessions(@RequestParam(defaultValue = "20") int limit) {
+        return slowConsumerProtection.slowestSessions(limit).stream()
+                .map(SessionSendStatsResponse::from)
+                .toList();
+    }
+}
@@ -0,0 +1,145 @@
+package org.com.aqoo.domain.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.com.aqoo.domain.auth.controller.AuthController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 비밀번호 해시 풀 - 가득 차거나 늦으면 503 으로 거절
+ */
+class PasswordHasherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch hashing = new CountDownLatch(1);
+    private PasswordHasher hasher;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (hasher != null) {
+            hasher.shutdown();
+        }
+    }
+
+    @Test
+    void hashesOnThePool() {
+        hasher = new PasswordHasher(new PlainEncoder(), meterRegistry, 1, 1, 1_000);
+
+        assertThat(hasher.encode("pw")).isEqualTo("hashed:pw");
+        assertThat(hasher.matches("pw", "hashed:pw")).isTrue();
+        assertThat(hasher.matches("other", "hashed:pw")).isFalse();
+    }
+
+    @Test
+    void rejectsRightAwayWhenTheQueueIsFull() throws Exception {
+        hasher = new PasswordHasher(blockingEncoder(), meterRegistry, 1, 1, 5_000);
+
+        // 스레드 하나가 해시 중이고, 대기열 한 칸도 참
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hasher.encode("a"));
+        assertThat(hashing.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> hasher.encode("b"));
+        await().atMost(Duration.ofSeconds(5)).until(() ->
+                meterRegistry.get("auth.password.hash.queued").gauge().value() == 1);
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> hasher.encode("c"))
+                .isInstanceOfSatisfying(PasswordHasher.PasswordHashingBusyException.class, e -> {
+                    assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+                    assertThat(e.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+                });
+        // 해시가 끝나기를 기다리지 않음
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(1_000);
+        assertThat(rejectedCount("queue-full")).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:a");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:b");
+    }
+
+    @Test
+    void rejectsWhenHashingTakesLongerThanTheTimeout() {
+        hasher = new PasswordHasher(blockingEncoder(), meterRegistry, 1, 1, 100);
+
+        assertThatThrownBy(() -> hasher.matches("a", "hashed:a"))
+                .isInstanceOf(PasswordHasher.PasswordHashingBusyException.class);
+        assertThat(rejectedCount("timeout")).isEqualTo(1);
+    }
+
+    @Test
+    void loginAnswers503WithRetryAfterWhenTheHasherIsBusy() throws Exception {
+        AuthService authService = mock(AuthService.class);
+        when(authService.login(any())).thenThrow(new PasswordHasher.PasswordHashingBusyException());
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new AuthController(authService)).build();
+
+        mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\":\"user1\",\"pw\":\"pw\"}"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+    }
+
+    private double rejectedCount(String reason) {
+        return meterRegistry.get("auth.password.hash.rejected").tag("reason", reason).counter().count();
+    }
+
+    // 풀어 줄 때까지 해시가 끝나지 않는 encoder
+    private PasswordEncoder blockingEncoder() {
+        return new PlainEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                block();
+                return super.encode(rawPassword);
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                block();
+                return super.matches(rawPassword, encodedPassword);
+            }
+
+            private void block() {
+                hashing.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+    }
+
+    private static class PlainEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
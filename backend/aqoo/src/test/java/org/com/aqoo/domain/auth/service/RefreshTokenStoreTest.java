@@ -0,0 +1,107 @@
+package org.com.aqoo.domain.auth.service;
+
+import org.com.aqoo.domain.auth.entity.RefreshToken;
+import org.com.aqoo.repository.RefreshTokenRepository;
+import org.com.aqoo.util.JwtKeyRing;
+import org.com.aqoo.util.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 리프레시 토큰 저장소 - 기기별 세션, 로그아웃, 만료 정리
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({RefreshTokenStore.class, JwtUtil.class, JwtKeyRing.class})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:aqoo-refresh;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "auth.refresh-token.purge-batch-size=2"
+})
+class RefreshTokenStoreTest {
+
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAll();
+    }
+
+    @Test
+    void loginsInTheSameSecondGetSeparateSessions() {
+        String phone = refreshTokenStore.issue("user1");
+        String laptop = refreshTokenStore.issue("user1");
+
+        assertThat(phone).isNotEqualTo(laptop);
+        assertThat(refreshTokenRepository.count()).isEqualTo(2);
+        assertThat(refreshTokenStore.verify(phone)).isEqualTo("user1");
+        assertThat(refreshTokenStore.verify(laptop)).isEqualTo("user1");
+    }
+
+    @Test
+    void logoutRevokesOnlyThatSession() {
+        String phone = refreshTokenStore.issue("user1");
+        String laptop = refreshTokenStore.issue("user1");
+
+        refreshTokenStore.revoke("user1", phone);
+
+        assertThatThrownBy(() -> refreshTokenStore.verify(phone)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(refreshTokenStore.verify(laptop)).isEqualTo("user1");
+        assertThat(refreshTokenStore.hasActiveSession("user1")).isTrue();
+    }
+
+    @Test
+    void revokeAllEndsEverySessionOfTheUserOnly() {
+        String phone = refreshTokenStore.issue("user1");
+        String other = refreshTokenStore.issue("user2");
+
+        refreshTokenStore.revokeAll("user1");
+
+        assertThatThrownBy(() -> refreshTokenStore.verify(phone)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(refreshTokenStore.hasActiveSession("user1")).isFalse();
+        assertThat(refreshTokenStore.verify(other)).isEqualTo("user2");
+    }
+
+    @Test
+    void rejectsMalformedAndUnknownTokens() {
+        assertThatThrownBy(() -> refreshTokenStore.verify("not-a-jwt")).isInstanceOf(IllegalArgumentException.class);
+
+        String token = refreshTokenStore.issue("user1");
+        refreshTokenRepository.deleteAll();
+        // 서명은 맞지만 저장소에 없는 토큰 (로그아웃된 세션)
+        assertThatThrownBy(() -> refreshTokenStore.verify(token)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void purgesExpiredTokensInBatches() {
+        LocalDateTime past = LocalDateTime.now().minusDays(1);
+        for (int i = 0; i < 5; i++) {
+            refreshTokenRepository.save(new RefreshToken("expired-" + i, "user1", past, past.minusDays(7)));
+        }
+        String live = refreshTokenStore.issue("user1");
+
+        refreshTokenStore.purgeExpired();
+
+        assertThat(refreshTokenRepository.count()).isEqualTo(1);
+        assertThat(refreshTokenStore.verify(live)).isEqualTo("user1");
+    }
+}
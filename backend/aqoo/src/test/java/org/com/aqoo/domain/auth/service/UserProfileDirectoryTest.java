@@ -0,0 +1,161 @@
+package org.com.aqoo.domain.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.com.aqoo.domain.auth.dto.UserProfileView;
+import org.com.aqoo.repository.UserRepository;
+import org.com.aqoo.util.ImageUrlUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 사용자 프로필 캐시 - 묶음 조회, invalidate, 크기 제한
+ */
+class UserProfileDirectoryTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    // userId -> DB 에 저장된 닉네임
+    private final Map<String, String> nicknames = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        when(userRepository.findProfilesByIdIn(anyCollection())).thenAnswer(invocation -> views(invocation.getArgument(0)));
+    }
+
+    @Test
+    void loadsOnlyMissingUsersInOneQuery() {
+        UserProfileDirectory directory = directory(100);
+        nicknames.put("a", "alice");
+        nicknames.put("b", "bob");
+
+        directory.get("a");
+        Map<String, ?> profiles = directory.getAll(List.of("a", "b", "ghost"));
+
+        assertThat(profiles).containsOnlyKeys("a", "b", "ghost");
+        assertThat(directory.get("ghost").getNickname()).isEqualTo("닉네임 없음");
+        verify(userRepository).findProfilesByIdIn(List.of("a"));
+        verify(userRepository).findProfilesByIdIn(List.of("b", "ghost"));
+    }
+
+    @Test
+    void invalidateReloadsTheChangedProfile() {
+        UserProfileDirectory directory = directory(100);
+        nicknames.put("a", "alice");
+        assertThat(directory.get("a").getNickname()).isEqualTo("alice");
+
+        nicknames.put("a", "alicia");
+        assertThat(directory.get("a").getNickname()).isEqualTo("alice");
+        directory.invalidate("a");
+
+        assertThat(directory.get("a").getNickname()).isEqualTo("alicia");
+        verify(userRepository, times(2)).findProfilesByIdIn(anyCollection());
+    }
+
+    @Test
+    void loadRacingWithInvalidateIsNotCached() throws Exception {
+        UserProfileDirectory directory = directory(100);
+        nicknames.put("a", "alice");
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userRepository.findProfilesByIdIn(anyCollection())).thenAnswer(invocation -> {
+            List<UserProfileView> views = views(invocation.getArgument(0));
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return views;
+        });
+
+        // 예전 닉네임을 읽은 조회가 끝나기 전에 닉네임이 바뀜
+        CompletableFuture<String> stale = CompletableFuture.supplyAsync(() -> directory.get("a").getNickname());
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        nicknames.put("a", "alicia");
+        directory.invalidate("a");
+        release.countDown();
+        assertThat(stale.get(5, TimeUnit.SECONDS)).isEqualTo("alice");
+
+        assertThat(directory.size()).isZero();
+        assertThat(directory.get("a").getNickname()).isEqualTo("alicia");
+    }
+
+    @Test
+    void invalidateInsideATransactionEvictsAgainAfterCommit() {
+        UserProfileDirectory directory = directory(100);
+        nicknames.put("a", "alice");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            directory.invalidate("a");
+            // 커밋 전에 다른 요청이 예전 값을 다시 캐시
+            directory.get("a");
+            nicknames.put("a", "alicia");
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(directory.get("a").getNickname()).isEqualTo("alicia");
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedBeyondMaxSize() {
+        UserProfileDirectory directory = directory(2);
+        nicknames.put("a", "alice");
+        nicknames.put("b", "bob");
+        nicknames.put("c", "carol");
+
+        directory.get("a");
+        directory.get("b");
+        directory.get("a");
+        directory.get("c");
+
+        assertThat(directory.size()).isEqualTo(2);
+        directory.get("a");
+        directory.get("b");
+        // a 는 남아 있고 b 만 다시 조회
+        verify(userRepository, times(2)).findProfilesByIdIn(List.of("b"));
+        verify(userRepository, times(1)).findProfilesByIdIn(List.of("a"));
+    }
+
+    private UserProfileDirectory directory(int maxSize) {
+        return new UserProfileDirectory(userRepository, new ImageUrlUtils(), new SimpleMeterRegistry(), maxSize, 300);
+    }
+
+    private List<UserProfileView> views(Collection<String> ids) {
+        List<UserProfileView> views = new ArrayList<>();
+        for (String id : ids) {
+            String nickname = nicknames.get(id);
+            if (nickname != null) {
+                views.add(new Profile(id, nickname));
+            }
+        }
+        return views;
+    }
+
+    private record Profile(String getId, String getNickname) implements UserProfileView {
+        @Override
+        public String getMainFishImage() {
+            return "";
+        }
+
+        @Override
+        public Integer getLevel() {
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.com.aqoo.domain.chat.model;
+
+import org.com.aqoo.domain.chat.dto.ChatMessageDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 방별 최근 채팅 링 버퍼 - seq 발급과 after 이후 조회
+ */
+class ChatHistoryTest {
+
+    @Test
+    void returnsOnlyMessagesAfterTheGivenSeq() {
+        ChatHistory history = new ChatHistory(10);
+        for (int i = 1; i <= 5; i++) {
+            assertThat(history.append(message("m" + i))).isEqualTo(i);
+        }
+
+        assertThat(contents(history.since(0))).containsExactly("m1", "m2", "m3", "m4", "m5");
+        assertThat(contents(history.since(3))).containsExactly("m4", "m5");
+        assertThat(history.since(5)).isEmpty();
+        // 클라이언트가 서버보다 앞선 seq 를 보내도 빈 목록
+        assertThat(history.since(42)).isEmpty();
+        assertThat(history.since(Long.MAX_VALUE)).isEmpty();
+    }
+
+    @Test
+    void overwrittenMessagesAreSkipped() {
+        ChatHistory history = new ChatHistory(3);
+        for (int i = 1; i <= 7; i++) {
+            history.append(message("m" + i));
+        }
+
+        assertThat(history.getFirstSeq()).isEqualTo(5);
+        assertThat(history.getLastSeq()).isEqualTo(7);
+        assertThat(contents(history.since(0))).containsExactly("m5", "m6", "m7");
+        assertThat(contents(history.since(5))).containsExactly("m6", "m7");
+        assertThat(history.since(0)).extracting(ChatMessageDto::getSeq).containsExactly(5L, 6L, 7L);
+    }
+
+    @Test
+    void emptyHistoryHasNothingToReplay() {
+        ChatHistory history = new ChatHistory(3);
+
+        assertThat(history.getLastSeq()).isZero();
+        assertThat(history.getFirstSeq()).isEqualTo(1);
+        assertThat(history.since(0)).isEmpty();
+    }
+
+    private static ChatMessageDto message(String content) {
+        ChatMessageDto message = new ChatMessageDto();
+        message.setRoomId("room");
+        message.setSender("a");
+        message.setContent(content);
+        message.setType(ChatMessageDto.MessageType.CHAT);
+        return message;
+    }
+
+    private static List<String> contents(List<ChatMessageDto> messages) {
+        return messages.stream().map(ChatMessageDto::getContent).toList();
+    }
+}
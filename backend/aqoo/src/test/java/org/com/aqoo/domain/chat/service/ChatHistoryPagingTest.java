@@ -0,0 +1,97 @@
+package org.com.aqoo.domain.chat.service;
+
+import org.com.aqoo.domain.auth.service.UserProfileDirectory;
+import org.com.aqoo.domain.chat.dto.ChatHistoryResponse;
+import org.com.aqoo.domain.chat.dto.ChatMessageDto;
+import org.com.aqoo.domain.chat.model.ChatRoom;
+import org.com.aqoo.domain.push.service.PushService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 재접속 시 after= 로 놓친 채팅 받기 - 버퍼에서 밀려난 구간 표시
+ */
+class ChatHistoryPagingTest {
+
+    private ChatRoomService chatRoomService;
+    private ChatRoom room;
+
+    @BeforeEach
+    void setUp() {
+        chatRoomService = new ChatRoomService(mock(SimpMessagingTemplate.class), mock(UserProfileDirectory.class),
+                mock(PushService.class), mock(ApplicationEventPublisher.class), mock(RoomDirectory.class));
+        ReflectionTestUtils.setField(chatRoomService, "chatHistoryCapacity", 3);
+        room = chatRoomService.createRoom("owner");
+    }
+
+    @AfterEach
+    void tearDown() {
+        chatRoomService.shutdown();
+    }
+
+    @Test
+    void clientThatIsUpToDateGetsNothing() {
+        append(2);
+
+        ChatHistoryResponse response = chatRoomService.getChatHistory(room.getId(), 2);
+
+        assertThat(response.getMessages()).isEmpty();
+        assertThat(response.getLastSeq()).isEqualTo(2);
+        assertThat(response.isTruncated()).isFalse();
+    }
+
+    @Test
+    void gapStillInTheBufferIsNotTruncated() {
+        append(5);
+
+        // 3 을 받은 클라이언트는 4, 5 를 받으면 되고 둘 다 버퍼에 있음
+        ChatHistoryResponse response = chatRoomService.getChatHistory(room.getId(), 3);
+
+        assertThat(response.getMessages()).extracting(ChatMessageDto::getSeq).containsExactly(4L, 5L);
+        assertThat(response.isTruncated()).isFalse();
+    }
+
+    @Test
+    void gapOlderThanTheBufferIsTruncated() {
+        append(7);
+
+        // 버퍼에는 5..7 만 남아 있으므로 2..4 는 복구할 수 없음
+        ChatHistoryResponse response = chatRoomService.getChatHistory(room.getId(), 1);
+
+        assertThat(response.getMessages()).extracting(ChatMessageDto::getSeq).containsExactly(5L, 6L, 7L);
+        assertThat(response.isTruncated()).isTrue();
+    }
+
+    @Test
+    void outOfRangeAfterIsClamped() {
+        append(7);
+
+        ChatHistoryResponse ahead = chatRoomService.getChatHistory(room.getId(), Long.MAX_VALUE);
+        assertThat(ahead.getMessages()).isEmpty();
+        assertThat(ahead.isTruncated()).isFalse();
+
+        ChatHistoryResponse negative = chatRoomService.getChatHistory(room.getId(), -5);
+        assertThat(negative.getMessages()).extracting(ChatMessageDto::getSeq).containsExactly(5L, 6L, 7L);
+        assertThat(negative.isTruncated()).isTrue();
+    }
+
+    @Test
+    void emptyRoomIsNotTruncatedAndUnknownRoomHasNoHistory() {
+        assertThat(chatRoomService.getChatHistory(room.getId(), 0).isTruncated()).isFalse();
+        assertThat(chatRoomService.getChatHistory("missing", 0)).isNull();
+    }
+
+    private void append(int count) {
+        for (int i = 0; i < count; i++) {
+            room.getHistory().append(new ChatMessageDto(room.getId(), "owner", "m" + i,
+                    ChatMessageDto.MessageType.CHAT, null, 0));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.com.aqoo.domain.chat.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.com.aqoo.util.HashedWheelTimer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 연결 끊긴 멤버 제거 예약 - 유예 시간 뒤 제거, 유예 시간 안의 재입장은 취소
+ */
+class MemberRemovalSchedulerTest {
+
+    private final ChatRoomService chatRoomService = mock(ChatRoomService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HashedWheelTimer timer = new HashedWheelTimer(10, 64);
+    // 유예 시간 1초
+    private final MemberRemovalScheduler scheduler = new MemberRemovalScheduler(chatRoomService, timer, meterRegistry, 1, 1);
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+        timer.stop();
+    }
+
+    @Test
+    void removesMemberAfterTheGracePeriod() {
+        when(chatRoomService.isRoomEmpty("r1")).thenReturn(true);
+
+        scheduler.scheduleRemoval("r1", "alice");
+
+        verify(chatRoomService, timeout(3_000)).deleteRoom("r1");
+        verify(chatRoomService).removeMember("r1", "alice");
+        assertThat(scheduler.pendingRemovals()).isZero();
+        assertThat(meterRegistry.get("chat.disconnect.removals").tag("result", "removed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void rejoinInsideTheGracePeriodCancelsTheRemoval() {
+        scheduler.scheduleRemoval("r1", "alice");
+        scheduler.scheduleRemoval("r1", "bob");
+
+        scheduler.cancelRemoval("r1", "alice");
+
+        // bob 의 제거가 끝날 때까지 기다린 뒤에도 alice 는 그대로
+        verify(chatRoomService, timeout(3_000)).removeMember("r1", "bob");
+        verify(chatRoomService, after(200).never()).removeMember("r1", "alice");
+        assertThat(timer.pendingTimeouts()).isZero();
+        assertThat(meterRegistry.get("chat.disconnect.removals").tag("result", "cancelled").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void disconnectingAgainRestartsTheGracePeriod() throws Exception {
+        scheduler.scheduleRemoval("r1", "alice");
+        Thread.sleep(600);
+        // 재접속 후 다시 끊김: 처음 예약은 취소되고 새 1초가 시작됨
+        scheduler.scheduleRemoval("r1", "alice");
+
+        verify(chatRoomService, after(600).never()).removeMember(anyString(), anyString());
+        verify(chatRoomService, timeout(2_000)).removeMember("r1", "alice");
+        assertThat(scheduler.pendingRemovals()).isZero();
+    }
+}
@@ -0,0 +1,178 @@
+package org.com.aqoo.domain.chat.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.com.aqoo.domain.auth.dto.UserProfileView;
+import org.com.aqoo.domain.auth.service.UserProfileDirectory;
+import org.com.aqoo.domain.chat.dto.RoomDirectoryPage;
+import org.com.aqoo.domain.chat.model.ChatRoom;
+import org.com.aqoo.domain.chat.model.RoomListing;
+import org.com.aqoo.repository.UserRepository;
+import org.com.aqoo.util.ImageUrlUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로비 방 목록 색인 - 커서, 조건, 동시 갱신
+ */
+class RoomDirectoryTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private RoomDirectory directory;
+
+    @BeforeEach
+    void setUp() {
+        when(userRepository.findProfilesByIdIn(anyCollection())).thenAnswer(invocation -> views(invocation.getArgument(0)));
+        UserProfileDirectory profiles = new UserProfileDirectory(userRepository, new ImageUrlUtils(), new SimpleMeterRegistry(), 100, 300);
+        directory = new RoomDirectory(profiles, 6);
+    }
+
+    @Test
+    void pagesNewestFirstWithCursor() {
+        for (int i = 0; i < 5; i++) {
+            upsert(room("room-" + i, "owner-" + i, null, 1));
+        }
+
+        RoomDirectoryPage first = directory.page(null, 2, null, null, null, null);
+        RoomDirectoryPage second = directory.page(first.getNextCursor(), 2, null, null, null, null);
+        RoomDirectoryPage last = directory.page(second.getNextCursor(), 2, null, null, null, null);
+
+        assertThat(roomIds(first)).containsExactly("room-4", "room-3");
+        assertThat(roomIds(second)).containsExactly("room-2", "room-1");
+        assertThat(roomIds(last)).containsExactly("room-0");
+        assertThat(last.getNextCursor()).isNull();
+    }
+
+    @Test
+    void updatedRoomKeepsItsPositionAndRemovedRoomDisappears() {
+        ChatRoom older = room("older", "a", null, 1);
+        upsert(older);
+        upsert(room("newer", "b", null, 1));
+        upsert(room("gone", "c", null, 1));
+
+        older.addMember("x");
+        upsert(older);
+        directory.remove("gone");
+
+        RoomDirectoryPage page = directory.page(null, 10, null, null, null, null);
+        assertThat(roomIds(page)).containsExactly("newer", "older");
+        assertThat(page.getRooms().get(1).getMemberCount()).isEqualTo(2);
+        assertThat(directory.size()).isEqualTo(2);
+    }
+
+    @Test
+    void filtersByTheGameTypeTheClientChose() {
+        upsert(room("default", "a", null, 1));
+        upsert(room("race", "b", "Game", 1));
+        upsert(room("a", "c", "gameA", 1));
+        upsert(room("b", "d", "gameB", 1));
+
+        // 같은 GameEngine 을 쓰는 종류라도 서로 섞이지 않음
+        assertThat(roomIds(directory.page(null, 10, "gameA", null, null, null))).containsExactly("a");
+        assertThat(roomIds(directory.page(null, 10, "gameB", null, null, null))).containsExactly("b");
+        assertThat(roomIds(directory.page(null, 10, "Game", null, null, null))).containsExactly("race", "default");
+        assertThat(directory.page(null, 10, "unknown", null, null, null).getRooms()).isEmpty();
+    }
+
+    @Test
+    void filtersByOpenSeatsAndOwnerLevel() {
+        upsert(room("full", "a", null, 6));
+        upsert(room("almost", "b", null, 5));
+        upsert(room("empty", "c", null, 1));
+
+        assertThat(roomIds(directory.page(null, 10, null, 1, null, null))).containsExactly("empty", "almost");
+        assertThat(roomIds(directory.page(null, 10, null, 2, null, null))).containsExactly("empty");
+        // 모든 방장의 레벨은 3
+        assertThat(directory.page(null, 10, null, null, 4, null).getRooms()).isEmpty();
+        assertThat(directory.page(null, 10, null, null, 3, 3).getRooms()).hasSize(3);
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> directory.page("abc", 10, null, null, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void slowProfileLookupDoesNotOverwriteNewerOwner() throws Exception {
+        CountDownLatch lookupStarted = new CountDownLatch(1);
+        CountDownLatch releaseLookup = new CountDownLatch(1);
+        when(userRepository.findProfilesByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> ids = invocation.getArgument(0);
+            if (ids.contains("old-owner")) {
+                lookupStarted.countDown();
+                releaseLookup.await(5, TimeUnit.SECONDS);
+            }
+            return views(ids);
+        });
+        ChatRoom room = room("room", "old-owner", null, 1);
+
+        // 예전 방장의 프로필을 조회하는 동안 방장이 바뀌고 다른 스레드가 먼저 색인
+        CompletableFuture<Void> slow = CompletableFuture.runAsync(() -> upsert(room));
+        assertThat(lookupStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        room.setOwnerId("new-owner");
+        room.addMember("new-owner");
+        upsert(room);
+        releaseLookup.countDown();
+        slow.get(5, TimeUnit.SECONDS);
+
+        RoomListing listing = directory.page(null, 10, null, null, null, null).getRooms().get(0);
+        assertThat(listing.getOwnerId()).isEqualTo("new-owner");
+        assertThat(listing.getOwnerNickname()).isEqualTo("nick-new-owner");
+        assertThat(listing.getMemberCount()).isEqualTo(2);
+    }
+
+    private void upsert(ChatRoom room) {
+        directory.upsert(room, () -> true);
+    }
+
+    private static ChatRoom room(String id, String ownerId, String gameType, int members) {
+        ChatRoom room = new ChatRoom(id, ownerId, 10);
+        room.setGameType(gameType);
+        for (int i = 1; i < members; i++) {
+            room.addMember(id + "-member-" + i);
+        }
+        return room;
+    }
+
+    private static List<String> roomIds(RoomDirectoryPage page) {
+        return page.getRooms().stream().map(RoomListing::getRoomId).toList();
+    }
+
+    private static List<UserProfileView> views(Collection<String> ids) {
+        List<UserProfileView> views = new ArrayList<>();
+        for (String id : ids) {
+            views.add(new Profile(id));
+        }
+        return views;
+    }
+
+    private record Profile(String getId) implements UserProfileView {
+        @Override
+        public String getNickname() {
+            return "nick-" + getId;
+        }
+
+        @Override
+        public String getMainFishImage() {
+            return "";
+        }
+
+        @Override
+        public Integer getLevel() {
+            return 3;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package org.com.aqoo.domain.chat.service;
+
+import org.com.aqoo.domain.auth.dto.UserProfile;
+import org.com.aqoo.domain.auth.service.UserProfileDirectory;
+import org.com.aqoo.domain.chat.dto.RoomUpdate;
+import org.com.aqoo.domain.chat.model.ChatRoom;
+import org.com.aqoo.domain.push.service.PushService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * USER_LIST 디바운스 - 창 안의 입장/준비/퇴장은 최종 목록으로 한 번만 전송
+ */
+class UserListDebounceTest {
+
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final UserProfileDirectory profileDirectory = mock(UserProfileDirectory.class);
+    private ChatRoomService chatRoomService;
+    private ChatRoom room;
+
+    @BeforeEach
+    void setUp() {
+        when(profileDirectory.getAll(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> userIds = invocation.getArgument(0);
+            return userIds.stream().collect(Collectors.toMap(Function.identity(), UserProfile::unknown));
+        });
+        chatRoomService = new ChatRoomService(messagingTemplate, profileDirectory,
+                mock(PushService.class), mock(ApplicationEventPublisher.class), mock(RoomDirectory.class));
+        ReflectionTestUtils.setField(chatRoomService, "userListDebounceMs", 200L);
+        room = chatRoomService.createRoom("owner");
+    }
+
+    @AfterEach
+    void tearDown() {
+        chatRoomService.shutdown();
+    }
+
+    @Test
+    void burstOfJoinsAndLeavesSendsOneUserListWithTheFinalMembers() {
+        chatRoomService.addMember(room.getId(), "alice");
+        chatRoomService.addMember(room.getId(), "bob");
+        chatRoomService.markReady(room.getId(), "bob");
+        chatRoomService.addMember(room.getId(), "carol");
+        chatRoomService.removeMember(room.getId(), "alice");
+
+        List<RoomUpdate> updates = sentUserLists(1);
+
+        RoomUpdate update = updates.get(0);
+        assertThat(update.getMessage()).isEqualTo("USER_LIST");
+        Map<String, RoomUpdate.UserInfo> users = update.getUsers().stream()
+                .collect(Collectors.toMap(RoomUpdate.UserInfo::getUserName, Function.identity()));
+        assertThat(users).containsOnlyKeys("owner", "bob", "carol");
+        assertThat(users.get("bob").isReady()).isTrue();
+        assertThat(users.get("owner").isHost()).isTrue();
+    }
+
+    @Test
+    void changeAfterTheWindowClosesIsSentSeparately() {
+        chatRoomService.addMember(room.getId(), "alice");
+        sentUserLists(1);
+
+        chatRoomService.removeMember(room.getId(), "alice");
+
+        List<RoomUpdate> updates = sentUserLists(2);
+        assertThat(updates.get(1).getUsers()).extracting(RoomUpdate.UserInfo::getUserName).containsExactly("owner");
+    }
+
+    /** 디바운스 창이 충분히 지난 뒤까지 보낸 USER_LIST 가 정확히 count 개인지 확인하고 반환 */
+    private List<RoomUpdate> sentUserLists(int count) {
+        ArgumentCaptor<Object> payloads = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate, after(600).times(count))
+                .convertAndSend(eq("/topic/room/" + room.getId()), payloads.capture());
+        return payloads.getAllValues().stream().map(RoomUpdate.class::cast).toList();
+    }
+}
@@ -0,0 +1,73 @@
+package org.com.aqoo.domain.game.engine;
+
+import org.com.aqoo.domain.game.entity.GameRoster;
+import org.com.aqoo.domain.game.service.GameRoomLoop;
+import org.com.aqoo.domain.game.service.PressRateLimiter;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기본 게임(TAP_RACE) 규칙과 gameType 으로 엔진 고르기
+ */
+class TapRaceGameEngineTest {
+
+    private final TapRaceGameEngine engine = new TapRaceGameEngine();
+
+    @Test
+    void reachingTheGoalIsSentImmediatelyAndTheLastFinisherEndsTheGame() {
+        GameRoomLoop loop = loop("a", "b");
+
+        assertThat(engine.applyPress(loop, 0, 60)).isEqualTo(PressResult.BATCHED);
+        assertThat(engine.applyPress(loop, 0, 60)).isEqualTo(PressResult.IMMEDIATE);
+        assertThat(loop.scoreOf(0)).isEqualTo(100);
+        assertThat(engine.acceptsPress(loop, 0)).isFalse();
+
+        assertThat(engine.applyPress(loop, 1, 100)).isEqualTo(PressResult.FINISHED);
+        GameResult result = engine.completedResult(loop);
+        assertThat(result.getFinishOrder()).containsExactly("a", "b");
+        assertThat(result.getWinner()).isEqualTo("nick-a");
+    }
+
+    @Test
+    void timeoutKeepsFinishersFirstThenRanksTheRestByScore() {
+        GameRoomLoop loop = loop("a", "b", "c", "d");
+        engine.applyPress(loop, 2, 100);
+        engine.applyPress(loop, 0, 10);
+        engine.applyPress(loop, 3, 70);
+
+        GameResult result = engine.timeoutResult(loop);
+
+        assertThat(result.getFinishOrder()).containsExactly("c", "d", "a", "b");
+        assertThat(result.getWinner()).isEqualTo("c");
+    }
+
+    @Test
+    void registryFallsBackToTheDefaultEngine() {
+        GameEngine other = new TapRaceGameEngine() {
+            @Override
+            public String getGameType() {
+                return "REVERSE";
+            }
+        };
+        GameEngineRegistry registry = new GameEngineRegistry(List.of(engine, other));
+
+        assertThat(registry.resolve("reverse")).isSameAs(other);
+        assertThat(registry.resolve("tap_race")).isSameAs(engine);
+        assertThat(registry.resolve(null)).isSameAs(engine);
+        assertThat(registry.resolve(" ")).isSameAs(engine);
+        // 드롭다운 값처럼 등록되지 않은 종류
+        assertThat(registry.resolve("gameA")).isSameAs(engine);
+    }
+
+    private GameRoomLoop loop(String... userNames) {
+        List<GameRoster.Member> members = Arrays.stream(userNames)
+                .map(userName -> new GameRoster.Member(userName, "nick-" + userName, ""))
+                .toList();
+        GameRoster roster = new GameRoster(members);
+        return new GameRoomLoop("room", engine, roster, new PressRateLimiter(roster.size(), 15, 10), Runnable::run);
+    }
+}
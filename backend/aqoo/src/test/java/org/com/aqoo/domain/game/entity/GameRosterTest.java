@@ -0,0 +1,47 @@
+package org.com.aqoo.domain.game.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 게임 시작 시 고정한 참가자 스냅샷
+ */
+class GameRosterTest {
+
+    @Test
+    void slotsFollowTheMemberOrder() {
+        GameRoster roster = new GameRoster(List.of(member("a"), member("b"), member("c")));
+
+        assertThat(roster.size()).isEqualTo(3);
+        assertThat(roster.slotOf("a")).isZero();
+        assertThat(roster.slotOf("c")).isEqualTo(2);
+        assertThat(roster.get(1).getNickname()).isEqualTo("nick-b");
+        assertThat(roster.slotOf("stranger")).isEqualTo(-1);
+        assertThat(roster.contains("stranger")).isFalse();
+    }
+
+    @Test
+    void laterChangesToTheSourceListDoNotLeakIn() {
+        List<GameRoster.Member> members = new ArrayList<>(List.of(member("a"), member("b")));
+        GameRoster roster = new GameRoster(members);
+
+        // 게임 도중 방 인원이 바뀌어도 스냅샷은 그대로
+        members.add(member("late"));
+        members.remove(0);
+
+        assertThat(roster.size()).isEqualTo(2);
+        assertThat(roster.slotOf("a")).isZero();
+        assertThat(roster.contains("late")).isFalse();
+        assertThatThrownBy(() -> roster.getMembers().add(member("x")))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private static GameRoster.Member member(String userName) {
+        return new GameRoster.Member(userName, "nick-" + userName, userName + ".png");
+    }
+}
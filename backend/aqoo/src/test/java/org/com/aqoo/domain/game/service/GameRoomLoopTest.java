@@ -0,0 +1,154 @@
+package org.com.aqoo.domain.game.service;
+
+import org.com.aqoo.domain.game.engine.TapRaceGameEngine;
+import org.com.aqoo.domain.game.entity.GameRoster;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 방 단일 작성자 루프 - 작업 순서, 직렬 실행, mailbox 비우기
+ */
+class GameRoomLoopTest {
+
+    private final ExecutorService pool = Executors.newFixedThreadPool(4);
+    private final AtomicInteger drains = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void runsTasksOneAtATimeInSubmitOrderPerProducer() throws Exception {
+        GameRoomLoop loop = loop();
+        int producers = 4;
+        int tasksPerProducer = 500;
+        List<List<Integer>> seen = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            seen.add(new ArrayList<>());
+        }
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                awaitQuietly(start);
+                for (int i = 0; i < tasksPerProducer; i++) {
+                    int value = i;
+                    // 루프 안에서는 락 없이 일반 리스트에 써도 안전해야 함
+                    loop.submit(() -> {
+                        if (running.incrementAndGet() > 1) {
+                            overlaps.incrementAndGet();
+                        }
+                        seen.get(producer).add(value);
+                        running.decrementAndGet();
+                    });
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> {
+            AtomicInteger total = new AtomicInteger();
+            loop.submit(() -> seen.forEach(list -> total.addAndGet(list.size())));
+            return total.get() == producers * tasksPerProducer;
+        });
+        assertThat(overlaps.get()).isZero();
+        for (List<Integer> values : seen) {
+            List<Integer> sorted = new ArrayList<>(values);
+            Collections.sort(sorted);
+            assertThat(values).isEqualTo(sorted).hasSize(tasksPerProducer);
+        }
+    }
+
+    @Test
+    void drainsLongMailboxInSeveralTurnsWithoutLosingTasks() throws Exception {
+        GameRoomLoop loop = loop();
+        CountDownLatch blocker = new CountDownLatch(1);
+        AtomicInteger done = new AtomicInteger();
+
+        // 첫 작업이 풀리기 전에 한 번에 비울 수 있는 양(256)보다 많이 쌓음
+        loop.submit(() -> awaitQuietly(blocker));
+        for (int i = 0; i < 1000; i++) {
+            loop.submit(done::incrementAndGet);
+        }
+        blocker.countDown();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> done.get() == 1000);
+        // 풀 스레드를 독점하지 않고 나누어 다시 스케줄됨
+        assertThat(drains.get()).isGreaterThan(1);
+    }
+
+    @Test
+    void failingTaskDoesNotStopTheLoop() {
+        GameRoomLoop loop = loop();
+        AtomicInteger done = new AtomicInteger();
+
+        loop.submit(() -> {
+            throw new IllegalStateException("boom");
+        });
+        loop.submit(done::incrementAndGet);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> done.get() == 1);
+    }
+
+    @Test
+    void exposesScoresOnlyAsCopies() {
+        GameRoomLoop loop = loop();
+        loop.setScore(1, 40);
+        loop.markChanged(1);
+        loop.addFinisher("a");
+
+        // 밖에서 받은 배열이나 목록을 고쳐도 루프 상태는 그대로
+        loop.scoresSnapshot()[1] = 99;
+        assertThat(loop.scoreOf(1)).isEqualTo(40);
+        assertThatThrownBy(() -> loop.getFinishOrder().add("b"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(loop.addFinisher("a")).isFalse();
+
+        assertThat(loop.isDirty()).isTrue();
+        assertThat(loop.drainChangedSlots()).containsExactly(1);
+        assertThat(loop.drainChangedSlots()).isEmpty();
+    }
+
+    private GameRoomLoop loop() {
+        GameRoster roster = new GameRoster(List.of(
+                new GameRoster.Member("a", "nick-a", ""),
+                new GameRoster.Member("b", "nick-b", "")));
+        return new GameRoomLoop("room", new TapRaceGameEngine(), roster,
+                new PressRateLimiter(roster.size(), 20, 30), task -> {
+                    drains.incrementAndGet();
+                    pool.execute(task);
+                });
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package org.com.aqoo.domain.game.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.com.aqoo.domain.auth.service.UserProfileDirectory;
+import org.com.aqoo.domain.chat.dto.ChatRoomDeletedEvent;
+import org.com.aqoo.domain.chat.model.ChatRoom;
+import org.com.aqoo.domain.chat.service.ChatRoomService;
+import org.com.aqoo.domain.game.dto.PressMessage;
+import org.com.aqoo.domain.game.dto.RoomResponse;
+import org.com.aqoo.domain.game.dto.ScoreDeltaFrame;
+import org.com.aqoo.domain.game.engine.GameEngineRegistry;
+import org.com.aqoo.domain.game.engine.TapRaceGameEngine;
+import org.com.aqoo.domain.game.entity.GameRoster;
+import org.com.aqoo.domain.game.entity.GameState;
+import org.com.aqoo.domain.game.entity.Player;
+import org.com.aqoo.repository.UserRepository;
+import org.com.aqoo.util.HashedWheelTimer;
+import org.com.aqoo.util.ImageUrlUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 게임 진행 - 서버 게임 시계, tick 단위 점수 전송, 생명주기와 상태 해제
+ */
+class GameServiceTest {
+
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final ChatRoomService chatRoomService = mock(ChatRoomService.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HashedWheelTimer timer = new HashedWheelTimer(10, 64);
+    // 보낸 시각과 함께 기록한 방 프레임
+    private final List<Sent> sent = new CopyOnWriteArrayList<>();
+    // 세션 하나에만 보낸 프레임 (user destination)
+    private final List<SentToSession> sentToSession = new CopyOnWriteArrayList<>();
+    private GameService gameService;
+
+    @BeforeEach
+    void setUp() {
+        when(userRepository.findProfilesByIdIn(anyCollection())).thenReturn(List.of());
+        doAnswer(invocation -> {
+            sent.add(new Sent(invocation.getArgument(1), System.currentTimeMillis()));
+            return null;
+        }).when(messagingTemplate).convertAndSend(anyString(), any(Object.class));
+        doAnswer(invocation -> {
+            sentToSession.add(new SentToSession(invocation.getArgument(0), invocation.getArgument(1),
+                    invocation.getArgument(2)));
+            return null;
+        }).when(messagingTemplate).convertAndSendToUser(anyString(), anyString(), any(Object.class), anyMap());
+
+        ChatRoom room = new ChatRoom("room", "a", 10);
+        room.addMember("b");
+        when(chatRoomService.getRoom("room")).thenReturn(room);
+
+        UserProfileDirectory profiles = new UserProfileDirectory(userRepository, new ImageUrlUtils(), meterRegistry, 100, 300);
+        gameService = new GameService(messagingTemplate, chatRoomService, profiles, timer,
+                new GameEngineRegistry(List.of(new TapRaceGameEngine())), meterRegistry);
+        ReflectionTestUtils.setField(gameService, "tickHz", 25);
+        ReflectionTestUtils.setField(gameService, "countdownSeconds", 1);
+        ReflectionTestUtils.setField(gameService, "durationSeconds", 1);
+        ReflectionTestUtils.setField(gameService, "pressMaxRate", 15.0);
+        ReflectionTestUtils.setField(gameService, "pressBurst", 10);
+        gameService.registerMetrics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        gameService.shutdown();
+        timer.stop();
+    }
+
+    @Test
+    void startedFrameCarriesTheDeadlineIncludingTheCountdown() {
+        gameService.startGame("room");
+
+        RoomResponse started = awaitFrame("GAME_STARTED");
+        // 카운트다운 1초 + 제한 시간 1초
+        assertThat(started.getEndsAt() - started.getServerTime()).isBetween(1_800L, 2_000L);
+    }
+
+    @Test
+    void serverClockEndsTheGameWithoutAClientRequest() {
+        gameService.startGame("room");
+        RoomResponse started = awaitFrame("GAME_STARTED");
+
+        RoomResponse ended = awaitFrame("GAME_ENDED");
+        long endedAt = sentAt("GAME_ENDED");
+
+        // 카운트다운이 끝나기 전에 끝내지 않음 (시계 tick 오차만 허용)
+        assertThat(endedAt).isGreaterThanOrEqualTo(started.getEndsAt() - 50);
+        assertThat(ended.getFinishOrder()).containsExactlyInAnyOrder("a", "b");
+        assertThat(ended.getEndsAt()).isNull();
+        await().atMost(Duration.ofSeconds(2)).until(() -> gameService.getPressStats("room").isEmpty());
+    }
+
+    @Test
+    void pressesAfterTheClockRunsOutAreIgnored() {
+        gameService.startGame("room");
+        awaitFrame("GAME_ENDED");
+        int framesAtEnd = sent.size();
+
+        gameService.processPress(press("a", 5));
+        gameService.endGame("room");
+
+        assertThat(sent).hasSize(framesAtEnd);
+    }
+
+    @Test
+    void endedGameIsReleasedAndCounted() {
+        gameService.startGame("room");
+        awaitFrame("GAME_STARTED");
+        assertThat(gauge("game.rooms.active")).isEqualTo(1);
+        assertThat(gauge("game.rooms.retained")).isEqualTo(1);
+
+        gameService.endGame("room");
+        awaitFrame("GAME_ENDED");
+
+        await().atMost(Duration.ofSeconds(2)).until(() -> gauge("game.rooms.retained") == 0);
+        assertThat(gauge("game.rooms.active")).isZero();
+        assertThat(meterRegistry.get("game.rooms.evicted").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void deletingTheChatRoomReleasesTheGameWithoutResult() throws InterruptedException {
+        gameService.startGame("room");
+        awaitFrame("GAME_STARTED");
+
+        gameService.handleChatRoomDeleted(new ChatRoomDeletedEvent("room"));
+
+        await().atMost(Duration.ofSeconds(2)).until(() -> gauge("game.rooms.retained") == 0);
+        // 취소된 게임 시계도 나중에 GAME_ENDED 를 보내지 않음
+        Thread.sleep(2_500);
+        assertThat(frame("GAME_ENDED")).isNull();
+    }
+
+    @Test
+    void restartReplacesThePreviousGame() {
+        gameService.startGame("room");
+        awaitFrame("GAME_STARTED");
+
+        gameService.startGame("room");
+
+        await().atMost(Duration.ofSeconds(2)).until(() ->
+                meterRegistry.get("game.rooms.evicted").functionCounter().count() == 1);
+        assertThat(gauge("game.rooms.retained")).isEqualTo(1);
+        assertThat(gameService.getPressStats("room")).hasValueSatisfying(stats ->
+                assertThat(stats.getState()).isEqualTo(GameState.RUNNING.name()));
+    }
+
+    @Test
+    void pressesWithinOneTickAreSentAsOneDeltaWithTheLatestScores() throws InterruptedException {
+        // tick 을 500ms 로 늘려 아래 탭이 모두 같은 tick 에 들어오도록 함
+        ReflectionTestUtils.setField(gameService, "tickHz", 2);
+        ReflectionTestUtils.setField(gameService, "durationSeconds", 5);
+        gameService.startGame("room");
+        List<String> slots = awaitFrame("GAME_STARTED").getPlayers().stream().map(Player::getUserName).toList();
+
+        for (int i = 0; i < 3; i++) {
+            gameService.processPress(press("a", 1));
+        }
+        gameService.processPress(press("b", 1));
+        gameService.processPress(press("b", 1));
+
+        await().atMost(Duration.ofSeconds(2)).until(() -> !deltas().isEmpty());
+        // 다음 tick 이 지나도 추가 프레임이 없어야 함
+        Thread.sleep(700);
+        List<ScoreDeltaFrame> deltas = deltas();
+        assertThat(deltas).hasSize(1);
+        ScoreDeltaFrame delta = deltas.get(0);
+        assertThat(delta.getSeq()).isEqualTo(1);
+        assertThat(delta.getSlots()).containsExactly(0, 1);
+        assertThat(delta.getScores()[slots.indexOf("a")]).isEqualTo(3);
+        assertThat(delta.getScores()[slots.indexOf("b")]).isEqualTo(2);
+    }
+
+    @Test
+    void deltaCarriesOnlyTheSlotsThatChanged() {
+        gameService.startGame("room");
+        List<String> slots = awaitFrame("GAME_STARTED").getPlayers().stream().map(Player::getUserName).toList();
+
+        gameService.processPress(press("b", 4));
+
+        await().atMost(Duration.ofSeconds(2)).until(() -> !deltas().isEmpty());
+        ScoreDeltaFrame delta = deltas().get(0);
+        assertThat(delta.getSlots()).containsExactly(slots.indexOf("b"));
+        assertThat(delta.getScores()).containsExactly(4);
+    }
+
+    @Test
+    void syncGoesOnlyToTheRequestingSessionAndKeepsSeqContinuous() {
+        ReflectionTestUtils.setField(gameService, "tickHz", 2);
+        ReflectionTestUtils.setField(gameService, "durationSeconds", 5);
+        gameService.startGame("room");
+        List<String> slots = awaitFrame("GAME_STARTED").getPlayers().stream().map(Player::getUserName).toList();
+
+        // 아직 tick 이 오지 않은 변경분이 있는 상태에서 재동기화 요청
+        gameService.processPress(press("a", 3));
+        gameService.resync("room", "session-1");
+
+        await().atMost(Duration.ofSeconds(2)).until(() -> !sentToSession.isEmpty());
+        SentToSession sync = sentToSession.get(0);
+        assertThat(sync.sessionId()).isEqualTo("session-1");
+        assertThat(sync.destination()).isEqualTo("/queue/game");
+        RoomResponse syncFrame = (RoomResponse) sync.payload();
+        assertThat(syncFrame.getMessage()).isEqualTo("GAME_SYNC");
+        // 보류 중이던 변경분은 GAME_SYNC 전에 seq 1 로 먼저 나가고, GAME_SYNC 는 같은 seq 를 기준점으로 줌
+        assertThat(deltas()).extracting(ScoreDeltaFrame::getSeq).containsExactly(1L);
+        assertThat(syncFrame.getSeq()).isEqualTo(1);
+        assertThat(syncFrame.getPlayers().get(slots.indexOf("a")).getTotalPressCount()).isEqualTo(3);
+        // 방 전체로는 GAME_SYNC 를 보내지 않음
+        assertThat(frame("GAME_SYNC")).isNull();
+
+        // 재동기화 뒤의 delta 는 끊김 없이 이어짐
+        gameService.processPress(press("b", 2));
+        await().atMost(Duration.ofSeconds(2)).until(() -> deltas().size() == 2);
+        assertThat(deltas().get(1).getSeq()).isEqualTo(2);
+    }
+
+    @Test
+    void stateOnlyMovesForward() {
+        GameRoster roster = new GameRoster(List.of(new GameRoster.Member("a", "nick-a", "")));
+        GameRoomLoop loop = new GameRoomLoop("room", new TapRaceGameEngine(), roster,
+                new PressRateLimiter(1, 15, 10), Runnable::run);
+
+        assertThat(loop.getState()).isEqualTo(GameState.CREATED);
+        assertThat(loop.transitionTo(GameState.RUNNING)).isTrue();
+        assertThat(loop.isEnded()).isFalse();
+        assertThat(loop.transitionTo(GameState.ENDED)).isTrue();
+        assertThat(loop.isEnded()).isTrue();
+        // ENDED 뒤에 늦게 도착한 시작 작업이 게임을 되살리지 않음
+        assertThat(loop.transitionTo(GameState.RUNNING)).isFalse();
+        assertThat(loop.transitionTo(GameState.ENDED)).isFalse();
+        assertThat(loop.transitionTo(GameState.EVICTED)).isTrue();
+        assertThat(loop.getState()).isEqualTo(GameState.EVICTED);
+    }
+
+    private List<ScoreDeltaFrame> deltas() {
+        return sent.stream()
+                .filter(s -> s.payload() instanceof ScoreDeltaFrame)
+                .map(s -> (ScoreDeltaFrame) s.payload())
+                .toList();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private RoomResponse awaitFrame(String message) {
+        await().atMost(Duration.ofSeconds(5)).until(() -> frame(message) != null);
+        return frame(message);
+    }
+
+    private RoomResponse frame(String message) {
+        return sent.stream()
+                .filter(s -> s.payload() instanceof RoomResponse response && message.equals(response.getMessage()))
+                .map(s -> (RoomResponse) s.payload())
+                .findFirst()
+                .orElse(null);
+    }
+
+    private long sentAt(String message) {
+        return sent.stream()
+                .filter(s -> s.payload() instanceof RoomResponse response && message.equals(response.getMessage()))
+                .mapToLong(Sent::at)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static PressMessage press(String userName, int count) {
+        PressMessage message = new PressMessage();
+        message.setRoomId("room");
+        message.setUserName(userName);
+        message.setPressCount(count);
+        return message;
+    }
+
+    private record Sent(Object payload, long at) {
+    }
+
+    private record SentToSession(String sessionId, String destination, Object payload) {
+    }
+}
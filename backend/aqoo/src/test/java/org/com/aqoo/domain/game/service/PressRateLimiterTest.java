@@ -0,0 +1,66 @@
+package org.com.aqoo.domain.game.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 참가자별 탭 토큰 버킷
+ */
+class PressRateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void grantsUpToBurstThenRefillsAtTheRate() {
+        PressRateLimiter limiter = new PressRateLimiter(1, 10, 5);
+        long start = System.nanoTime();
+
+        assertThat(limiter.acquire(0, 8, start)).isEqualTo(5);
+        assertThat(limiter.acquire(0, 1, start)).isZero();
+        // 0.3 초에 3 개
+        assertThat(limiter.acquire(0, 10, start + SECOND * 3 / 10)).isEqualTo(3);
+
+        assertThat(limiter.acceptedOf(0)).isEqualTo(8);
+        assertThat(limiter.rejectedOf(0)).isEqualTo(3 + 1 + 7);
+    }
+
+    @Test
+    void clockReadBeforeConstructionDoesNotCostTokens() {
+        long before = System.nanoTime() - SECOND;
+        PressRateLimiter limiter = new PressRateLimiter(1, 10, 5);
+
+        assertThat(limiter.acquire(0, 5, before)).isEqualTo(5);
+    }
+
+    @Test
+    void tokensNeverExceedTheBurst() {
+        PressRateLimiter limiter = new PressRateLimiter(1, 10, 5);
+        long start = System.nanoTime();
+
+        // 한참 쉬어도 burst 이상 쌓이지 않음
+        assertThat(limiter.acquire(0, 100, start + 60 * SECOND)).isEqualTo(5);
+    }
+
+    @Test
+    void slotsHaveSeparateBuckets() {
+        PressRateLimiter limiter = new PressRateLimiter(2, 10, 5);
+        long start = System.nanoTime();
+
+        assertThat(limiter.acquire(0, 5, start)).isEqualTo(5);
+        assertThat(limiter.acquire(1, 5, start)).isEqualTo(5);
+        assertThat(limiter.acceptedOf(0)).isEqualTo(5);
+        assertThat(limiter.rejectedOf(1)).isZero();
+    }
+
+    @Test
+    void nonPositiveRequestsAreRejectedWithoutSpendingTokens() {
+        PressRateLimiter limiter = new PressRateLimiter(1, 10, 5);
+        long start = System.nanoTime();
+
+        assertThat(limiter.acquire(0, 0, start)).isZero();
+        assertThat(limiter.acquire(0, -3, start)).isZero();
+        assertThat(limiter.rejectedOf(0)).isEqualTo(2);
+        assertThat(limiter.acquire(0, 5, start)).isEqualTo(5);
+    }
+}
@@ -0,0 +1,177 @@
+package org.com.aqoo.domain.mail.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.com.aqoo.domain.mail.entity.OutboundMail;
+import org.com.aqoo.repository.OutboundMailRepository;
+import org.com.aqoo.util.MailManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 메일 발송 대기열 - 내장 H2 와 localhost 의 가짜 SMTP 수신기로 확인
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 워커 스레드가 저장된 메일을 볼 수 있도록 바로 커밋
+@Import({MailOutbox.class, MailManager.class, MailOutboxTest.SmtpConfig.class})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:aqoo-mail;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "aqoo.mail.poll-interval-ms=100",
+        "aqoo.mail.retry-base-delay-ms=200",
+        "aqoo.mail.max-attempts=2",
+        // 수신자마다 순간 2 개, 그 뒤로는 10 초에 1 개
+        "aqoo.mail.recipient-rate-per-minute=6",
+        "aqoo.mail.recipient-burst=2",
+        "aqoo.mail.batch-size=3"
+})
+class MailOutboxTest {
+
+    private static final FakeSmtpServer SMTP = start();
+
+    @Autowired
+    private MailOutbox mailOutbox;
+    @Autowired
+    private OutboundMailRepository outboundMailRepository;
+
+    @TestConfiguration
+    static class SmtpConfig {
+        @Bean
+        JavaMailSender javaMailSender() {
+            JavaMailSenderImpl sender = new JavaMailSenderImpl();
+            sender.setHost("localhost");
+            sender.setPort(SMTP.port());
+            sender.setDefaultEncoding("UTF-8");
+            return sender;
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        SMTP.reset();
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        SMTP.close();
+    }
+
+    @Test
+    void enqueueReturnsBeforeSmtpAndKeepsRecipientOrder() {
+        SMTP.delayMs(300);
+
+        long startedAt = System.nanoTime();
+        mailOutbox.enqueue("order@aqoo.test", "first", "<p>1</p>");
+        mailOutbox.enqueue("order@aqoo.test", "second", "<p>2</p>");
+        long enqueueMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // SMTP 응답(300ms) 을 기다리지 않음
+        assertThat(enqueueMs).isLessThan(300);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> received("order@aqoo.test").size() == 2);
+        List<FakeSmtpServer.Received> mails = received("order@aqoo.test");
+        assertThat(mails.get(0).data()).contains("Subject: first");
+        assertThat(mails.get(1).data()).contains("Subject: second");
+        await().atMost(Duration.ofSeconds(2)).until(() -> outboundMailRepository.count() == 0);
+    }
+
+    @Test
+    void retriesAfterTemporaryFailure() {
+        SMTP.failNext(1);
+
+        mailOutbox.enqueue("retry@aqoo.test", "retry", "<p>retry</p>");
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> received("retry@aqoo.test").size() == 1);
+        await().atMost(Duration.ofSeconds(2)).until(() -> outboundMailRepository.count() == 0);
+    }
+
+    @Test
+    void keepsMailAsFailedAfterLastAttempt() {
+        SMTP.failNext(2);
+
+        mailOutbox.enqueue("failed@aqoo.test", "failed", "<p>failed</p>");
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> outboundMailRepository.findAll().stream()
+                .anyMatch(mail -> mail.getStatus() == OutboundMail.Status.FAILED));
+        OutboundMail failed = outboundMailRepository.findAll().get(0);
+        assertThat(failed.getAttempts()).isEqualTo(2);
+        assertThat(failed.getLastError()).contains("451");
+        assertThat(received("failed@aqoo.test")).isEmpty();
+        outboundMailRepository.deleteAll();
+    }
+
+    @Test
+    void holdsBackMailsOverRecipientRateLimit() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            mailOutbox.enqueue("limited@aqoo.test", "limited-" + i, "<p>" + i + "</p>");
+        }
+        mailOutbox.enqueue("other@aqoo.test", "other", "<p>other</p>");
+
+        await().atMost(Duration.ofSeconds(5)).until(() ->
+                received("limited@aqoo.test").size() == 2 && received("other@aqoo.test").size() == 1);
+        Thread.sleep(500);
+
+        // 세 번째 메일은 버리지 않고 토큰이 찰 때까지 대기열에 남음
+        assertThat(received("limited@aqoo.test")).hasSize(2);
+        assertThat(mailOutbox.pendingCount()).isEqualTo(1);
+        outboundMailRepository.deleteAll();
+    }
+
+    @Test
+    void throttledBacklogLargerThanBatchDoesNotStarveOtherRecipients() throws InterruptedException {
+        // 속도 제한에 걸린 수신자의 밀린 메일이 batch-size(3) 보다 많음
+        for (int i = 0; i < 6; i++) {
+            mailOutbox.enqueue("flood@aqoo.test", "flood-" + i, "<p>" + i + "</p>");
+        }
+        await().atMost(Duration.ofSeconds(5)).until(() -> received("flood@aqoo.test").size() == 2);
+        Thread.sleep(300);
+
+        mailOutbox.enqueue("late@aqoo.test", "late", "<p>late</p>");
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> received("late@aqoo.test").size() == 1);
+        assertThat(received("flood@aqoo.test")).hasSize(2);
+        assertThat(mailOutbox.pendingCount()).isEqualTo(4);
+        outboundMailRepository.deleteAll();
+    }
+
+    private static List<FakeSmtpServer.Received> received(String recipient) {
+        return SMTP.received().stream().filter(mail -> recipient.equals(mail.recipient())).toList();
+    }
+
+    private static FakeSmtpServer start() {
+        try {
+            return new FakeSmtpServer();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
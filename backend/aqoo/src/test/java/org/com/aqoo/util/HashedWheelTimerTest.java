@@ -0,0 +1,106 @@
+package org.com.aqoo.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 해시드 휠 타이머 - tick 정밀도, 취소, 휠 한 바퀴를 넘는 예약, 종료
+ */
+class HashedWheelTimerTest {
+
+    // 10ms tick, 4칸 휠 (한 바퀴 40ms)
+    private final HashedWheelTimer timer = new HashedWheelTimer(10, 4);
+
+    @AfterEach
+    void tearDown() {
+        timer.stop();
+    }
+
+    @Test
+    void firesNoEarlierThanTheDelayAndWithinAFewTicks() throws Exception {
+        CountDownLatch fired = new CountDownLatch(1);
+        long start = System.nanoTime();
+        AtomicInteger elapsedMillis = new AtomicInteger();
+        timer.schedule(() -> {
+            elapsedMillis.set((int) TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            fired.countDown();
+        }, 100, TimeUnit.MILLISECONDS);
+
+        assertThat(fired.await(2, TimeUnit.SECONDS)).isTrue();
+        // 일찍 실행되는 일은 없고, 늦어도 tick 몇 개 (CI 여유 포함)
+        assertThat(elapsedMillis.get()).isBetween(100, 300);
+        assertThat(timer.pendingTimeouts()).isZero();
+    }
+
+    @Test
+    void timeoutsLongerThanOneWheelRoundWaitForTheirRound() throws Exception {
+        // 같은 칸에 들어가지만 바퀴 수가 다른 예약들 (30ms, 70ms, 150ms 는 모두 3번 칸 근처)
+        long[] delays = {5, 30, 70, 150, 310};
+        Map<Long, Long> firedAt = new ConcurrentHashMap<>();
+        CountDownLatch fired = new CountDownLatch(delays.length);
+        long start = System.nanoTime();
+        for (long delay : delays) {
+            timer.schedule(() -> {
+                firedAt.put(delay, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                fired.countDown();
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+
+        assertThat(fired.await(3, TimeUnit.SECONDS)).isTrue();
+        for (long delay : delays) {
+            assertThat(firedAt.get(delay)).as("delay %dms", delay).isGreaterThanOrEqualTo(delay);
+        }
+    }
+
+    @Test
+    void cancelledTimeoutNeverRuns() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        HashedWheelTimer.Timeout cancelled = timer.schedule(runs::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+        CountDownLatch later = new CountDownLatch(1);
+        HashedWheelTimer.Timeout kept = timer.schedule(later::countDown, 120, TimeUnit.MILLISECONDS);
+
+        assertThat(cancelled.cancel()).isTrue();
+        assertThat(cancelled.isCancelled()).isTrue();
+        assertThat(cancelled.cancel()).isFalse();
+        assertThat(timer.pendingTimeouts()).isEqualTo(1);
+
+        assertThat(later.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(runs).hasValue(0);
+        // 이미 실행된 예약은 취소할 수 없음
+        assertThat(kept.cancel()).isFalse();
+        assertThat(timer.pendingTimeouts()).isZero();
+    }
+
+    @Test
+    void failingTaskDoesNotStopTheTimer() throws Exception {
+        timer.schedule(() -> {
+            throw new IllegalStateException("boom");
+        }, 10, TimeUnit.MILLISECONDS);
+        CountDownLatch fired = new CountDownLatch(1);
+        timer.schedule(fired::countDown, 40, TimeUnit.MILLISECONDS);
+
+        assertThat(fired.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void stoppedTimerRunsNothingAndRejectsNewTimeouts() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        timer.schedule(runs::incrementAndGet, 30, TimeUnit.MILLISECONDS);
+
+        timer.stop();
+        Thread.sleep(150);
+
+        assertThat(runs).hasValue(0);
+        assertThatThrownBy(() -> timer.schedule(runs::incrementAndGet, 10, TimeUnit.MILLISECONDS))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,105 @@
+package org.com.aqoo.util;
+
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * kid 기반 JWT 키 모음 - 키 교체, 노드 간 공유, 잘못된 설정
+ */
+class JwtKeyRingTest {
+
+    private static final String OLD = "old:" + secret(1);
+    private static final String NEW = "new:" + secret(2);
+
+    @Test
+    void tokensSignedWithTheOldKeyStayValidAfterRotation() {
+        JwtUtil before = new JwtUtil(new JwtKeyRing(OLD, "", "", ""));
+        String oldToken = before.generateToken("user1", "ACCESS");
+
+        // 새 키를 추가하고 active 로 바꿈 (이전 키는 검증용으로 남김)
+        JwtUtil after = new JwtUtil(new JwtKeyRing(OLD + "," + NEW, "new", "", ""));
+        String newToken = after.generateToken("user2", "ACCESS");
+
+        assertThat(after.parseClaims(oldToken).getSubject()).isEqualTo("user1");
+        assertThat(after.parseClaims(newToken).getSubject()).isEqualTo("user2");
+        // 이전 키만 가진 노드는 새 kid 를 모름
+        assertThatThrownBy(() -> before.parseClaims(newToken))
+                .isInstanceOf(JwtException.class)
+                .hasMessageContaining("new");
+    }
+
+    @Test
+    void tokensOfARetiredKeyAreRejected() {
+        String oldToken = new JwtUtil(new JwtKeyRing(OLD + "," + NEW, "old", "", "")).generateToken("user1", "ACCESS");
+
+        JwtUtil retired = new JwtUtil(new JwtKeyRing(NEW, "", "", ""));
+
+        assertThatThrownBy(() -> retired.parseClaims(oldToken)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void nodesWithTheSameKeysVerifyEachOthersTokens() {
+        String token = new JwtUtil(new JwtKeyRing(OLD + "," + NEW, "new", "", "")).generateToken("user1", "ACCESS");
+
+        assertThat(new JwtUtil(new JwtKeyRing(NEW + "," + OLD, "new", "", "")).parseClaims(token).getSubject())
+                .isEqualTo("user1");
+    }
+
+    @Test
+    void loadsKeysFromAPkcs12Keystore(@TempDir Path dir) throws Exception {
+        char[] password = "changeit".toCharArray();
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        keyStore.load(null, password);
+        keyStore.setEntry("store-kid",
+                new KeyStore.SecretKeyEntry(new SecretKeySpec(Base64.getDecoder().decode(secret(3)), "HmacSHA256")),
+                new KeyStore.PasswordProtection(password));
+        Path path = dir.resolve("jwt.p12");
+        try (OutputStream out = Files.newOutputStream(path)) {
+            keyStore.store(out, password);
+        }
+
+        JwtKeyRing ring = new JwtKeyRing(OLD, "store-kid", path.toString(), "changeit");
+
+        assertThat(ring.getKids()).containsExactly("old", "store-kid");
+        assertThat(ring.getActiveKid()).isEqualTo("store-kid");
+        JwtUtil jwtUtil = new JwtUtil(ring);
+        assertThat(jwtUtil.parseClaims(jwtUtil.generateToken("user1", "ACCESS")).getSubject()).isEqualTo("user1");
+    }
+
+    @Test
+    void rejectsBadConfiguration() {
+        assertThatThrownBy(() -> new JwtKeyRing(OLD, "missing", "", ""))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new JwtKeyRing("no-separator", "", "", ""))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new JwtKeyRing("", "", "/does/not/exist.p12", ""))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void fallsBackToARandomKeyWhenNothingIsConfigured() {
+        JwtKeyRing ring = new JwtKeyRing("", "", "", "");
+
+        assertThat(ring.getActiveKid()).startsWith("local-");
+        JwtUtil jwtUtil = new JwtUtil(ring);
+        assertThat(jwtUtil.parseClaims(jwtUtil.generateToken("user1", "ACCESS")).getSubject()).isEqualTo("user1");
+    }
+
+    private static String secret(int fill) {
+        byte[] bytes = new byte[32];
+        Arrays.fill(bytes, (byte) fill);
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+}
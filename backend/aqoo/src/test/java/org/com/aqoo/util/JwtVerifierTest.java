@@ -0,0 +1,111 @@
+package org.com.aqoo.util;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 액세스 토큰 검증 캐시
+ */
+class JwtVerifierTest {
+
+    private final JwtKeyRing keyRing = new JwtKeyRing("k1:" + Base64.getEncoder().encodeToString(new byte[32]), "", "", "");
+    private final JwtUtil jwtUtil = new JwtUtil(keyRing);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void sameTokenIsVerifiedOnceThenServedFromTheCache() {
+        JwtVerifier verifier = new JwtVerifier(jwtUtil, meterRegistry, 100);
+        String token = jwtUtil.generateToken("user1", "ACCESS");
+
+        assertThat(verifier.verify(token).subject()).isEqualTo("user1");
+        assertThat(verifier.verify(token).subject()).isEqualTo("user1");
+
+        assertThat(count("jwt.verify.cache.requests", "result", "miss")).isEqualTo(1);
+        assertThat(count("jwt.verify.cache.requests", "result", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    void cachedTokenIsRejectedOnceItExpires() throws InterruptedException {
+        JwtVerifier verifier = new JwtVerifier(jwtUtil, meterRegistry, 100);
+        String token = sign("user1", new Date(System.currentTimeMillis() + 1_000));
+        verifier.verify(token);
+
+        // exp 는 초 단위로 잘리므로 넉넉히 기다림
+        Thread.sleep(2_100);
+
+        assertThatThrownBy(() -> verifier.verify(token)).isInstanceOf(ExpiredJwtException.class);
+        assertThat(verifier.size()).isZero();
+        assertThat(count("jwt.verify.failures", "reason", "expired")).isEqualTo(1);
+    }
+
+    @Test
+    void invalidTokensAreCountedAndNeverCached() {
+        JwtVerifier verifier = new JwtVerifier(jwtUtil, meterRegistry, 100);
+        String token = jwtUtil.generateToken("user1", "ACCESS");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> verifier.verify(tampered)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> verifier.verify(tampered)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> verifier.verify("not-a-jwt")).isInstanceOf(JwtException.class);
+
+        assertThat(verifier.size()).isZero();
+        assertThat(count("jwt.verify.failures", "reason", "invalid")).isEqualTo(3);
+    }
+
+    @Test
+    void nonAsciiTokensGetTheirOwnCacheKey() {
+        JwtVerifier verifier = new JwtVerifier(jwtUtil, meterRegistry, 100);
+        String token = jwtUtil.generateToken("user1", "ACCESS");
+        verifier.verify(token);
+
+        // 같은 길이의 서로 다른 비ASCII 문자로 바꾼 토큰은 캐시를 타지 않고 거절됨
+        String first = token.substring(0, token.length() - 1) + "é";
+        String second = token.substring(0, token.length() - 1) + "ü";
+        assertThatThrownBy(() -> verifier.verify(first)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> verifier.verify(second)).isInstanceOf(JwtException.class);
+        assertThat(count("jwt.verify.cache.requests", "result", "hit")).isZero();
+    }
+
+    @Test
+    void tokenWithoutExpirationIsNotCached() {
+        JwtVerifier verifier = new JwtVerifier(jwtUtil, meterRegistry, 100);
+
+        assertThat(verifier.verify(sign("user1", null)).subject()).isEqualTo("user1");
+        assertThat(verifier.size()).isZero();
+    }
+
+    @Test
+    void keepsAtMostMaxSizeTokens() {
+        JwtVerifier verifier = new JwtVerifier(jwtUtil, meterRegistry, 2);
+
+        for (int i = 0; i < 5; i++) {
+            verifier.verify(jwtUtil.generateToken("user" + i, "ACCESS"));
+        }
+
+        assertThat(verifier.size()).isEqualTo(2);
+    }
+
+    private String sign(String subject, Date expiration) {
+        return Jwts.builder()
+                .setSubject(subject)
+                .setExpiration(expiration)
+                .setHeaderParam(JwsHeader.KEY_ID, keyRing.getActiveKid())
+                .signWith(keyRing.getActiveKey(), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private double count(String name, String tagKey, String tagValue) {
+        return meterRegistry.get(name).tag(tagKey, tagValue).counter().count();
+    }
+}
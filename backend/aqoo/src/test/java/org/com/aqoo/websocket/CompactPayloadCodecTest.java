@@ -0,0 +1,66 @@
+package org.com.aqoo.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Smile 코덱 - JSON 과 같은 값으로 되돌아오는지, 이미지 주소 단축, JSON 이 아닌 입력
+ */
+class CompactPayloadCodecTest {
+
+    private static final String IMAGE_BASE_URL = "https://img.example.com";
+
+    private final CompactPayloadCodec codec = new CompactPayloadCodec(IMAGE_BASE_URL);
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+    private final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+
+    @Test
+    void roundTripKeepsEveryValue() throws IOException {
+        String json = "{\"message\":\"GAME_SYNC\",\"seq\":9007199254740993,\"ratio\":0.25,\"running\":true,"
+                + "\"winner\":null,\"players\":[{\"userName\":\"물고기\",\"score\":12,\"tags\":[]},"
+                + "{\"userName\":\"fish\",\"score\":-3,\"tags\":[\"a\",\"b\"]}],\"empty\":{}}";
+
+        JsonNode decoded = smileMapper.readTree(codec.encode(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(decoded).isEqualTo(jsonMapper.readTree(json));
+    }
+
+    @Test
+    void imageUrlsLoseTheServerPrefixOnly() throws IOException {
+        String json = "{\"mainFishImage\":\"" + IMAGE_BASE_URL + "/fish/1.png\",\"homepage\":\"" + IMAGE_BASE_URL
+                + "\",\"other\":\"https://elsewhere.example.com/fish/1.png\"}";
+
+        JsonNode decoded = smileMapper.readTree(codec.encode(json.getBytes(StandardCharsets.UTF_8)));
+
+        ObjectNode expected = (ObjectNode) jsonMapper.readTree(json);
+        expected.put("mainFishImage", "/fish/1.png");
+        assertThat(decoded).isEqualTo(expected);
+    }
+
+    @Test
+    void repeatedFieldNamesAndValuesAreSmallerThanJson() throws IOException {
+        StringBuilder json = new StringBuilder("{\"message\":\"USER_LIST\",\"users\":[");
+        for (int i = 0; i < 6; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"userName\":\"user").append(i)
+                    .append("\",\"nickname\":\"닉네임 없음\",\"ready\":false,\"isHost\":false,\"level\":1}");
+        }
+        byte[] payload = json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+
+        assertThat(codec.encode(payload).length).isLessThan(payload.length / 2);
+    }
+
+    @Test
+    void rejectsPayloadsThatAreNotJson() {
+        assertThatThrownBy(() -> codec.encode("hello {".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(IOException.class);
+    }
+}
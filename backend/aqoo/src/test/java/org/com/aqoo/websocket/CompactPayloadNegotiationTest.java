@@ -0,0 +1,134 @@
+package org.com.aqoo.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.sockjs.transport.SockJsSession;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 세션별 compact 협상 - 순수 WebSocket 세션만 Smile 을 받고, SockJS 와 헤더 없는 세션은 JSON
+ */
+class CompactPayloadNegotiationTest {
+
+    private static final String JSON = "{\"message\":\"SCORE_DELTA\",\"seq\":3,\"slots\":[0],\"scores\":[7]}";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SlowConsumerProtection protection = new SlowConsumerProtection(meterRegistry, 10_000, 1 << 20, 1, 1_000);
+    private final CompactPayloadNegotiation negotiation =
+            new CompactPayloadNegotiation(new CompactPayloadCodec(""), protection, meterRegistry);
+    private final MessageChannel channel = mock(MessageChannel.class);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // /ws-native 로 들어온 세션 둘과 /ws(SockJS) 세션 하나
+        connect(mock(WebSocketSession.class), "native-compact");
+        connect(mock(WebSocketSession.class), "native-json");
+        connect(mock(SockJsSession.class), "sockjs");
+        negotiation.inboundInterceptor().preSend(connectFrame("native-compact", true), channel);
+        negotiation.inboundInterceptor().preSend(connectFrame("native-json", false), channel);
+        negotiation.inboundInterceptor().preSend(connectFrame("sockjs", true), channel);
+    }
+
+    @AfterEach
+    void tearDown() {
+        protection.shutdown();
+    }
+
+    @Test
+    void onlyRawWebSocketSessionThatAskedForCompactIsNegotiated() {
+        assertThat(meterRegistry.get("websocket.compact.sessions").gauge().value()).isEqualTo(1);
+        assertThat(protection.supportsBinary("native-compact")).isTrue();
+        assertThat(protection.supportsBinary("sockjs")).isFalse();
+    }
+
+    @Test
+    void compactSessionReceivesSmileAndOthersReceiveTheSameJson() throws Exception {
+        Message<?> brokered = negotiation.brokerInterceptor().preSend(topicMessage("/topic/room/r1"), channel);
+
+        Message<?> compact = negotiation.outboundInterceptor().preSend(deliver(brokered, "native-compact"), channel);
+        assertThat(compact.getHeaders().get(MessageHeaders.CONTENT_TYPE)).isEqualTo(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        assertThat(new ObjectMapper(new SmileFactory()).readTree((byte[]) compact.getPayload()))
+                .isEqualTo(new ObjectMapper().readTree(JSON));
+
+        for (String sessionId : new String[]{"native-json", "sockjs"}) {
+            Message<?> json = negotiation.outboundInterceptor().preSend(deliver(brokered, sessionId), channel);
+            assertThat(new String((byte[]) json.getPayload(), StandardCharsets.UTF_8)).isEqualTo(JSON);
+            assertThat(json.getHeaders().get(MessageHeaders.CONTENT_TYPE)).isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+        }
+        assertThat(meterRegistry.get("websocket.compact.payload.bytes").tag("encoding", "json").counter().count())
+                .isEqualTo(JSON.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    void userQueueMessagesStayJson() {
+        Message<?> brokered = negotiation.brokerInterceptor().preSend(topicMessage("/queue/game-user1"), channel);
+
+        Message<?> delivered = negotiation.outboundInterceptor().preSend(deliver(brokered, "native-compact"), channel);
+
+        assertThat(new String((byte[]) delivered.getPayload(), StandardCharsets.UTF_8)).isEqualTo(JSON);
+    }
+
+    @Test
+    void disconnectedCompactSessionStopsTheConversion() {
+        negotiation.handleSessionDisconnect(new SessionDisconnectEvent(this,
+                MessageBuilder.withPayload(new byte[0]).build(), "native-compact", CloseStatus.NORMAL));
+
+        Message<byte[]> message = topicMessage("/topic/room/r1");
+        assertThat(negotiation.brokerInterceptor().preSend(message, channel)).isSameAs(message);
+        assertThat(meterRegistry.get("websocket.compact.sessions").gauge().value()).isZero();
+    }
+
+    private void connect(WebSocketSession socket, String sessionId) throws Exception {
+        when(socket.getId()).thenReturn(sessionId);
+        when(socket.isOpen()).thenReturn(true);
+        protection.decorate(new AbstractWebSocketHandler() {
+        }).afterConnectionEstablished(socket);
+    }
+
+    private static Message<byte[]> connectFrame(String sessionId, boolean compact) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId(sessionId);
+        if (compact) {
+            accessor.setNativeHeader(CompactPayloadNegotiation.PAYLOAD_HEADER, CompactPayloadNegotiation.COMPACT);
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    /** SimpMessagingTemplate.convertAndSend 가 brokerChannel 로 보내는 JSON 메시지 */
+    private static Message<byte[]> topicMessage(String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        return MessageBuilder.createMessage(JSON.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+
+    /** SimpleBroker 가 구독 세션마다 세션 id 를 붙여 clientOutboundChannel 로 보내는 메시지 */
+    private static Message<?> deliver(Message<?> brokered, String sessionId) {
+        return MessageBuilder.fromMessage(brokered)
+                .setHeader(SimpMessageHeaderAccessor.SESSION_ID_HEADER, sessionId)
+                .build();
+    }
+}
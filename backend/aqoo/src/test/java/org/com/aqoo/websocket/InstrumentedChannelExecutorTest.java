@@ -0,0 +1,97 @@
+package org.com.aqoo.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 채널 실행기 지표 - 대기 수, 큐 대기 시간, 핸들러 시간, 거절 수
+ */
+class InstrumentedChannelExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // 넘겨받은 작업을 직접 실행할 때까지 쌓아 두는 실행기
+    private final List<Runnable> submitted = new ArrayList<>();
+    private final InstrumentedChannelExecutor executor =
+            new InstrumentedChannelExecutor("inbound", submitted::add, meterRegistry);
+
+    @Test
+    void registersMetersTaggedWithTheChannel() {
+        assertThat(meterRegistry.get("websocket.channel.queued").tag("channel", "inbound").gauge().value()).isZero();
+        assertThat(meterRegistry.get("websocket.channel.queue.wait").tag("channel", "inbound").timer().count()).isZero();
+        assertThat(meterRegistry.get("websocket.channel.handle").tag("channel", "inbound").timer().count()).isZero();
+        assertThat(meterRegistry.get("websocket.channel.rejected").tag("channel", "inbound").counter().count()).isZero();
+    }
+
+    @Test
+    void queuedCountsTasksUntilTheyStartAndTimersRecordEachRun() throws Exception {
+        executor.execute(() -> { });
+        executor.execute(() -> {
+            throw new IllegalStateException("handler failed");
+        });
+        assertThat(queued()).isEqualTo(2);
+
+        Thread.sleep(20);
+        submitted.get(0).run();
+        assertThat(queued()).isEqualTo(1);
+        assertThatThrownBy(() -> submitted.get(1).run()).isInstanceOf(IllegalStateException.class);
+
+        assertThat(queued()).isZero();
+        assertThat(meterRegistry.get("websocket.channel.queue.wait").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("websocket.channel.queue.wait").timer().max(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(20);
+        // 핸들러가 예외를 던져도 실행 시간은 기록
+        assertThat(meterRegistry.get("websocket.channel.handle").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectedTaskIsCountedAndNotLeftQueued() {
+        InstrumentedChannelExecutor full = new InstrumentedChannelExecutor("outbound", task -> {
+            throw new RejectedExecutionException("full");
+        }, meterRegistry);
+
+        assertThatThrownBy(() -> full.execute(() -> { })).isInstanceOf(RejectedExecutionException.class);
+
+        assertThat(meterRegistry.get("websocket.channel.rejected").tag("channel", "outbound").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("websocket.channel.queued").tag("channel", "outbound").gauge().value()).isZero();
+    }
+
+    @Test
+    void wrappedTaskStillExposesItsMessage() {
+        Message<String> message = MessageBuilder.withPayload("press").build();
+        MessageHandler handler = m -> { };
+        executor.execute(new MessageHandlingRunnable() {
+            @Override
+            public Message<?> getMessage() {
+                return message;
+            }
+
+            @Override
+            public MessageHandler getMessageHandler() {
+                return handler;
+            }
+
+            @Override
+            public void run() {
+            }
+        });
+
+        MessageHandlingRunnable wrapped = (MessageHandlingRunnable) submitted.get(0);
+        assertThat(wrapped.getMessage()).isSameAs(message);
+        assertThat(wrapped.getMessageHandler()).isSameAs(handler);
+    }
+
+    private double queued() {
+        return meterRegistry.get("websocket.channel.queued").tag("channel", "inbound").gauge().value();
+    }
+}
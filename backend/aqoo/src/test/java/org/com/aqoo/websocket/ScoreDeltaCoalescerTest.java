@@ -0,0 +1,117 @@
+package org.com.aqoo.websocket;
+
+import org.com.aqoo.domain.game.dto.ScoreDeltaFrame;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompDecoder;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 느린 세션 버퍼의 SCORE_DELTA 병합 - 점수 병합, 헤더/content-length 보존, 합치지 않는 프레임
+ */
+class ScoreDeltaCoalescerTest {
+
+    @Test
+    void mergedDeltaKeepsTheLatestScorePerSlotAndTheSeqRange() {
+        ScoreDeltaCoalescer.Delta older = ScoreDeltaCoalescer.parse(frame("/topic/room/r1", "sub-1",
+                "{\"message\":\"SCORE_DELTA\",\"seq\":4,\"slots\":[0,2],\"scores\":[10,5]}"));
+        ScoreDeltaCoalescer.Delta newer = ScoreDeltaCoalescer.parse(frame("/topic/room/r1", "sub-1",
+                "{\"message\":\"SCORE_DELTA\",\"seq\":6,\"slots\":[2,1],\"scores\":[8,3]}"));
+
+        TextMessage encoded = ScoreDeltaCoalescer.encode(ScoreDeltaCoalescer.merge(older, newer));
+        Message<byte[]> merged = decode(encoded);
+        ScoreDeltaFrame frame = ScoreDeltaCoalescer.parse(encoded).frame();
+
+        assertThat(frame.getSeq()).isEqualTo(6);
+        assertThat(frame.getFromSeq()).isEqualTo(4);
+        assertThat(frame.getSlots()).containsExactly(0, 1, 2);
+        assertThat(frame.getScores()).containsExactly(10, 3, 8);
+        StompHeaderAccessor headers = StompHeaderAccessor.wrap(merged);
+        assertThat(headers.getCommand()).isEqualTo(StompCommand.MESSAGE);
+        assertThat(headers.getDestination()).isEqualTo("/topic/room/r1");
+        assertThat(headers.getSubscriptionId()).isEqualTo("sub-1");
+    }
+
+    @Test
+    void mergingAnAlreadyMergedFrameKeepsTheFirstSeq() {
+        ScoreDeltaFrame first = new ScoreDeltaFrame("SCORE_DELTA", 4, new int[]{0}, new int[]{1});
+        ScoreDeltaFrame second = new ScoreDeltaFrame("SCORE_DELTA", 5, new int[]{0}, new int[]{2});
+        ScoreDeltaFrame third = new ScoreDeltaFrame("SCORE_DELTA", 7, new int[]{1}, new int[]{9});
+
+        ScoreDeltaFrame merged = ScoreDeltaCoalescer.merge(ScoreDeltaCoalescer.merge(first, second), third);
+
+        assertThat(merged.getFromSeq()).isEqualTo(4);
+        assertThat(merged.getSeq()).isEqualTo(7);
+        assertThat(merged.getSlots()).containsExactly(0, 1);
+        assertThat(merged.getScores()).containsExactly(2, 9);
+    }
+
+    @Test
+    void contentLengthCountsBytesWithEscapedAndNonAsciiHeaders() {
+        // ':' 는 STOMP 헤더에서 \c 로 escape 되고, 한글은 UTF-8 로 여러 byte
+        String destination = "/topic/room/방:1";
+        ScoreDeltaCoalescer.Delta older = ScoreDeltaCoalescer.parse(frame(destination, "구독-1",
+                "{\"message\":\"SCORE_DELTA\",\"seq\":1,\"slots\":[0],\"scores\":[1]}"));
+        ScoreDeltaCoalescer.Delta newer = ScoreDeltaCoalescer.parse(frame(destination, "구독-1",
+                "{\"message\":\"SCORE_DELTA\",\"seq\":2,\"slots\":[0],\"scores\":[2]}"));
+        assertThat(older).isNotNull();
+        assertThat(older.destination()).isEqualTo(destination);
+
+        TextMessage encoded = ScoreDeltaCoalescer.encode(ScoreDeltaCoalescer.merge(older, newer));
+        Message<byte[]> merged = decode(encoded);
+
+        StompHeaderAccessor headers = StompHeaderAccessor.wrap(merged);
+        assertThat(headers.getDestination()).isEqualTo(destination);
+        assertThat(headers.getSubscriptionId()).isEqualTo("구독-1");
+        assertThat(Integer.parseInt(headers.getFirstNativeHeader("content-length"))).isEqualTo(merged.getPayload().length);
+        assertThat(new String(merged.getPayload(), StandardCharsets.UTF_8)).contains("\"fromSeq\":1");
+    }
+
+    @Test
+    void framesThatAreNotScoreDeltasAreLeftAlone() {
+        // 한글 채팅 본문, JSON 이 아닌 본문, 다른 JSON 게임 프레임
+        assertThat(ScoreDeltaCoalescer.parse(frame("/topic/room/r1", "sub-1",
+                "{\"message\":\"안녕 SCORE_DELTA\",\"sender\":\"a\"}"))).isNull();
+        assertThat(ScoreDeltaCoalescer.parse(frame("/topic/room/r1", "sub-1", "SCORE_DELTA"))).isNull();
+        assertThat(ScoreDeltaCoalescer.parse(frame("/topic/room/r1", "sub-1",
+                "{\"message\":\"GAME_SYNC\",\"seq\":3,\"players\":[]}"))).isNull();
+        // 잘못된 SCORE_DELTA (slots 와 scores 길이가 다름)
+        assertThat(ScoreDeltaCoalescer.parse(frame("/topic/room/r1", "sub-1",
+                "{\"message\":\"SCORE_DELTA\",\"seq\":3,\"slots\":[0,1],\"scores\":[1]}"))).isNull();
+        // MESSAGE 가 아닌 프레임, heartbeat, 바이너리 프레임
+        StompHeaderAccessor error = StompHeaderAccessor.create(StompCommand.ERROR);
+        error.setMessage("{\"message\":\"SCORE_DELTA\"}");
+        assertThat(ScoreDeltaCoalescer.parse(new TextMessage(new StompEncoder().encode(
+                MessageBuilder.createMessage(new byte[0], error.getMessageHeaders()))))).isNull();
+        assertThat(ScoreDeltaCoalescer.parse(new TextMessage("\n"))).isNull();
+        assertThat(ScoreDeltaCoalescer.parse(new BinaryMessage(new byte[]{1, 2, 3}))).isNull();
+    }
+
+    private static TextMessage frame(String destination, String subscriptionId, String body) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setDestination(destination);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setMessageId("m-" + body.hashCode());
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        byte[] payload = body.getBytes(StandardCharsets.UTF_8);
+        return new TextMessage(new StompEncoder().encode(MessageBuilder.createMessage(payload, accessor.getMessageHeaders())));
+    }
+
+    private static Message<byte[]> decode(TextMessage message) {
+        List<Message<byte[]>> frames = new StompDecoder().decode(ByteBuffer.wrap(message.asBytes()));
+        assertThat(frames).hasSize(1);
+        return frames.get(0);
+    }
+}
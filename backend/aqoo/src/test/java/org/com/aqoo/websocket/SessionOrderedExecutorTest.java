@@ -0,0 +1,194 @@
+package org.com.aqoo.websocket;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * ordered 채널 실행기 - lane 선택 기준, 세션 안의 순서, 방 단위 직렬화, 대기열 상한
+ */
+class SessionOrderedExecutorTest {
+
+    private static final SessionOrderedExecutor.LaneKey ROOM = SessionOrderedExecutor.LaneKey.ROOM;
+
+    @Test
+    void roomCommandsFromDifferentSessionsShareTheRoomKey() {
+        Message<byte[]> press = send("s1", "/app/game.press", "{\"pressCount\":1,\"roomId\":\"r1\",\"userName\":\"a\"}");
+        Message<byte[]> chat = send("s2", "/app/chat.sendMessage", "{\"roomId\":\"r1\",\"content\":{\"x\":[1,2]}}");
+
+        assertThat(ROOM.of(press)).isEqualTo("room:r1");
+        assertThat(ROOM.of(chat)).isEqualTo("room:r1");
+    }
+
+    @Test
+    void roomSubscriptionUsesTheRoomFromTheDestination() {
+        assertThat(ROOM.of(subscribe("s1", "/topic/room/r1"))).isEqualTo("room:r1");
+    }
+
+    @Test
+    void staysOnTheSessionLaneWhenNoRoomIsKnown() {
+        assertThat(ROOM.of(send("s1", "/app/game.press", "not json"))).isNull();
+        assertThat(ROOM.of(send("s1", "/app/game.press", "{\"roomId\":7}"))).isNull();
+        assertThat(ROOM.of(send("s1", "/app/fish.feed", "{\"roomId\":\"r1\"}"))).isNull();
+        assertThat(ROOM.of(frame(StompCommand.DISCONNECT, "s1"))).isNull();
+        assertThat(SessionOrderedExecutor.LaneKey.SESSION.of(send("s1", "/app/chat.sendMessage", "{\"roomId\":\"r1\"}"))).isNull();
+    }
+
+    @Test
+    void keepsEachSessionsFramesInOrderWhileMovingBetweenRoomLanes() throws Exception {
+        SessionOrderedExecutor executor = new SessionOrderedExecutor(4, 1_000, Thread::new, ROOM);
+        int sessions = 20;
+        Map<String, List<Integer>> seen = new ConcurrentHashMap<>();
+        Map<String, Integer> submitted = new HashMap<>();
+        try {
+            for (int round = 0; round < 5; round++) {
+                for (int i = 0; i < sessions; i++) {
+                    String sessionId = "s" + i;
+                    // CONNECT/DISCONNECT 는 방을 모르고, 나머지는 매번 다른 방으로 옮겨 다님
+                    List<Message<byte[]>> frames = List.of(
+                            frame(StompCommand.CONNECT, sessionId),
+                            subscribe(sessionId, "/topic/room/r" + (i + round) % 7),
+                            send(sessionId, "/app/game.press", "{\"roomId\":\"r" + (i + round + 3) % 7 + "\"}"),
+                            send(sessionId, "/app/fish.feed", "{}"),
+                            frame(StompCommand.DISCONNECT, sessionId));
+                    for (Message<byte[]> frame : frames) {
+                        int index = submitted.merge(sessionId, 1, Integer::sum);
+                        executor.execute(task(frame, () ->
+                                seen.computeIfAbsent(sessionId, id -> new CopyOnWriteArrayList<>()).add(index)));
+                    }
+                }
+            }
+
+            await().atMost(Duration.ofSeconds(5)).until(() ->
+                    seen.values().stream().mapToInt(List::size).sum() == sessions * 25);
+            for (int i = 0; i < sessions; i++) {
+                assertThat(seen.get("s" + i)).isEqualTo(IntStream.rangeClosed(1, 25).boxed().toList());
+            }
+            await().atMost(Duration.ofSeconds(1)).until(() -> executor.pendingSessions() == 0);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void framesOfOneRoomFromDifferentSessionsNeverRunAtTheSameTime() {
+        SessionOrderedExecutor executor = new SessionOrderedExecutor(4, 1_000, Thread::new, ROOM);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        AtomicInteger done = new AtomicInteger();
+        try {
+            for (int n = 0; n < 200; n++) {
+                Message<byte[]> chat = send("s" + n % 8, "/app/chat.sendMessage", "{\"roomId\":\"r1\"}");
+                executor.execute(task(chat, () -> {
+                    if (running.incrementAndGet() > 1) {
+                        overlaps.incrementAndGet();
+                    }
+                    for (int spin = 0; spin < 1_000; spin++) {
+                        Thread.onSpinWait();
+                    }
+                    running.decrementAndGet();
+                    done.incrementAndGet();
+                }));
+            }
+            await().atMost(Duration.ofSeconds(5)).until(() -> done.get() == 200);
+            assertThat(overlaps.get()).isZero();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void rejectsInsteadOfBlockingWhenASessionQueueIsFull() {
+        SessionOrderedExecutor executor = new SessionOrderedExecutor(2, 2, Thread::new, ROOM);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        try {
+            executor.execute(task(send("s1", "/app/fish.feed", "{}"), () -> {
+                started.countDown();
+                awaitQuietly(release);
+            }));
+            awaitQuietly(started);
+            executor.execute(task(send("s1", "/app/fish.feed", "{}"), () -> { }));
+            executor.execute(task(send("s1", "/app/fish.feed", "{}"), () -> { }));
+
+            // 세 번째 대기 메시지는 호출 스레드를 붙잡지 않고 바로 거절
+            long before = System.nanoTime();
+            assertThatThrownBy(() -> executor.execute(task(send("s1", "/app/fish.feed", "{}"), () -> { })))
+                    .isInstanceOf(RejectedExecutionException.class);
+            assertThat(Duration.ofNanos(System.nanoTime() - before)).isLessThan(Duration.ofSeconds(1));
+            // 다른 세션은 계속 받음
+            executor.execute(task(send("s2", "/app/fish.feed", "{}"), () -> { }));
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private static Message<byte[]> frame(StompCommand command, String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static Message<byte[]> subscribe(String sessionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static MessageHandlingRunnable task(Message<?> message, Runnable body) {
+        return new MessageHandlingRunnable() {
+            @Override
+            public Message<?> getMessage() {
+                return message;
+            }
+
+            @Override
+            public MessageHandler getMessageHandler() {
+                return m -> body.run();
+            }
+
+            @Override
+            public void run() {
+                body.run();
+            }
+        };
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Message<byte[]> send(String sessionId, String destination, String body) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setSessionId(sessionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(body.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,166 @@
+package org.com.aqoo.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.com.aqoo.domain.game.dto.ScoreDeltaFrame;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 느린 클라이언트 보호 - 멈춘 전송과 넘친 버퍼로 세션을 끊는지, 밀린 SCORE_DELTA 를 합치는지 확인
+ */
+class SlowConsumerProtectionTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // 전송 시간 200ms, 버퍼 2KB
+    private final SlowConsumerProtection protection =
+            new SlowConsumerProtection(meterRegistry, 200, 2048, 1, 50);
+    private final CountDownLatch stalled = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        stalled.countDown();
+        protection.shutdown();
+    }
+
+    @Test
+    void closesSessionStalledOnItsLastFrame() throws Exception {
+        // 소켓 쓰기가 끝나지 않는 클라이언트
+        WebSocketSession socket = stalledSocket();
+
+        // 이후로는 프레임이 오지 않으므로 sendMessage 에서의 확인은 다시 일어나지 않음
+        decorate(socket).sendMessage(new TextMessage("last frame"));
+
+        await().atMost(Duration.ofSeconds(3)).untilAsserted(() ->
+                verify(socket).close(CloseStatus.SESSION_NOT_RELIABLE));
+        assertThat(disconnects("time")).isEqualTo(1);
+    }
+
+    @Test
+    void closesSessionWhoseBufferOverflowsBehindSpringsDecoratorAndDropsLaterFrames() throws Exception {
+        WebSocketSession socket = stalledSocket();
+        // SubProtocolWebSocketHandler 와 같이 Spring 의 decorator 가 바깥에서 한 번 더 감쌈 (Spring 쪽 제한은 넉넉하게)
+        WebSocketSession session = new ConcurrentWebSocketSessionDecorator(decorate(socket), 60_000, 1 << 20);
+
+        String chat = "x".repeat(300);
+        // 첫 프레임의 소켓 쓰기가 멈춘 뒤에 나머지가 버퍼에 쌓임
+        session.sendMessage(new TextMessage(chat));
+        verify(socket, timeout(3_000)).sendMessage(any());
+        for (int i = 0; i < 20; i++) {
+            session.sendMessage(new TextMessage(chat));
+        }
+
+        verify(socket, timeout(3_000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(disconnects("buffer")).isEqualTo(1);
+        // 끊긴 뒤에는 버퍼에 쌓지도, 소켓에 쓰지도 않음
+        session.sendMessage(new TextMessage(chat));
+        verify(socket, times(1)).sendMessage(any());
+        assertThat(protection.slowestSessions(1)).allSatisfy(slow -> assertThat(slow.getBufferedFrames()).isZero());
+    }
+
+    @Test
+    void backloggedScoreDeltasAreSentAsOneMergedFrame() throws Exception {
+        WebSocketSession socket = stalledSocket();
+        List<TextMessage> written = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            written.add(invocation.getArgument(0));
+            if (written.size() == 1) {
+                stalled.await();
+            }
+            return null;
+        }).when(socket).sendMessage(any());
+        // 시간 제한에 걸리지 않도록 넉넉한 설정
+        SlowConsumerProtection relaxed = new SlowConsumerProtection(new SimpleMeterRegistry(), 60_000, 1 << 20, 1, 50);
+        try {
+            WebSocketSession session = decorate(relaxed, socket);
+            session.sendMessage(delta(1, 0, 1));
+            await().atMost(Duration.ofSeconds(2)).until(() -> written.size() == 1);
+            // 첫 프레임이 나가는 동안 밀린 delta 셋은 하나로, 채팅이 끼면 그 뒤부터 다시 합침
+            session.sendMessage(delta(2, 0, 2));
+            session.sendMessage(delta(3, 1, 7));
+            session.sendMessage(delta(4, 0, 4));
+            session.sendMessage(new TextMessage("chat"));
+            session.sendMessage(delta(5, 1, 8));
+            session.sendMessage(delta(6, 1, 9));
+            stalled.countDown();
+
+            await().atMost(Duration.ofSeconds(2)).until(() -> written.size() == 4);
+            ScoreDeltaFrame merged = ScoreDeltaCoalescer.parse(written.get(1)).frame();
+            assertThat(merged.getFromSeq()).isEqualTo(2);
+            assertThat(merged.getSeq()).isEqualTo(4);
+            assertThat(merged.getSlots()).containsExactly(0, 1);
+            assertThat(merged.getScores()).containsExactly(4, 7);
+            assertThat(written.get(2).getPayload()).isEqualTo("chat");
+            ScoreDeltaFrame afterChat = ScoreDeltaCoalescer.parse(written.get(3)).frame();
+            assertThat(afterChat.getFromSeq()).isEqualTo(5);
+            assertThat(afterChat.getSeq()).isEqualTo(6);
+        } finally {
+            relaxed.shutdown();
+        }
+    }
+
+    private WebSocketSession stalledSocket() throws Exception {
+        WebSocketSession socket = mock(WebSocketSession.class);
+        when(socket.getId()).thenReturn("s1");
+        when(socket.isOpen()).thenReturn(true);
+        doAnswer(invocation -> {
+            stalled.await();
+            return null;
+        }).when(socket).sendMessage(any());
+        return socket;
+    }
+
+    private WebSocketSession decorate(WebSocketSession socket) throws Exception {
+        return decorate(protection, socket);
+    }
+
+    private static WebSocketSession decorate(SlowConsumerProtection protection, WebSocketSession socket) throws Exception {
+        AtomicReference<WebSocketSession> decorated = new AtomicReference<>();
+        protection.decorate(new AbstractWebSocketHandler() {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) {
+                decorated.set(session);
+            }
+        }).afterConnectionEstablished(socket);
+        return decorated.get();
+    }
+
+    private double disconnects(String reason) {
+        return meterRegistry.get("websocket.session.slow.disconnects").tag("reason", reason).counter().count();
+    }
+
+    private static TextMessage delta(long seq, int slot, int score) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setDestination("/topic/room/r1");
+        accessor.setSubscriptionId("sub-1");
+        accessor.setMessageId("m-" + seq);
+        String body = "{\"message\":\"SCORE_DELTA\",\"seq\":" + seq + ",\"slots\":[" + slot + "],\"scores\":[" + score + "]}";
+        return new TextMessage(new StompEncoder().encode(
+                MessageBuilder.createMessage(body.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders())));
+    }
+}
@@ -0,0 +1,54 @@
+package org.com.aqoo.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 채널 실행 방식 설정 - 지원하는 모드와 platform 풀의 대기열 상한
+ */
+class StompChannelExecutorsTest {
+
+    @Test
+    void onlyPlatformAndOrderedModesAreAccepted() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new StompChannelExecutors(registry, "ordered", 2, 2, 100, 10).shutdown();
+
+        assertThatThrownBy(() -> new StompChannelExecutors(new SimpleMeterRegistry(), "virtual", 2, 2, 100, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void fullPlatformPoolRejectsInsteadOfBlockingTheCaller() throws InterruptedException {
+        ThreadPoolExecutor pool = StompChannelExecutors.boundedPool(1, 1, Thread::new);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            pool.execute(() -> awaitQuietly(release));
+            pool.execute(() -> { });
+
+            long before = System.nanoTime();
+            assertThatThrownBy(() -> pool.execute(() -> { })).isInstanceOf(RejectedExecutionException.class);
+            assertThat(Duration.ofNanos(System.nanoTime() - before)).isLessThan(Duration.ofSeconds(1));
+        } finally {
+            release.countDown();
+            pool.shutdown();
+            pool.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package org.com.aqoo.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * STOMP 지표 - 세션/구독 gauge, 방향별 메시지 수, @MessageMapping 핸들러 시간
+ */
+class StompMessagingMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StompMessagingMetrics metrics = new StompMessagingMetrics(meterRegistry,
+            List.of("/app/**", "/topic/room/*", "/topic/*", "/queue/**", "/user/**"));
+    private final MessageChannel channel = mock(MessageChannel.class);
+
+    @Test
+    void sessionsAndSubscriptionsFollowConnectSubscribeAndDisconnect() {
+        metrics.handleSessionConnected(new SessionConnectedEvent(this, message(SimpMessageType.CONNECT_ACK, "s1", null, null)));
+        metrics.handleSessionConnected(new SessionConnectedEvent(this, message(SimpMessageType.CONNECT_ACK, "s2", null, null)));
+        ExecutorChannelInterceptor inbound = (ExecutorChannelInterceptor) metrics.inboundInterceptor();
+        inbound.preSend(message(SimpMessageType.SUBSCRIBE, "s1", "sub-0", "/topic/room/r1"), channel);
+        inbound.preSend(message(SimpMessageType.SUBSCRIBE, "s1", "sub-1", "/topic/lobby"), channel);
+        inbound.preSend(message(SimpMessageType.SUBSCRIBE, "s2", "sub-0", "/topic/room/r2"), channel);
+
+        assertThat(gauge("websocket.sessions")).isEqualTo(2);
+        // 방 id 가 달라도 같은 패턴 태그로 묶임
+        assertThat(subscriptions("/topic/room/*")).isEqualTo(2);
+        assertThat(subscriptions("/topic/*")).isEqualTo(1);
+
+        inbound.preSend(message(SimpMessageType.UNSUBSCRIBE, "s1", "sub-1", null), channel);
+        assertThat(subscriptions("/topic/*")).isZero();
+
+        // 끊긴 세션의 남은 구독도 정리되고, 같은 세션의 두 번째 disconnect 는 무시
+        SessionDisconnectEvent disconnect = new SessionDisconnectEvent(this,
+                message(SimpMessageType.DISCONNECT, "s1", null, null), "s1", CloseStatus.NORMAL);
+        metrics.handleSessionDisconnect(disconnect);
+        metrics.handleSessionDisconnect(disconnect);
+        assertThat(subscriptions("/topic/room/*")).isEqualTo(1);
+        assertThat(gauge("websocket.sessions")).isEqualTo(1);
+    }
+
+    @Test
+    void messagesAreCountedPerDirectionAndDestinationPattern() {
+        metrics.inboundInterceptor().preSend(message(SimpMessageType.MESSAGE, "s1", null, "/app/game.press"), channel);
+        metrics.brokerInterceptor().preSend(message(SimpMessageType.MESSAGE, null, null, "/topic/room/r1"), channel);
+        metrics.outboundInterceptor().preSend(message(SimpMessageType.MESSAGE, "s1", "sub-0", "/topic/room/r1"), channel);
+        metrics.outboundInterceptor().preSend(message(SimpMessageType.MESSAGE, "s2", "sub-0", "/topic/room/r2"), channel);
+        metrics.outboundInterceptor().preSend(message(SimpMessageType.MESSAGE, "s2", "sub-1", "/somewhere/else"), channel);
+        // MESSAGE 가 아닌 프레임은 세지 않음
+        metrics.outboundInterceptor().preSend(message(SimpMessageType.HEARTBEAT, "s1", null, null), channel);
+
+        assertThat(messages("inbound", "/app/**")).isEqualTo(1);
+        assertThat(messages("broker", "/topic/room/*")).isEqualTo(1);
+        assertThat(messages("outbound", "/topic/room/*")).isEqualTo(2);
+        assertThat(messages("outbound", DestinationPatterns.OTHER)).isEqualTo(1);
+        assertThat(meterRegistry.find("websocket.messages").counters()).hasSize(4);
+    }
+
+    @Test
+    void handlerTimerRecordsOnlyApplicationMessages() {
+        SimpAnnotationMethodMessageHandler handler = mock(SimpAnnotationMethodMessageHandler.class);
+        when(handler.getDestinationPrefixes()).thenReturn(List.of("/app"));
+        ExecutorChannelInterceptor inbound = (ExecutorChannelInterceptor) metrics.inboundInterceptor();
+
+        Message<byte[]> press = message(SimpMessageType.MESSAGE, "s1", null, "/app/game.press");
+        inbound.beforeHandle(press, channel, handler);
+        inbound.afterMessageHandled(press, channel, handler, null);
+        // SUBSCRIBE 는 @MessageMapping 이 처리하지 않으므로 재지 않음
+        Message<byte[]> subscribe = message(SimpMessageType.SUBSCRIBE, "s1", "sub-0", "/app/game.press");
+        inbound.beforeHandle(subscribe, channel, handler);
+        inbound.afterMessageHandled(subscribe, channel, handler, null);
+
+        assertThat(meterRegistry.get("websocket.handler").tag("destination", "/app/**").timer().count()).isEqualTo(1);
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private double subscriptions(String pattern) {
+        return meterRegistry.get("websocket.subscriptions").tag("destination", pattern).gauge().value();
+    }
+
+    private double messages(String direction, String pattern) {
+        return meterRegistry.get("websocket.messages").tag("direction", direction).tag("destination", pattern).counter().count();
+    }
+
+    private static Message<byte[]> message(SimpMessageType type, String sessionId, String subscriptionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -1,6 +1,8 @@
 "use client";
 
+import { secondsUntil } from "@/lib/gameFrames";
 import { getStompClient } from "@/lib/stompclient";
+import { useGameFrames } from "@/lib/useGameFrames";
 import axiosInstance from "@/services/axiosInstance";
 import { User } from "@/store/authAtom";
 import { useCallback, useEffect, useRef, useState } from "react";
@@ -25,11 +27,18 @@ interface Player {
 }
 
 interface RoomResponse {
-  roomId: string;
-  players: Player[];
+  roomId?: string;
+  // GAME_STARTED, GAME_SYNC, GAME_ENDED 에만 있음 (SCORE_DELTA 는 slots/scores 만)
+  players?: Player[];
   message: string;
   winner?: string;
   finishOrder?: string[];
+  seq?: number;
+  fromSeq?: number;
+  slots?: number[];
+  scores?: number[];
+  endsAt?: number;
+  serverTime?: number;
 }
 
 interface ExpResponse {
@@ -74,10 +83,19 @@ export default function Game({
   // 4) 게임 진행 상태
   const [countdown, setCountdown] = useState(3);
   const [hasCountdownFinished, setHasCountdownFinished] = useState(false);
-  const [players, setPlayers] = useState<Player[]>(initialPlayers);
   const [gameEnded, setGameEnded] = useState(false);
   const [winner, setWinner] = useState<string | null>(null);
   const [finishOrder, setFinishOrder] = useState<string[]>([]);
+  // 서버 프레임 반영 (seq 확인과 GAME_SYNC 요청은 훅에서 처리)
+  const { players, deadlineRef } = useGameFrames<Player, RoomResponse>(roomId, initialPlayers, (data) => {
+    if (data.message === "GAME_ENDED") {
+      setGameEnded(true);
+      setWinner(data.winner || null);
+      if (data.finishOrder) {
+        setFinishOrder(data.finishOrder);
+      }
+    }
+  });
 
   // <-- finishOrder snapshot 추가 (요구사항 수정)
   // finishOrder 스냅샷 시 userName이 아닌 매칭되는 nickname을 저장합니다.
@@ -210,25 +228,6 @@ export default function Game({
     }
   }, [hasCountdownFinished, handleKeyPress, handleTap]);
 
-  // STOMP 구독
-  useEffect(() => {
-    const client = getStompClient();
-    if (client) {
-      const sub = client.subscribe(`/topic/room/${roomId}`, (message) => {
-        const data: RoomResponse = JSON.parse(message.body);
-        setPlayers(data.players ?? []);
-        if (data.message === "GAME_ENDED") {
-          setGameEnded(true);
-          setWinner(data.winner || null);
-          if (data.finishOrder) {
-            setFinishOrder(data.finishOrder);
-          }
-        }
-      });
-      return () => sub.unsubscribe();
-    }
-  }, [roomId]);
-
   // wind effect 처리
   useEffect(() => {
     players.forEach((player) => {
@@ -250,12 +249,16 @@ export default function Game({
     previousPlayersRef.current = players;
   }, [players, userName]);
 
-  // 게임 타이머
+  // 게임 타이머 (서버 종료 시각 기준)
   useEffect(() => {
     if (!hasStarted || gameEnded) return;
-    const timer = setInterval(() => {
-      setGameTime((prev) => (prev > 0 ? prev - 1 : 0));
-    }, 1000);
+    // 서버 종료 시각을 아직 못 받았으면 지금부터 30초로 계산 (받으면 그 시각으로 교체됨)
+    if (deadlineRef.current === null) {
+      deadlineRef.current = Date.now() + 30 * 1000;
+    }
+    const tick = () => setGameTime(secondsUntil(deadlineRef.current ?? Date.now()));
+    tick();
+    const timer = setInterval(tick, 250);
     return () => clearInterval(timer);
   }, [hasStarted, gameEnded]);
 
@@ -1,6 +1,8 @@
 'use client';
 
+import { secondsUntil } from '@/lib/gameFrames';
 import { getStompClient } from '@/lib/stompclient';
+import { useGameFrames } from '@/lib/useGameFrames';
 import axiosInstance from '@/services/axiosInstance';
 import { User } from '@/store/authAtom';
 import { useCallback, useEffect, useRef, useState } from 'react';
@@ -20,11 +22,18 @@ interface Player {
 }
 
 interface RoomResponse {
-  roomId: string;
-  players: Player[];
+  roomId?: string;
+  // GAME_STARTED, GAME_SYNC, GAME_ENDED 에만 있음 (SCORE_DELTA 는 slots/scores 만)
+  players?: Player[];
   message: string;
   winner?: string;
   finishOrder?: string[];
+  seq?: number;
+  fromSeq?: number;
+  slots?: number[];
+  scores?: number[];
+  endsAt?: number;
+  serverTime?: number;
 }
 
 interface ExpResponse {
@@ -73,10 +82,19 @@ export default function GameA({
   const [countdown, setCountdown] = useState(3);
   const [hasCountdownFinished, setHasCountdownFinished] = useState(false);
 
-  const [players, setPlayers] = useState<Player[]>(initialPlayers);
   const [gameEnded, setGameEnded] = useState(false);
   const [winner, setWinner] = useState<string | null>(null);
   const [finishOrder, setFinishOrder] = useState<string[]>([]);
+  // 서버 프레임 반영 (seq 확인과 GAME_SYNC 요청은 훅에서 처리)
+  const { players, deadlineRef } = useGameFrames<Player, RoomResponse>(roomId, initialPlayers, (data) => {
+    if (data.message === 'GAME_ENDED') {
+      setGameEnded(true);
+      setWinner(data.winner || null); // 서버 우승자
+      if (data.finishOrder) {
+        setFinishOrder(data.finishOrder);
+      }
+    }
+  });
 
   const [isTapping, setIsTapping] = useState(false);
   const [windEffects, setWindEffects] = useState<Record<string, boolean>>({});
@@ -174,25 +192,6 @@ export default function GameA({
     }
   }, [hasCountdownFinished, handleKeyPress, handleTap]);
 
-  // (G) STOMP 구독
-  useEffect(() => {
-    const client = getStompClient();
-    if (client) {
-      const sub = client.subscribe(`/topic/room/${roomId}`, (message) => {
-        const data: RoomResponse = JSON.parse(message.body);
-        setPlayers(data.players ?? []);
-        if (data.message === 'GAME_ENDED') {
-          setGameEnded(true);
-          setWinner(data.winner || null); // 서버 우승자
-          if (data.finishOrder) {
-            setFinishOrder(data.finishOrder);
-          }
-        }
-      });
-      return () => sub.unsubscribe();
-    }
-  }, [roomId]);
-
   // (H) wind effect
   useEffect(() => {
     players.forEach((player) => {
@@ -214,12 +213,16 @@ export default function GameA({
     previousPlayersRef.current = players;
   }, [players, userName]);
 
-  // (I) 1초마다 gameTime--
+  // (I) 서버 종료 시각까지 남은 시간으로 gameTime 갱신
   useEffect(() => {
     if (!hasStarted || gameEnded) return;
-    const timer = setInterval(() => {
-      setGameTime((prev) => (prev > 0 ? prev - 1 : 0));
-    }, 1000);
+    // 서버 종료 시각을 아직 못 받았으면 지금부터 30초로 계산 (받으면 그 시각으로 교체됨)
+    if (deadlineRef.current === null) {
+      deadlineRef.current = Date.now() + 30 * 1000;
+    }
+    const tick = () => setGameTime(secondsUntil(deadlineRef.current ?? Date.now()));
+    tick();
+    const timer = setInterval(tick, 250);
     return () => clearInterval(timer);
   }, [hasStarted, gameEnded]);
 
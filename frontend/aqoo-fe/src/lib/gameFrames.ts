@@ -0,0 +1,93 @@
+// /topic/room/{roomId} 와 /user/queue/game 으로 오는 게임 프레임 처리
+// - GAME_STARTED, GAME_ENDED 는 방 전체로, GAME_SYNC 는 요청한 세션에만 옴 (셋 다 players 전체를 담고 있음)
+// - SCORE_DELTA 는 바뀐 참가자(slot = players 인덱스)의 점수만 담고 있음
+
+export interface ScoreDeltaFrame {
+  message: 'SCORE_DELTA';
+  seq: number;
+  // 서버에서 여러 프레임이 하나로 합쳐진 경우 합쳐진 첫 프레임의 seq
+  fromSeq?: number;
+  slots: number[];
+  scores: number[];
+}
+
+export interface ScoredPlayer {
+  totalPressCount: number;
+}
+
+// /topic/room 으로 오는 프레임 (필드는 message 에 따라 다름)
+export interface RoomFrame<P> {
+  roomId?: string;
+  message: string;
+  players?: P[];
+  seq?: number;
+  fromSeq?: number;
+  slots?: number[];
+  scores?: number[];
+  // GAME_STARTED, GAME_SYNC 에만 있음 (서버 시계 기준 epoch ms)
+  endsAt?: number;
+  serverTime?: number;
+}
+
+export interface AppliedFrame<P> {
+  players: P[];
+  seq: number | null;
+  // 중간 프레임이 빠졌으므로 GAME_SYNC 를 요청해야 함
+  needsSync: boolean;
+}
+
+/**
+ * 프레임 하나를 현재 players 에 반영
+ * - players 가 있는 프레임은 목록과 seq 를 그대로 교체
+ * - SCORE_DELTA 는 slot 별 점수만 바꾸고, 이미 반영한 seq 이하면 무시
+ * - players 도 SCORE_DELTA 도 아닌 프레임(USER_LIST 등)은 그대로 둠
+ */
+export function applyRoomFrame<P extends ScoredPlayer>(
+  players: P[],
+  lastSeq: number | null,
+  data: RoomFrame<P>
+): AppliedFrame<P> {
+  if (Array.isArray(data.players)) {
+    return {
+      players: data.players,
+      seq: typeof data.seq === 'number' ? data.seq : lastSeq,
+      needsSync: false,
+    };
+  }
+  if (data.message !== 'SCORE_DELTA' || typeof data.seq !== 'number') {
+    return { players, seq: lastSeq, needsSync: false };
+  }
+
+  const frame = data as ScoreDeltaFrame;
+  if (lastSeq !== null && frame.seq <= lastSeq) {
+    return { players, seq: lastSeq, needsSync: false };
+  }
+  const firstSeq = frame.fromSeq ?? frame.seq;
+  const needsSync = lastSeq === null || firstSeq !== lastSeq + 1;
+
+  // 점수는 누적값이므로 빠진 프레임이 있어도 받은 slot 은 최신 값으로 반영
+  const next = players.slice();
+  frame.slots.forEach((slot, i) => {
+    if (slot >= 0 && slot < next.length) {
+      next[slot] = { ...next[slot], totalPressCount: frame.scores[i] };
+    }
+  });
+  return { players: next, seq: frame.seq, needsSync };
+}
+
+/**
+ * 서버가 알려준 게임 종료 시각을 이 브라우저 시계 기준으로 변환
+ * - 두 시계가 어긋나 있을 수 있으므로 남은 시간(endsAt - serverTime)만 사용
+ * - 종료 시각이 없는 프레임이면 null
+ */
+export function localDeadline(data: RoomFrame<unknown>): number | null {
+  if (typeof data.endsAt !== 'number' || typeof data.serverTime !== 'number') {
+    return null;
+  }
+  return Date.now() + Math.max(0, data.endsAt - data.serverTime);
+}
+
+/** 종료 시각까지 남은 초 (올림, 0 미만이면 0) */
+export function secondsUntil(deadline: number): number {
+  return Math.max(0, Math.ceil((deadline - Date.now()) / 1000));
+}
@@ -0,0 +1,85 @@
+import { useEffect, useRef, useState } from 'react';
+
+import { applyRoomFrame, localDeadline, RoomFrame, ScoredPlayer } from '@/lib/gameFrames';
+import { getStompClient } from '@/lib/stompclient';
+
+/**
+ * 게임 화면 공통 구독 훅
+ * - /topic/room/{roomId} 의 GAME_STARTED, SCORE_DELTA, GAME_ENDED 와
+ *   /user/queue/game 으로 이 세션에만 오는 GAME_SYNC 를 같은 방식으로 반영
+ * - SCORE_DELTA 의 seq 가 이어지지 않으면 /app/game.sync 로 GAME_SYNC 를 요청 (응답이 없으면 1초 뒤 다시 요청 가능)
+ * - onFrame 은 반영이 끝난 뒤 모든 프레임에 대해 호출 (GAME_ENDED 처리 등)
+ *
+ * @returns players: 최신 점수가 반영된 참가자 목록, deadlineRef: 서버 게임 시계가 끝나는 시각 (이 브라우저 시계 기준)
+ */
+export function useGameFrames<P extends ScoredPlayer, F extends RoomFrame<P>>(
+  roomId: string,
+  initialPlayers: P[],
+  onFrame: (data: F) => void
+) {
+  const [players, setPlayers] = useState<P[]>(initialPlayers);
+
+  // 서버 프레임 적용용: 최신 players, 마지막으로 반영한 SCORE_DELTA seq, GAME_SYNC 요청 중 여부
+  const playersRef = useRef<P[]>(initialPlayers);
+  const lastSeqRef = useRef<number | null>(null);
+  const syncRequestedRef = useRef(false);
+  // 서버 게임 시계가 끝나는 시각 (GAME_STARTED/GAME_SYNC 로 받음)
+  const deadlineRef = useRef<number | null>(null);
+
+  // 렌더마다 바뀌는 콜백 때문에 다시 구독하지 않도록 최신 값만 들고 있음
+  const onFrameRef = useRef(onFrame);
+  onFrameRef.current = onFrame;
+
+  useEffect(() => {
+    const client = getStompClient();
+    if (!client) return;
+
+    const requestSync = () => {
+      if (syncRequestedRef.current || !client.connected) return;
+      syncRequestedRef.current = true;
+      client.publish({
+        destination: '/app/game.sync',
+        body: JSON.stringify({ roomId }),
+      });
+      setTimeout(() => {
+        syncRequestedRef.current = false;
+      }, 1000);
+    };
+
+    const handleFrame = (data: F) => {
+      const applied = applyRoomFrame(playersRef.current, lastSeqRef.current, data);
+      playersRef.current = applied.players;
+      lastSeqRef.current = applied.seq;
+      setPlayers(applied.players);
+      if (data.players) {
+        syncRequestedRef.current = false;
+      }
+      const deadline = localDeadline(data);
+      if (deadline !== null) {
+        deadlineRef.current = deadline;
+      }
+      if (applied.needsSync) {
+        requestSync();
+      }
+      onFrameRef.current(data);
+    };
+
+    // GAME_SYNC 를 받을 개인 큐를 먼저 구독해야 요청에 대한 응답을 놓치지 않음
+    const syncSub = client.subscribe('/user/queue/game', (message) => {
+      const data: F = JSON.parse(message.body);
+      // 다른 방의 게임 응답이면 무시
+      if (data.roomId === roomId) {
+        handleFrame(data);
+      }
+    });
+    const roomSub = client.subscribe(`/topic/room/${roomId}`, (message) => handleFrame(JSON.parse(message.body)));
+    // GAME_STARTED 를 받기 전에 마운트됐을 수 있으므로 seq 기준점을 받아 둠
+    requestSync();
+    return () => {
+      roomSub.unsubscribe();
+      syncSub.unsubscribe();
+    };
+  }, [roomId]);
+
+  return { players, deadlineRef };
+}